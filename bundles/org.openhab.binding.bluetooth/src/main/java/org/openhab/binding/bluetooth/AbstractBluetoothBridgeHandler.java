@@ -24,6 +24,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.bluetooth.BluetoothDevice.ConnectionState;
+import org.openhab.binding.bluetooth.util.AdvertisementFilter;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -59,6 +60,8 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     private BaseBluetoothBridgeHandlerConfiguration config = new BaseBluetoothBridgeHandlerConfiguration();
 
+    private final AdvertisementFilter.Statistics advertisementStatistics = new AdvertisementFilter.Statistics();
+
     private @Nullable ScheduledFuture<?> inactiveRemovalJob;
 
     /**
@@ -88,6 +91,9 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     @Override
     public void initialize() {
         config = getConfigAs(BaseBluetoothBridgeHandlerConfiguration.class);
+        synchronized (devices) {
+            devices.values().forEach(this::setAdvertisementFilter);
+        }
 
         int intervalSecs = config.inactiveDeviceCleanupInterval;
         inactiveRemovalJob = scheduler.scheduleWithFixedDelay(this::removeInactiveDevices, intervalSecs, intervalSecs,
@@ -114,6 +120,9 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     }
 
     private void removeInactiveDevices() {
+        logger.debug("Adapter {} received {} advertisements, forwarded {} advertisements to the devices", getUID(),
+                advertisementStatistics.getReceived(), advertisementStatistics.getForwarded());
+
         // clean up orphaned entries
         synchronized (devices) {
             for (BD device : devices.values()) {
@@ -187,10 +196,27 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     @Override
     public BD getDevice(BluetoothAddress address) {
         synchronized (devices) {
-            return Objects.requireNonNull(devices.computeIfAbsent(address, this::createDevice));
+            return Objects.requireNonNull(devices.computeIfAbsent(address, addr -> {
+                BD device = createDevice(addr);
+                setAdvertisementFilter(device);
+                return device;
+            }));
         }
     }
 
+    private void setAdvertisementFilter(BD device) {
+        device.setAdvertisementFilter(new AdvertisementFilter(config.advertisementInterval, advertisementStatistics));
+    }
+
+    /**
+     * Returns the counters of the advertisements received by this adapter and forwarded to the devices.
+     *
+     * @return the advertisement counters
+     */
+    public AdvertisementFilter.Statistics getAdvertisementStatistics() {
+        return advertisementStatistics;
+    }
+
     protected abstract BD createDevice(BluetoothAddress address);
 
     @Override
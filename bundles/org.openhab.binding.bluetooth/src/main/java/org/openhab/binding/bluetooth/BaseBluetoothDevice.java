@@ -26,6 +26,8 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.openhab.binding.bluetooth.util.AdvertisementFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,6 +92,11 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
 
     private volatile boolean servicesDiscovered = false;
 
+    /**
+     * Filter for the scan records, set by the adapter
+     */
+    private volatile @Nullable AdvertisementFilter advertisementFilter;
+
     /**
      * Construct a Bluetooth device taking the Bluetooth address
      *
@@ -109,6 +116,15 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
         return lastSeenTime;
     }
 
+    /**
+     * Sets the filter which decides which scan records are passed to the listeners.
+     *
+     * @param advertisementFilter the filter, or null to pass all scan records
+     */
+    public void setAdvertisementFilter(@Nullable AdvertisementFilter advertisementFilter) {
+        this.advertisementFilter = advertisementFilter;
+    }
+
     /**
      * Updates the last activity timestamp for this device.
      * Should be called whenever activity occurs on this device.
@@ -319,6 +335,11 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
             default:
                 break;
         }
+        AdvertisementFilter filter = advertisementFilter;
+        if (event == BluetoothEventType.SCAN_RECORD && filter != null
+                && args[0] instanceof BluetoothScanNotification scanNotification && !filter.accept(scanNotification)) {
+            return;
+        }
         switch (event) {
             case SERVICES_DISCOVERED:
                 deviceLock.lock();
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.util;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * The {@link AdvertisementFilter} filters the scan records of one device before they are passed to the device
+ * listeners. Scan records are forwarded at most once per minimum interval. Additionally, a scan record with new data
+ * (raw data, manufacturer data, service data or name) is forwarded immediately if no other change has been forwarded
+ * within the interval, so sporadic changes (e.g. a button press) are not delayed, while devices changing their data
+ * with every advertisement (e.g. sensors with a measurement counter) are still limited. The latest data of dropped scan
+ * records is added to the next forwarded scan record which does not report that data itself, as some adapters report a
+ * change only once and only the RSSI afterwards. So a change may be delayed, but is never lost. The RSSI of the
+ * forwarded scan records is the average of the last {@value #RSSI_WINDOW_SIZE} received values, so dropped scan records
+ * still contribute to it.
+ *
+ * Adapters usually report a device many times per second, while handlers only need its data changes and an RSSI
+ * update every now and then.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AdvertisementFilter {
+
+    public static final int RSSI_WINDOW_SIZE = 5;
+
+    /**
+     * Counters of the scan records of all devices of one adapter.
+     */
+    public static class Statistics {
+        private final LongAdder received = new LongAdder();
+        private final LongAdder forwarded = new LongAdder();
+
+        /**
+         * @return number of scan records received from the adapter
+         */
+        public long getReceived() {
+            return received.sum();
+        }
+
+        /**
+         * @return number of scan records forwarded to the device listeners
+         */
+        public long getForwarded() {
+            return forwarded.sum();
+        }
+    }
+
+    private final long minIntervalNanos;
+    private final Statistics statistics;
+
+    // All access must be guarded by "this"
+    private final int[] rssiWindow = new int[RSSI_WINDOW_SIZE];
+    private int rssiCount;
+    private int rssiIndex;
+    // the data of the last forwarded scan record
+    private byte[] lastData = new byte[0];
+    private byte[] lastManufacturerData = new byte[0];
+    private Map<String, byte[]> lastServiceData = Map.of();
+    private String lastName = "";
+    // the latest received data, including the data of dropped scan records
+    private byte[] latestData = lastData;
+    private byte[] latestManufacturerData = lastManufacturerData;
+    private Map<String, byte[]> latestServiceData = lastServiceData;
+    private String latestName = lastName;
+    private long lastForwarded;
+    private long lastChangeForwarded;
+    private boolean forwardedAny;
+    private boolean forwardedChange;
+
+    /**
+     * Creates a new filter
+     *
+     * @param minIntervalMillis minimum interval between two forwarded scan records with the same data, 0 or less to
+     *            forward all scan records unchanged
+     * @param statistics the counters to update
+     */
+    public AdvertisementFilter(long minIntervalMillis, Statistics statistics) {
+        this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minIntervalMillis);
+        this.statistics = statistics;
+    }
+
+    /**
+     * Checks whether a scan record should be forwarded to the device listeners. If so, its RSSI is replaced by the
+     * smoothed RSSI.
+     *
+     * @param notification the received scan record
+     * @return true if the scan record should be forwarded
+     */
+    public boolean accept(BluetoothScanNotification notification) {
+        return accept(notification, System.nanoTime());
+    }
+
+    synchronized boolean accept(BluetoothScanNotification notification, long now) {
+        statistics.received.increment();
+        if (minIntervalNanos <= 0) {
+            statistics.forwarded.increment();
+            return true;
+        }
+
+        int rssi = notification.getRssi();
+        if (rssi != Integer.MIN_VALUE) {
+            rssiWindow[rssiIndex] = rssi;
+            rssiIndex = (rssiIndex + 1) % RSSI_WINDOW_SIZE;
+            rssiCount = Math.min(rssiCount + 1, RSSI_WINDOW_SIZE);
+        }
+
+        // some adapters report the data and the RSSI separately, so only the reported data replaces the latest data
+        if (notification.getData().length > 0) {
+            latestData = notification.getData();
+        }
+        if (notification.getManufacturerData().length > 0) {
+            latestManufacturerData = notification.getManufacturerData();
+        }
+        if (!notification.getServiceData().isEmpty()) {
+            latestServiceData = notification.getServiceData();
+        }
+        if (!notification.getDeviceName().isEmpty()) {
+            latestName = notification.getDeviceName();
+        }
+        boolean dataChanged = !Arrays.equals(latestData, lastData);
+        boolean manufacturerDataChanged = !Arrays.equals(latestManufacturerData, lastManufacturerData);
+        boolean serviceDataChanged = !serviceDataEquals(latestServiceData, lastServiceData);
+        boolean nameChanged = !latestName.equals(lastName);
+        boolean changed = dataChanged || manufacturerDataChanged || serviceDataChanged || nameChanged;
+        boolean intervalElapsed = !forwardedAny || now - lastForwarded >= minIntervalNanos;
+        boolean changeAllowed = changed && (!forwardedChange || now - lastChangeForwarded >= minIntervalNanos);
+        if (!intervalElapsed && !changeAllowed) {
+            return false;
+        }
+
+        // changes of dropped scan records are forwarded with this one
+        if (dataChanged && notification.getData().length == 0) {
+            notification.setData(latestData);
+        }
+        if (manufacturerDataChanged && notification.getManufacturerData().length == 0) {
+            notification.setManufacturerData(latestManufacturerData);
+        }
+        if (serviceDataChanged && notification.getServiceData().isEmpty()) {
+            notification.setServiceData(latestServiceData);
+        }
+        if (nameChanged && notification.getDeviceName().isEmpty()) {
+            notification.setDeviceName(latestName);
+        }
+        lastData = latestData;
+        lastManufacturerData = latestManufacturerData;
+        lastServiceData = latestServiceData;
+        lastName = latestName;
+        lastForwarded = now;
+        forwardedAny = true;
+        if (changed) {
+            lastChangeForwarded = now;
+            forwardedChange = true;
+        }
+        if (rssi != Integer.MIN_VALUE) {
+            notification.setRssi(getSmoothedRssi());
+        }
+        statistics.forwarded.increment();
+        return true;
+    }
+
+    private int getSmoothedRssi() {
+        int sum = 0;
+        for (int i = 0; i < rssiCount; i++) {
+            sum += rssiWindow[i];
+        }
+        return Math.round((float) sum / rssiCount);
+    }
+
+    private static boolean serviceDataEquals(Map<String, byte[]> serviceData, Map<String, byte[]> other) {
+        if (serviceData.size() != other.size()) {
+            return false;
+        }
+        for (Map.Entry<String, byte[]> entry : serviceData.entrySet()) {
+            byte[] otherData = other.get(entry.getKey());
+            if (otherData == null || !Arrays.equals(entry.getValue(), otherData)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
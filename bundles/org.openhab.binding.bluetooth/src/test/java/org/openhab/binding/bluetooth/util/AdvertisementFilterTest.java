@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class AdvertisementFilterTest {
+
+    private static final long INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    private final AdvertisementFilter.Statistics statistics = new AdvertisementFilter.Statistics();
+    private final AdvertisementFilter filter = new AdvertisementFilter(1000, statistics);
+
+    private static BluetoothScanNotification advertisement(int rssi, byte... manufacturerData) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        notification.setManufacturerData(manufacturerData);
+        return notification;
+    }
+
+    @Test
+    void identicalAdvertisementsAreRateLimited() {
+        assertTrue(filter.accept(advertisement(-60, (byte) 1), 0));
+        assertFalse(filter.accept(advertisement(-60, (byte) 1), INTERVAL_NANOS / 2));
+        assertTrue(filter.accept(advertisement(-60, (byte) 1), INTERVAL_NANOS));
+
+        assertEquals(3, statistics.getReceived());
+        assertEquals(2, statistics.getForwarded());
+    }
+
+    @Test
+    void changedDataIsForwardedImmediately() {
+        assertTrue(filter.accept(advertisement(-60, (byte) 1), 0));
+        assertTrue(filter.accept(advertisement(-60, (byte) 1), INTERVAL_NANOS));
+        // the last change was forwarded more than an interval ago
+        assertTrue(filter.accept(advertisement(-60, (byte) 2), INTERVAL_NANOS + 1));
+
+        BluetoothScanNotification serviceData = advertisement(-60);
+        serviceData.setServiceData(Map.of("0000fcd2-0000-1000-8000-00805f9b34fb", new byte[] { 1 }));
+        assertTrue(filter.accept(serviceData, 2 * INTERVAL_NANOS + 1));
+        BluetoothScanNotification sameServiceData = advertisement(-60);
+        sameServiceData.setServiceData(Map.of("0000fcd2-0000-1000-8000-00805f9b34fb", new byte[] { 1 }));
+        assertFalse(filter.accept(sameServiceData, 2 * INTERVAL_NANOS + 2));
+    }
+
+    @Test
+    void dataChangingWithEveryAdvertisementIsRateLimited() {
+        @Nullable
+        BluetoothScanNotification forwarded = null;
+        for (int i = 0; i < 20; i++) {
+            BluetoothScanNotification notification = advertisement(-60, (byte) i);
+            if (filter.accept(notification, i * INTERVAL_NANOS / 10)) {
+                forwarded = notification;
+            }
+        }
+
+        assertEquals(20, statistics.getReceived());
+        assertEquals(2, statistics.getForwarded());
+        // the record forwarded after the interval carries the data of that time
+        assertNotNull(forwarded);
+        assertArrayEquals(new byte[] { 10 }, forwarded.getManufacturerData());
+    }
+
+    @Test
+    void rssiOnlyUpdatesDoNotCountAsChange() {
+        assertTrue(filter.accept(advertisement(-60, (byte) 1), 0));
+        assertFalse(filter.accept(advertisement(-70), 1));
+        // the last forwarded data is still known
+        assertFalse(filter.accept(advertisement(-60, (byte) 1), 2));
+    }
+
+    @Test
+    void droppedChangeIsForwardedWithTheNextScanRecord() {
+        assertTrue(filter.accept(advertisement(-60, (byte) 1), 0));
+        // the second change within the interval is dropped, and only the RSSI is reported afterwards
+        assertFalse(filter.accept(advertisement(-60, (byte) 2), INTERVAL_NANOS / 2));
+        assertFalse(filter.accept(advertisement(-60), INTERVAL_NANOS / 2 + 1));
+
+        BluetoothScanNotification notification = advertisement(-60);
+        assertTrue(filter.accept(notification, INTERVAL_NANOS));
+        assertArrayEquals(new byte[] { 2 }, notification.getManufacturerData());
+
+        // the change is forwarded only once
+        BluetoothScanNotification next = advertisement(-60);
+        assertTrue(filter.accept(next, 2 * INTERVAL_NANOS));
+        assertArrayEquals(new byte[0], next.getManufacturerData());
+    }
+
+    @Test
+    void rssiIsSmoothed() {
+        filter.accept(advertisement(-60, (byte) 1), 0);
+        filter.accept(advertisement(-70, (byte) 1), 1);
+        BluetoothScanNotification notification = advertisement(-80, (byte) 1);
+        assertTrue(filter.accept(notification, INTERVAL_NANOS));
+        assertEquals(-70, notification.getRssi());
+    }
+
+    @Test
+    void zeroIntervalForwardsEverything() {
+        AdvertisementFilter passThrough = new AdvertisementFilter(0, statistics);
+        BluetoothScanNotification notification = advertisement(-60, (byte) 1);
+        assertTrue(passThrough.accept(notification, 0));
+        assertTrue(passThrough.accept(advertisement(-80, (byte) 1), 0));
+        assertEquals(-60, notification.getRssi());
+        assertEquals(2, statistics.getForwarded());
+    }
+}
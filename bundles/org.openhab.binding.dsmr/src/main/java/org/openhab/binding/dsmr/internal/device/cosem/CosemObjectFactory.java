@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -30,8 +31,20 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class CosemObjectFactory {
+    /**
+     * Maximum number of OBIS identifier strings in the lookup cache. A meter only sends a few dozen different
+     * identifiers, the limit prevents corrupted identifiers from filling the cache.
+     */
+    private static final int MAX_CACHED_OBIS_IDS = 256;
+
     private final Logger logger = LoggerFactory.getLogger(CosemObjectFactory.class);
 
+    /**
+     * Result of looking up an OBIS identifier string. The candidates are the Cosem Object types to try in order.
+     */
+    private record ObisLookup(OBISIdentifier obisId, List<CosemObjectType> candidates) {
+    }
+
     /**
      * Lookup cache for fixed OBIS Identifiers
      */
@@ -42,6 +55,12 @@ public class CosemObjectFactory {
      */
     private final Map<OBISIdentifier, List<CosemObjectType>> obisLookupTableMultipleFixed = new HashMap<>();
 
+    /**
+     * Lookup cache for the OBIS identifier strings received. The same identifiers are received with every telegram,
+     * therefore each identifier is only parsed and looked up once.
+     */
+    private final Map<String, ObisLookup> obisLookupCache = new ConcurrentHashMap<>();
+
     /**
      * Creates a new CosemObjectFactory
      */
@@ -79,46 +98,59 @@ public class CosemObjectFactory {
      * @return CosemObject or null if parsing failed
      */
     public @Nullable CosemObject getCosemObject(String obisIdString, String cosemStringValues) {
-        OBISIdentifier obisId;
-        OBISIdentifier reducedObisId;
-        OBISIdentifier reducedObisIdGroupE;
-
-        try {
-            obisId = new OBISIdentifier(obisIdString);
-            reducedObisId = obisId.getReducedOBISIdentifier();
-            reducedObisIdGroupE = obisId.getReducedOBISIdentifierGroupE();
-        } catch (final ParseException pe) {
-            logger.debug("Received invalid OBIS identifier: {}", obisIdString);
-            return null;
+        ObisLookup lookup = obisLookupCache.get(obisIdString);
+
+        if (lookup == null) {
+            try {
+                lookup = lookup(new OBISIdentifier(obisIdString));
+            } catch (final ParseException pe) {
+                logger.debug("Received invalid OBIS identifier: {}", obisIdString);
+                return null;
+            }
+            if (obisLookupCache.size() < MAX_CACHED_OBIS_IDS) {
+                obisLookupCache.put(obisIdString, lookup);
+            }
         }
+        final OBISIdentifier obisId = lookup.obisId();
 
         logger.trace("Received obisIdString {}, obisId: {}, values: {}", obisIdString, obisId, cosemStringValues);
 
-        CosemObjectType objectType = obisLookupTableFixed.get(reducedObisId);
-        if (objectType != null) {
-            logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
-        }
-
-        List<CosemObjectType> objectTypeList = obisLookupTableMultipleFixed.get(reducedObisId);
-        if (objectTypeList != null) {
-            for (CosemObjectType cosemObjectType : objectTypeList) {
-                CosemObject cosemObject = getCosemObjectInternal(cosemObjectType, obisId, cosemStringValues);
-                if (cosemObject != null) {
-                    logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
-                    return cosemObject;
-                }
+        for (CosemObjectType cosemObjectType : lookup.candidates()) {
+            CosemObject cosemObject = getCosemObjectInternal(cosemObjectType, obisId, cosemStringValues);
+            if (cosemObject != null) {
+                logger.trace("Found obisId {} as Cosem Object type {}", obisId, cosemObjectType);
+                return cosemObject;
             }
         }
+        if (lookup.candidates().isEmpty()) {
+            logger.debug("Received unknown Cosem Object(OBIS id: {})", obisId);
+        }
+        return null;
+    }
+
+    /**
+     * Looks up the Cosem Object types that can match the given OBISIdentifier. If the reduced identifier is in the
+     * fixed lookup table only that type matches. Otherwise the types with the same reduced identifier are tried,
+     * followed by the type matching the identifier reduced on group E.
+     *
+     * @param obisId the OBISIdentifier as received
+     * @return the lookup result with the candidate types in the order they must be tried
+     */
+    private ObisLookup lookup(OBISIdentifier obisId) {
+        final OBISIdentifier reducedObisId = obisId.getReducedOBISIdentifier();
+        final CosemObjectType objectType = obisLookupTableFixed.get(reducedObisId);
 
-        objectType = obisLookupTableFixed.get(reducedObisIdGroupE);
         if (objectType != null) {
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
+            return new ObisLookup(obisId, List.of(objectType));
         }
+        final List<CosemObjectType> candidates = new ArrayList<>(
+                obisLookupTableMultipleFixed.getOrDefault(reducedObisId, List.of()));
+        final CosemObjectType objectTypeGroupE = obisLookupTableFixed.get(obisId.getReducedOBISIdentifierGroupE());
 
-        logger.debug("Received unknown Cosem Object(OBIS id: {})", obisId);
-
-        return null;
+        if (objectTypeGroupE != null) {
+            candidates.add(objectTypeGroupE);
+        }
+        return new ObisLookup(obisId, List.copyOf(candidates));
     }
 
     /**
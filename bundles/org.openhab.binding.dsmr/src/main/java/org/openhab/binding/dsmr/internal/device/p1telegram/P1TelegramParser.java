@@ -19,7 +19,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.dsmr.internal.device.connector.DSMRErrorStatus;
@@ -61,9 +60,9 @@ public class P1TelegramParser implements TelegramParser {
     }
 
     /**
-     * Pattern for the CRC-code
+     * Number of hexadecimal digits of the CRC-code
      */
-    private static final String CRC_PATTERN = "[0-9A-Z]{4}";
+    private static final int CRC_LENGTH = 4;
 
     private final Logger logger = LoggerFactory.getLogger(P1TelegramParser.class);
 
@@ -279,9 +278,9 @@ public class P1TelegramParser implements TelegramParser {
 
     private Optional<DSMRErrorStatus> checkCRC() {
         final Optional<DSMRErrorStatus> telegramState;
+        final int crcP1Telegram = parseCRC(crcValue);
 
-        if (Pattern.matches(CRC_PATTERN, crcValue)) {
-            final int crcP1Telegram = Integer.parseInt(crcValue.toString(), 16);
+        if (crcP1Telegram >= 0) {
             final int calculatedCRC = crc.getCurrentCRCCode();
 
             if (logger.isDebugEnabled()) {
@@ -305,6 +304,34 @@ public class P1TelegramParser implements TelegramParser {
         return telegramState;
     }
 
+    /**
+     * Parses the CRC-code without creating intermediate objects. The CRC-code must consist of 4 upper case
+     * hexadecimal digits.
+     *
+     * @param crcValue the received CRC-code
+     * @return the CRC-code or -1 if the CRC-code is not valid
+     */
+    static int parseCRC(CharSequence crcValue) {
+        if (crcValue.length() != CRC_LENGTH) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = 0; i < CRC_LENGTH; i++) {
+            final char c = crcValue.charAt(i);
+            final int digit;
+
+            if (c >= '0' && c <= '9') {
+                digit = c - '0';
+            } else if (c >= 'A' && c <= 'F') {
+                digit = c - 'A' + 10;
+            } else {
+                return -1;
+            }
+            value = (value << 4) | digit;
+        }
+        return value;
+    }
+
     private void processTelegram() {
         telegramState.ifPresentOrElse(error -> telegramListener.onError(error, ""),
                 () -> telegramListener.telegramReceived(constructTelegram()));
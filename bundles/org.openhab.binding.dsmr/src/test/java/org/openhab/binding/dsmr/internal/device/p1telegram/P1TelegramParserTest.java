@@ -12,15 +12,20 @@
  */
 package org.openhab.binding.dsmr.internal.device.p1telegram;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.openhab.binding.dsmr.internal.TelegramReaderUtil;
+import org.openhab.binding.dsmr.internal.TelegramReaderUtil.P1TelegramListenerImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Test class for {@link P1TelegramParser}.
@@ -30,6 +35,13 @@ import org.openhab.binding.dsmr.internal.TelegramReaderUtil;
 @NonNullByDefault
 public class P1TelegramParserTest {
 
+    private static final int TIMING_WARM_UP_RUNS = 2_000;
+    private static final int TIMING_RUNS = 2_000;
+    // meters send a telegram every 1 (DSMR 5) to 10 seconds
+    private static final long MAX_PARSE_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Logger logger = LoggerFactory.getLogger(P1TelegramParserTest.class);
+
     // @formatter:off
     public static List<Object[]> data() {
         return Arrays.asList(new Object[][] {
@@ -61,4 +73,43 @@ public class P1TelegramParserTest {
                 telegram.getCosemObjects().stream().mapToInt(co -> co.getCosemValues().size()).sum(),
                 "Expected number of objects");
     }
+
+    /**
+     * Measures parsing the test telegrams including building all their Cosem objects. Building the objects only when
+     * they are read would not make a difference, as parsing a telegram takes a tiny fraction of the time between two
+     * telegrams.
+     */
+    @ParameterizedTest
+    @MethodSource("data")
+    public void testParsingTime(final String telegramName, final int numberOfCosemObjects, final int unknownObjects) {
+        final byte[] telegram = TelegramReaderUtil.readRawTelegram(telegramName);
+        final P1TelegramListenerImpl listener = new P1TelegramListenerImpl();
+        final P1TelegramParser parser = new P1TelegramParser(listener, true);
+
+        parser.setLenientMode(true);
+
+        for (int i = 0; i < TIMING_WARM_UP_RUNS; i++) {
+            parser.parse(telegram, telegram.length);
+        }
+        final long start = System.nanoTime();
+        for (int i = 0; i < TIMING_RUNS; i++) {
+            parser.parse(telegram, telegram.length);
+        }
+        final long nanosPerTelegram = (System.nanoTime() - start) / TIMING_RUNS;
+
+        logger.info("Parsing telegram '{}' with {} values took {} µs", telegramName, numberOfCosemObjects,
+                TimeUnit.NANOSECONDS.toMicros(nanosPerTelegram));
+        assertNotNull(listener.telegram, "Telegram should have been parsed");
+        assertTrue(nanosPerTelegram < MAX_PARSE_NANOS,
+                "Parsing telegram '" + telegramName + "' took " + nanosPerTelegram + " ns");
+    }
+
+    @Test
+    public void testParseCRC() {
+        assertEquals(0x1A2F, P1TelegramParser.parseCRC("1A2F"));
+        assertEquals(0xFFFF, P1TelegramParser.parseCRC("FFFF"));
+        assertEquals(-1, P1TelegramParser.parseCRC("1a2f"), "Lower case digits are not valid");
+        assertEquals(-1, P1TelegramParser.parseCRC("1G2F"), "Non hexadecimal digits are not valid");
+        assertEquals(-1, P1TelegramParser.parseCRC("1A2"), "CRC must have 4 digits");
+    }
 }
@@ -43,6 +43,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     private final HomeAssistantPythonBridge python;
     private final AbstractComponent<?> component;
     private final Value template;
+    private final @Nullable SimpleValueTemplate simpleTemplate;
     private final boolean command;
     private final String defaultValue;
     private final boolean parseValueAsInteger;
@@ -69,6 +70,7 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
         this.component = component;
         this.command = command;
         this.template = command ? python.newCommandTemplate(template) : python.newValueTemplate(template);
+        this.simpleTemplate = command ? null : python.newSimpleValueTemplate(template);
         this.defaultValue = defaultValue;
         this.parseValueAsInteger = parseValueAsInteger;
     }
@@ -97,6 +99,14 @@ public class HomeAssistantChannelTransformation extends ChannelTransformation {
     }
 
     public @Nullable String transform(Object value) {
+        SimpleValueTemplate simpleTemplate = this.simpleTemplate;
+        if (simpleTemplate != null && value instanceof String payload) {
+            String result = simpleTemplate.render(payload);
+            if (result != null) {
+                python.fastPathRendered();
+                return result;
+            }
+        }
         try {
             return command ? python.renderCommandTemplate(template, value)
                     : python.renderValueTemplate(template, value, defaultValue);
@@ -21,10 +21,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
 import org.graalvm.polyglot.PolyglotException;
 import org.graalvm.polyglot.Value;
 import org.graalvm.python.embedding.GraalPyResources;
@@ -32,127 +37,235 @@ import org.graalvm.python.embedding.VirtualFileSystem;
 import org.openhab.binding.homeassistant.internal.config.dto.MqttComponentConfig;
 import org.openhab.binding.homeassistant.internal.exception.ConfigurationException;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.config.core.Configuration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Centralizes all calls into python to ensure thread safety and a single cached context
+ * Centralizes all calls into python to ensure thread safety and a small pool of cached contexts
+ *
+ * All contexts share a single engine, so parsed Python code is only kept once. Python objects can only be used with the
+ * context that created them, so templates and discovery configs stay bound to their context; a context is picked when
+ * a discovery config is processed (by topic) or a raw template is created (round robin).
  *
  * @author Cody Cutrer - Initial contribution
  */
 @NonNullByDefault
-@Component(service = HomeAssistantPythonBridge.class)
+@Component(service = HomeAssistantPythonBridge.class, configurationPid = "org.openhab.binding.homeassistant")
 public class HomeAssistantPythonBridge {
     private static final String PYTHON = "python";
+    private static final String CONTEXT_INDEX = "openhab_context_index";
+    private static final int MAX_AUTO_CONTEXTS = 4;
+
     private final Logger logger = LoggerFactory.getLogger(HomeAssistantPythonBridge.class);
-    private final Context context;
-    private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth, renderCommandTemplateMeth,
-            renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth, renderValueTemplateWithVariablesMeth,
-            processDiscoveryConfigMeth, listMeth;
+    private final VirtualFileSystem vfs;
+    private final Engine engine;
+    private final AtomicReferenceArray<@Nullable PythonContext> contexts;
+    private final Map<Context, PythonContext> contextsByContext = new ConcurrentHashMap<>();
+    private final AtomicInteger nextContext = new AtomicInteger();
+    private final AtomicLong fastPathRenders = new AtomicLong();
+    private final AtomicLong interpreterRenders = new AtomicLong();
 
-    @Activate
-    public HomeAssistantPythonBridge() {
-        VirtualFileSystem vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class)
-                .build();
+    /**
+     * A Python context with the helper functions evaluated in it.
+     */
+    private static class PythonContext {
+        private final Context context;
+        private final Value newRawTemplateMeth, newCommandTemplateMeth, newValueTemplateMeth,
+                renderCommandTemplateMeth, renderValueTemplateMeth, renderCommandTemplateWithVariablesMeth,
+                renderValueTemplateWithVariablesMeth, processDiscoveryConfigMeth, listMeth;
 
-        // Set cache path if not already configured (e.g., by test environment)
-        if (System.getProperty("polyglot.engine.userResourceCache") == null) {
-            File cachePath = Path.of(OpenHAB.getUserDataFolder(), "cache", "org.graalvm.polyglot").toFile();
-            System.setProperty("polyglot.engine.userResourceCache", cachePath.getAbsolutePath());
-        }
-        context = GraalPyResources.contextBuilder(vfs).logHandler(new LogHandler(logger))
-                .option("engine.WarnInterpreterOnly", "false").build();
+        private PythonContext(int index, Context context) {
+            this.context = context;
+
+            Value bindings = context.getBindings(PYTHON);
 
-        Value bindings = context.getBindings(PYTHON);
+            context.eval(PYTHON,
+                    """
+                            # we need to set up the path just like it would have been set up on Linux, even if we're
+                            # on Windows
+                            import os
+                            import sys
 
-        context.eval(PYTHON,
-                """
-                        # we need to set up the path just like it would have been set up on Linux, even if we're
-                        # on Windows
-                        import os
-                        import sys
+                            try:
+                                import requests
+                                requests.urllib3.disable_warnings(requests.urllib3.exceptions.InsecureRequestWarning)
+                            except Exception:
+                                pass
 
-                        try:
-                            import requests
-                            requests.urllib3.disable_warnings(requests.urllib3.exceptions.InsecureRequestWarning)
-                        except Exception:
-                            pass
+                            if os.sep != '/':
+                                sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
 
-                        if os.sep != '/':
-                            sys.path.append(os.path.join(sys.prefix, "lib", "python%d.%d" % sys.version_info[:2], "site-packages"))
+                            from homeassistant.helpers.template import Template
+                            from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
+                            from homeassistant.components.mqtt.discovery import process_discovery_config
 
-                        from homeassistant.helpers.template import Template
-                        from homeassistant.components.mqtt.models import MqttCommandTemplate, MqttValueTemplate
-                        from homeassistant.components.mqtt.discovery import process_discovery_config
+                            def new_raw_template(template):
+                                return Template(template)
 
-                        def new_raw_template(template):
-                            return Template(template)
+                            def new_command_template(template):
+                                return MqttCommandTemplate(template)
 
-                        def new_command_template(template):
-                            return MqttCommandTemplate(template)
+                            def render_command_template(template, value):
+                                return template.render(value=value)
 
-                        def render_command_template(template, value):
-                            return template.render(value=value)
+                            def render_command_template_with_variables(template, value, variables):
+                                return template.render(value=value, variables=variables)
 
-                        def render_command_template_with_variables(template, value, variables):
-                            return template.render(value=value, variables=variables)
+                            def new_value_template(template):
+                                return MqttValueTemplate(template)
 
-                        def new_value_template(template):
-                            return MqttValueTemplate(template)
+                            def render_value_template(template, payload, default):
+                                return template.render_with_possible_json_value(payload=payload, default=default)
+
+                            def render_value_template_with_variables(template, payload, default, variables):
+                                return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
+                            """);
+            bindings.putMember(CONTEXT_INDEX, index);
+
+            newRawTemplateMeth = bindings.getMember("new_raw_template");
+            newCommandTemplateMeth = bindings.getMember("new_command_template");
+            renderCommandTemplateMeth = bindings.getMember("render_command_template");
+            renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
+            newValueTemplateMeth = bindings.getMember("new_value_template");
+            renderValueTemplateMeth = bindings.getMember("render_value_template");
+            renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
+            processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
+            listMeth = bindings.getMember("list");
+        }
+    }
+
+    public HomeAssistantPythonBridge() {
+        this(null);
+    }
+
+    @Activate
+    public HomeAssistantPythonBridge(@Nullable Map<String, Object> properties) {
+        HomeAssistantConfiguration configuration = new Configuration(properties).as(HomeAssistantConfiguration.class);
+        int size = configuration.pythonContexts > 0 ? configuration.pythonContexts
+                : Math.max(1, Math.min(MAX_AUTO_CONTEXTS, Runtime.getRuntime().availableProcessors() / 2));
+        contexts = new AtomicReferenceArray<>(size);
+
+        vfs = VirtualFileSystem.newBuilder().resourceLoadingClass(HomeAssistantPythonBridge.class).build();
+
+        // Set cache path if not already configured (e.g., by test environment)
+        if (System.getProperty("polyglot.engine.userResourceCache") == null) {
+            File cachePath = Path.of(OpenHAB.getUserDataFolder(), "cache", "org.graalvm.polyglot").toFile();
+            System.setProperty("polyglot.engine.userResourceCache", cachePath.getAbsolutePath());
+        }
+        engine = Engine.newBuilder().logHandler(new LogHandler(logger)).option("engine.WarnInterpreterOnly", "false")
+                .build();
+        logger.debug("Using up to {} Python contexts", size);
 
-                        def render_value_template(template, payload, default):
-                            return template.render_with_possible_json_value(payload=payload, default=default)
+        // create the first context right away, the others are created when they are needed
+        getContext(0);
+    }
 
-                        def render_value_template_with_variables(template, payload, default, variables):
-                            return template.render_with_possible_json_value(payload=payload, default=default, variables=variables)
-                        """);
+    @Modified
+    protected void modified(@Nullable Map<String, Object> properties) {
+        HomeAssistantConfiguration configuration = new Configuration(properties).as(HomeAssistantConfiguration.class);
+        if (configuration.pythonContexts > 0 && configuration.pythonContexts != contexts.length()) {
+            logger.info("The number of Python contexts will be changed to {} after a restart",
+                    configuration.pythonContexts);
+        }
+    }
 
-        newRawTemplateMeth = bindings.getMember("new_raw_template");
-        newCommandTemplateMeth = bindings.getMember("new_command_template");
-        renderCommandTemplateMeth = bindings.getMember("render_command_template");
-        renderCommandTemplateWithVariablesMeth = bindings.getMember("render_command_template_with_variables");
-        newValueTemplateMeth = bindings.getMember("new_value_template");
-        renderValueTemplateMeth = bindings.getMember("render_value_template");
-        renderValueTemplateWithVariablesMeth = bindings.getMember("render_value_template_with_variables");
-        processDiscoveryConfigMeth = bindings.getMember("process_discovery_config");
-        listMeth = bindings.getMember("list");
+    @Deactivate
+    public void deactivate() {
+        logger.debug("Rendered {} templates without and {} templates with the Python interpreter",
+                fastPathRenders.get(), interpreterRenders.get());
+        contextsByContext.clear();
+        for (int i = 0; i < contexts.length(); i++) {
+            PythonContext context = contexts.getAndSet(i, null);
+            if (context != null) {
+                context.context.close(true);
+            }
+        }
+        engine.close(true);
     }
 
     public Value newRawTemplate(String template) {
-        return newRawTemplateMeth.execute(template);
+        return getContext(Math.floorMod(nextContext.getAndIncrement(), contexts.length())).newRawTemplateMeth
+                .execute(template);
     }
 
     public Value newCommandTemplate(Value template) {
-        return newCommandTemplateMeth.execute(template);
+        return getContext(template).newCommandTemplateMeth.execute(template);
     }
 
     public String renderCommandTemplate(Value template, Object value) {
-        return renderCommandTemplateMeth.execute(template, value).asString();
+        interpreterRenders.incrementAndGet();
+        return getContext(template).renderCommandTemplateMeth.execute(template, value).asString();
     }
 
     public String renderCommandTemplate(Value template, Object value, Map<String, @Nullable Object> variables) {
-        return renderCommandTemplateWithVariablesMeth.execute(template, value, variables).asString();
+        interpreterRenders.incrementAndGet();
+        return getContext(template).renderCommandTemplateWithVariablesMeth.execute(template, value, variables)
+                .asString();
     }
 
     public Value newValueTemplate(Value template) {
-        return newValueTemplateMeth.execute(template);
+        return getContext(template).newValueTemplateMeth.execute(template);
+    }
+
+    /**
+     * Creates a template that can be rendered without Python, if the given template is simple enough.
+     *
+     * @param template the (raw) template
+     * @return the simple template, or <code>null</code> if the template has to be rendered by Python
+     */
+    public @Nullable SimpleValueTemplate newSimpleValueTemplate(Value template) {
+        try {
+            Value source = template.isString() ? template
+                    : template.hasMember("template") ? template.getMember("template") : null;
+            return source != null && source.isString() ? SimpleValueTemplate.parse(source.asString()) : null;
+        } catch (PolyglotException e) {
+            return null;
+        }
     }
 
     public String renderValueTemplate(Value template, Object payload, String defaultValue) {
-        return renderValueTemplateMeth.execute(template, payload, defaultValue).asString();
+        interpreterRenders.incrementAndGet();
+        return getContext(template).renderValueTemplateMeth.execute(template, payload, defaultValue).asString();
     }
 
     public String renderValueTemplate(Value template, Object payload, String defaultValue,
             Map<String, @Nullable Object> variables) {
-        return renderValueTemplateWithVariablesMeth.execute(template, payload, defaultValue, variables).asString();
+        interpreterRenders.incrementAndGet();
+        return getContext(template).renderValueTemplateWithVariablesMeth
+                .execute(template, payload, defaultValue, variables).asString();
+    }
+
+    /**
+     * Counts a template that was rendered by a {@link SimpleValueTemplate}.
+     */
+    public void fastPathRendered() {
+        fastPathRenders.incrementAndGet();
+    }
+
+    /**
+     * @return the number of templates rendered without the Python interpreter
+     */
+    public long getFastPathRenders() {
+        return fastPathRenders.get();
+    }
+
+    /**
+     * @return the number of templates rendered by the Python interpreter
+     */
+    public long getInterpreterRenders() {
+        return interpreterRenders.get();
     }
 
     public List<MqttComponentConfig> processDiscoveryConfig(String topic, String payload) {
         try {
+            PythonContext context = getContext(Math.floorMod(topic.hashCode(), contexts.length()));
             @SuppressWarnings("unchecked")
-            List<Value> configs = (List<Value>) toJava(processDiscoveryConfigMeth.execute(topic, payload));
+            List<Value> configs = (List<Value>) toJava(context.processDiscoveryConfigMeth.execute(topic, payload));
             if (configs == null || configs.isEmpty()) {
                 throw new ConfigurationException("Invalid configuration");
             }
@@ -191,7 +304,7 @@ public class HomeAssistantPythonBridge {
         // This is a bit of a pain, but Python sets don't act like Arrays, nor
         // can you use `as(List.class)` to have Graal convert them
         if (value.getMetaObject().getMetaSimpleName().equals("set")) {
-            Value pyList = listMeth.execute(value);
+            Value pyList = getContext(value).listMeth.execute(value);
             @SuppressWarnings("unchecked")
             List<@Nullable Object> list = (List<@Nullable Object>) Objects.requireNonNull(toJava(pyList));
             Set<@Nullable Object> set = new HashSet<@Nullable Object>(list);
@@ -205,4 +318,36 @@ public class HomeAssistantPythonBridge {
         Object r = value.as(Object.class);
         return r;
     }
+
+    private PythonContext getContext(int index) {
+        PythonContext context = contexts.get(index);
+        if (context != null) {
+            return context;
+        }
+        synchronized (contexts) {
+            context = contexts.get(index);
+            if (context == null) {
+                logger.debug("Creating Python context {}", index);
+                context = new PythonContext(index, GraalPyResources.contextBuilder(vfs).engine(engine).build());
+                contexts.set(index, context);
+                contextsByContext.put(context.context, context);
+            }
+            return context;
+        }
+    }
+
+    // Python values must be used with the context they have been created in
+    private PythonContext getContext(Value value) {
+        Context valueContext = value.getContext();
+        if (valueContext == null) {
+            return getContext(0);
+        }
+        PythonContext context = contextsByContext.get(valueContext);
+        if (context == null) {
+            // the context of a value might be a different instance than the one returned by the builder
+            context = getContext(valueContext.getBindings(PYTHON).getMember(CONTEXT_INDEX).asInt());
+            contextsByContext.put(valueContext, context);
+        }
+        return context;
+    }
 }
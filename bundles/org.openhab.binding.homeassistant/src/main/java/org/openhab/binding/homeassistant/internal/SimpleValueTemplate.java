@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Renders the most common value template shapes without calling into Python, e.g.
+ * <code>{{ value }}</code>, <code>{{ value_json.temperature }}</code>, <code>{{ value_json['a'].b[0] }}</code>,
+ * optionally followed by a <code>float</code> or <code>int</code> filter.
+ *
+ * Rendering only succeeds if the result is certain to be identical to what Home Assistant's Jinja environment would
+ * produce. In every other case (invalid JSON, missing keys, non-scalar results, conversion errors, ...)
+ * {@link #render(String)} returns <code>null</code> and the template has to be rendered by the interpreter, which also
+ * takes care of error handling and default values.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SimpleValueTemplate {
+    private static final String NAME = "[A-Za-z_][A-Za-z0-9_]*";
+    private static final String ACCESSOR = "\\." + NAME
+            + "|\\[\\s*'[^'\\\\]*'\\s*\\]|\\[\\s*\"[^\"\\\\]*\"\\s*\\]|\\[\\s*\\d+\\s*\\]";
+    private static final Pattern TEMPLATE_PATTERN = Pattern.compile(
+            "\\{\\{\\s*(value|value_json)((?:\\s*(?:" + ACCESSOR + "))*)\\s*(?:\\|\\s*(float|int)\\s*)?\\}\\}");
+    private static final Pattern ACCESSOR_PATTERN = Pattern
+            .compile("\\.(" + NAME + ")|\\[\\s*'([^']*)'\\s*\\]|\\[\\s*\"([^\"]*)\"\\s*\\]|\\[\\s*(\\d+)\\s*\\]");
+    private static final Pattern INT_PATTERN = Pattern.compile("[+-]?\\d+");
+    private static final Pattern FLOAT_PATTERN = Pattern.compile("[+-]?(\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d+)?");
+
+    // attribute access on a dict resolves these to methods instead of keys
+    private static final Set<String> DICT_ATTRIBUTES = Set.of("clear", "copy", "fromkeys", "get", "items", "keys",
+            "pop", "popitem", "setdefault", "update", "values");
+
+    private static final TypeAdapter<JsonElement> JSON_ADAPTER = new Gson().getAdapter(JsonElement.class);
+
+    private enum Filter {
+        NONE,
+        FLOAT,
+        INT
+    }
+
+    /**
+     * A path element, either a key (attribute or item access) or a list index.
+     */
+    private record Accessor(@Nullable String key, int index) {
+    }
+
+    private final boolean json;
+    private final List<Accessor> accessors;
+    private final Filter filter;
+
+    private SimpleValueTemplate(boolean json, List<Accessor> accessors, Filter filter) {
+        this.json = json;
+        this.accessors = accessors;
+        this.filter = filter;
+    }
+
+    /**
+     * Parses a template.
+     *
+     * @param template the template source
+     * @return the parsed template, or <code>null</code> if the template is not one of the supported shapes
+     */
+    public static @Nullable SimpleValueTemplate parse(String template) {
+        Matcher matcher = TEMPLATE_PATTERN.matcher(template.strip());
+        if (!matcher.matches()) {
+            return null;
+        }
+        boolean json = "value_json".equals(matcher.group(1));
+        List<Accessor> accessors = new ArrayList<>();
+        Matcher accessorMatcher = ACCESSOR_PATTERN.matcher(matcher.group(2));
+        while (accessorMatcher.find()) {
+            String attribute = accessorMatcher.group(1);
+            String singleQuoted = accessorMatcher.group(2);
+            String doubleQuoted = accessorMatcher.group(3);
+            if (attribute != null) {
+                if (attribute.startsWith("_") || DICT_ATTRIBUTES.contains(attribute)) {
+                    return null;
+                }
+                accessors.add(new Accessor(attribute, -1));
+            } else if (singleQuoted != null) {
+                accessors.add(new Accessor(singleQuoted, -1));
+            } else if (doubleQuoted != null) {
+                accessors.add(new Accessor(doubleQuoted, -1));
+            } else {
+                try {
+                    accessors.add(new Accessor(null, Integer.parseInt(accessorMatcher.group(4))));
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+            }
+        }
+        // attributes or items of the raw string value are not supported
+        if (!json && !accessors.isEmpty()) {
+            return null;
+        }
+        String filterName = matcher.group(3);
+        Filter filter = filterName == null ? Filter.NONE : "float".equals(filterName) ? Filter.FLOAT : Filter.INT;
+        return new SimpleValueTemplate(json, List.copyOf(accessors), filter);
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param payload the received payload
+     * @return the rendered value, or <code>null</code> if the template has to be rendered by the interpreter
+     */
+    public @Nullable String render(String payload) {
+        if (!json) {
+            return switch (filter) {
+                case NONE -> pythonStrip(payload);
+                case FLOAT -> floatFromString(payload);
+                case INT -> intFromString(payload);
+            };
+        }
+        JsonElement element = parseJson(payload);
+        for (Accessor accessor : accessors) {
+            if (element == null) {
+                return null;
+            }
+            element = access(element, accessor);
+        }
+        if (element == null || !(element.isJsonPrimitive() || element.isJsonNull())) {
+            return null;
+        }
+        if (element.isJsonNull()) {
+            return filter == Filter.NONE ? "None" : null;
+        }
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isBoolean()) {
+            return filter == Filter.NONE ? (primitive.getAsBoolean() ? "True" : "False") : null;
+        }
+        if (primitive.isString()) {
+            String value = primitive.getAsString();
+            return switch (filter) {
+                case NONE -> pythonStrip(value);
+                case FLOAT -> floatFromString(value);
+                case INT -> intFromString(value);
+            };
+        }
+        String literal = primitive.getAsString();
+        boolean isFloat = literal.indexOf('.') >= 0 || literal.indexOf('e') >= 0 || literal.indexOf('E') >= 0;
+        try {
+            if (isFloat) {
+                double value = Double.parseDouble(literal);
+                return switch (filter) {
+                    case NONE, FLOAT -> pythonFloatRepr(value);
+                    case INT -> truncate(value);
+                };
+            }
+            BigInteger value = new BigInteger(literal);
+            return switch (filter) {
+                case NONE, INT -> value.toString();
+                case FLOAT -> value.bitLength() < 1000 ? pythonFloatRepr(value.doubleValue()) : null;
+            };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static @Nullable JsonElement access(JsonElement element, Accessor accessor) {
+        String key = accessor.key();
+        if (key != null) {
+            if (!element.isJsonObject()) {
+                return null;
+            }
+            JsonObject object = element.getAsJsonObject();
+            return object.get(key);
+        }
+        if (!element.isJsonArray()) {
+            return null;
+        }
+        JsonArray array = element.getAsJsonArray();
+        return accessor.index() < array.size() ? array.get(accessor.index()) : null;
+    }
+
+    private static @Nullable JsonElement parseJson(String payload) {
+        // reject what the lenient parts of the Gson reader accept, but Python's json.loads does not
+        for (int i = 0; i < payload.length(); i++) {
+            char c = payload.charAt(i);
+            if ((c < 0x20 && c != '\t' && c != '\n' && c != '\r') || (c == '\\' && i + 1 < payload.length()
+                    && payload.charAt(i + 1) == '\'')) {
+                return null;
+            }
+        }
+        try {
+            JsonReader reader = new JsonReader(new StringReader(payload));
+            JsonElement element = JSON_ADAPTER.read(reader);
+            return reader.peek() == JsonToken.END_DOCUMENT ? element : null;
+        } catch (IOException | JsonParseException | IllegalStateException | NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // float(str) in Python
+    private static @Nullable String floatFromString(String value) {
+        String stripped = pythonStrip(value);
+        if (!FLOAT_PATTERN.matcher(stripped).matches()) {
+            return null;
+        }
+        return pythonFloatRepr(Double.parseDouble(stripped));
+    }
+
+    // int(str), falling back to int(float(str)), as done by Jinja's int filter
+    private static @Nullable String intFromString(String value) {
+        String stripped = pythonStrip(value);
+        if (INT_PATTERN.matcher(stripped).matches()) {
+            return new BigInteger(stripped).toString();
+        }
+        if (!FLOAT_PATTERN.matcher(stripped).matches()) {
+            return null;
+        }
+        return truncate(Double.parseDouble(stripped));
+    }
+
+    // int(float) in Python
+    private static @Nullable String truncate(double value) {
+        if (!Double.isFinite(value)) {
+            return null;
+        }
+        return new BigDecimal(value).toBigInteger().toString();
+    }
+
+    /**
+     * Formats a double like Python's <code>repr(float)</code>, or returns <code>null</code> if Python would use the
+     * exponential notation.
+     */
+    static @Nullable String pythonFloatRepr(double value) {
+        if (!Double.isFinite(value)) {
+            return null;
+        }
+        if (value == 0) {
+            return 1 / value < 0 ? "-0.0" : "0.0";
+        }
+        double abs = Math.abs(value);
+        if (abs < 1e-4 || abs >= 1e16) {
+            return null;
+        }
+        // Double.toString returns the shortest representation that round-trips, just like Python
+        String plain = new BigDecimal(Double.toString(value)).stripTrailingZeros().toPlainString();
+        return plain.indexOf('.') < 0 ? plain + ".0" : plain;
+    }
+
+    // str.strip() in Python removes all Unicode whitespace, String.strip() only some of it
+    static String pythonStrip(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && isPythonWhitespace(value.charAt(start))) {
+            start++;
+        }
+        while (end > start && isPythonWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return value.substring(start, end);
+    }
+
+    private static boolean isPythonWhitespace(char c) {
+        return Character.isWhitespace(c) || Character.isSpaceChar(c) || c == '\u0085';
+    }
+}
@@ -108,6 +108,21 @@ public class HomeAssistantChannelTransformationTests extends AbstractHomeAssista
                 is("off"));
     }
 
+    @Test
+    public void testSimpleTemplatesSkipPython() {
+        long fastPathRenders = PYTHON.getFastPathRenders();
+        long interpreterRenders = PYTHON.getInterpreterRenders();
+        assertThat(transform("{{ value_json.temperature }}", "{\"temperature\": 21.50}"), is("21.5"));
+        assertThat(transform("{{ value_json['state'] }}", "{\"state\": \" ON \"}"), is("ON"));
+        assertThat(transform("{{ value | float }}", "12"), is("12.0"));
+        assertThat(PYTHON.getFastPathRenders() - fastPathRenders, is(3L));
+        assertThat(PYTHON.getInterpreterRenders() - interpreterRenders, is(0L));
+
+        // invalid JSON is left to Python, so the errors and defaults are handled the same way
+        assertThat(transform("{{ value_json.temperature }}", "not json", "default"), is("default"));
+        assertThat(PYTHON.getInterpreterRenders() - interpreterRenders, is(1L));
+    }
+
     protected @Nullable Object transform(String template, Object value) {
         return new HomeAssistantChannelTransformation(PYTHON, component, PYTHON.newRawTemplate(template), false)
                 .transform(value);
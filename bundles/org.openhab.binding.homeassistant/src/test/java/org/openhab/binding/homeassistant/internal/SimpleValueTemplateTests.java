@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homeassistant.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SimpleValueTemplateTests {
+
+    @Test
+    public void testParse() {
+        assertThat(SimpleValueTemplate.parse("{{ value }}"), is(notNullValue()));
+        assertThat(SimpleValueTemplate.parse("{{value_json.a.b}}"), is(notNullValue()));
+        assertThat(SimpleValueTemplate.parse(" {{ value_json['a b'][0].c | int }} "), is(notNullValue()));
+        assertThat(SimpleValueTemplate.parse("{{ value_json[\"a\"] | float }}"), is(notNullValue()));
+
+        assertThat(SimpleValueTemplate.parse("{{ value_json.a }} {{ value_json.b }}"), is(nullValue()));
+        assertThat(SimpleValueTemplate.parse("{{ value_json.a | round(1) }}"), is(nullValue()));
+        assertThat(SimpleValueTemplate.parse("{{ value_json.items }}"), is(nullValue()));
+        assertThat(SimpleValueTemplate.parse("{{ value_json.__class__ }}"), is(nullValue()));
+        assertThat(SimpleValueTemplate.parse("{{ value.upper }}"), is(nullValue()));
+        assertThat(SimpleValueTemplate.parse("{% if value %}on{% endif %}"), is(nullValue()));
+    }
+
+    @Test
+    public void testValue() {
+        assertThat(render("{{ value }}", " ON\n"), is("ON"));
+        assertThat(render("{{ value | float }}", "21.50"), is("21.5"));
+        assertThat(render("{{ value | float }}", "1e3"), is("1000.0"));
+        assertThat(render("{{ value | int }}", " 42 "), is("42"));
+        assertThat(render("{{ value | int }}", "-42.9"), is("-42"));
+        assertThat(render("{{ value | float }}", "abc"), is(nullValue()));
+        assertThat(render("{{ value | int }}", "nan"), is(nullValue()));
+    }
+
+    @Test
+    public void testValueJson() {
+        String payload = "{\"temperature\": 21.50, \"humidity\": 45, \"on\": true, \"missing\": null, "
+                + "\"name\": \" sensor \", \"list\": [1, {\"a\": \"b\"}], \"big\": 1e20, \"small\": 0.00001}";
+        assertThat(render("{{ value_json.temperature }}", payload), is("21.5"));
+        assertThat(render("{{ value_json.humidity }}", payload), is("45"));
+        assertThat(render("{{ value_json.humidity | float }}", payload), is("45.0"));
+        assertThat(render("{{ value_json.temperature | int }}", payload), is("21"));
+        assertThat(render("{{ value_json.on }}", payload), is("True"));
+        assertThat(render("{{ value_json.missing }}", payload), is("None"));
+        assertThat(render("{{ value_json.name }}", payload), is("sensor"));
+        assertThat(render("{{ value_json.list[1].a }}", payload), is("b"));
+        assertThat(render("{{ value_json['list'][0] }}", payload), is("1"));
+
+        // Python would print these in exponential notation
+        assertThat(render("{{ value_json.big }}", payload), is(nullValue()));
+        assertThat(render("{{ value_json.small }}", payload), is(nullValue()));
+        // these are errors, which the interpreter has to handle
+        assertThat(render("{{ value_json.unknown }}", payload), is(nullValue()));
+        assertThat(render("{{ value_json.list[2] }}", payload), is(nullValue()));
+        assertThat(render("{{ value_json.on | int }}", payload), is(nullValue()));
+        assertThat(render("{{ value_json.missing | float }}", payload), is(nullValue()));
+        // not a string or number
+        assertThat(render("{{ value_json.list }}", payload), is(nullValue()));
+    }
+
+    @Test
+    public void testInvalidJson() {
+        assertThat(render("{{ value_json.a }}", ""), is(nullValue()));
+        assertThat(render("{{ value_json.a }}", "{a: 1}"), is(nullValue()));
+        assertThat(render("{{ value_json.a }}", "{\"a\": 1} {}"), is(nullValue()));
+        assertThat(render("{{ value_json.a }}", "{\"a\": NaN}"), is(nullValue()));
+        assertThat(render("{{ value_json.a }}", "{\"a\": \"\\'\"}"), is(nullValue()));
+    }
+
+    @Test
+    public void testPythonFloatRepr() {
+        assertThat(SimpleValueTemplate.pythonFloatRepr(0.1 + 0.2), is("0.30000000000000004"));
+        assertThat(SimpleValueTemplate.pythonFloatRepr(100), is("100.0"));
+        assertThat(SimpleValueTemplate.pythonFloatRepr(-0.0), is("-0.0"));
+        assertThat(SimpleValueTemplate.pythonFloatRepr(0.0001), is("0.0001"));
+        assertThat(SimpleValueTemplate.pythonFloatRepr(1e16), is(nullValue()));
+        assertThat(SimpleValueTemplate.pythonFloatRepr(Double.NaN), is(nullValue()));
+    }
+
+    private @Nullable String render(String template, String payload) {
+        return Objects.requireNonNull(SimpleValueTemplate.parse(template)).render(payload);
+    }
+}
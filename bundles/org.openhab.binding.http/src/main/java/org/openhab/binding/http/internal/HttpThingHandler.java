@@ -44,6 +44,7 @@ import org.openhab.binding.http.internal.http.HttpResponseListener;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.SharedResponseCache;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.PointType;
@@ -88,6 +89,7 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     private final Logger logger = LoggerFactory.getLogger(HttpThingHandler.class);
     private final HttpClientProvider httpClientProvider;
     private final RateLimitedHttpClient rateLimitedHttpClient;
+    private final SharedResponseCache sharedResponseCache;
     private final HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider;
     private final TimeZoneProvider timeZoneProvider;
 
@@ -96,11 +98,12 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
     private final Map<ChannelUID, ChannelHandler> channels = new HashMap<>();
     private final Map<ChannelUID, String> channelUrls = new HashMap<>();
 
-    public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider,
+    public HttpThingHandler(Thing thing, HttpClientProvider httpClientProvider, SharedResponseCache sharedResponseCache,
             HttpDynamicStateDescriptionProvider httpDynamicStateDescriptionProvider,
             TimeZoneProvider timeZoneProvider) {
         super(thing);
         this.httpClientProvider = httpClientProvider;
+        this.sharedResponseCache = sharedResponseCache;
         this.rateLimitedHttpClient = new RateLimitedHttpClient(httpClientProvider.getSecureClient(), scheduler);
         this.httpDynamicStateDescriptionProvider = httpDynamicStateDescriptionProvider;
         this.timeZoneProvider = timeZoneProvider;
@@ -337,7 +340,7 @@ public class HttpThingHandler extends BaseThingHandler implements HttpStatusList
             channelUrls.put(channelUID, key);
             Objects.requireNonNull(urlHandlers.computeIfAbsent(key,
                     k -> new RefreshingUrlCache(rateLimitedHttpClient, stateUrl, config, channelConfig.stateContent,
-                            config.contentType, this, channelConfig.refreshAfterCommand)))
+                            config.contentType, this, channelConfig.refreshAfterCommand, sharedResponseCache)))
                     .addConsumer(itemValueConverter::process);
         }
 
@@ -15,10 +15,17 @@ package org.openhab.binding.http.internal.http;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -29,6 +36,7 @@ import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.openhab.binding.http.internal.Util;
 import org.openhab.binding.http.internal.config.HttpThingConfig;
@@ -59,9 +67,15 @@ public class RefreshingUrlCache {
     private final @Nullable String httpContentType;
     private final HttpStatusListener httpStatusListener;
     private final boolean refreshAfterCommand;
+    private final boolean onlyUpdateOnChange;
+    private final String requestKeySuffix;
+    private final @Nullable SharedResponseCache sharedResponseCache;
 
     private @Nullable ScheduledFuture<?> future;
-    private @Nullable ChannelHandlerContent lastContent;
+    private int refreshTime = 0;
+    private volatile @Nullable ChannelHandlerContent lastContent;
+    private volatile @Nullable String eTag;
+    private volatile @Nullable String lastModified;
 
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener) {
@@ -71,6 +85,12 @@ public class RefreshingUrlCache {
     public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
             String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener,
             boolean refreshAfterCommand) {
+        this(httpClient, url, thingConfig, httpContent, httpContentType, httpStatusListener, refreshAfterCommand, null);
+    }
+
+    public RefreshingUrlCache(RateLimitedHttpClient httpClient, String url, HttpThingConfig thingConfig,
+            String httpContent, @Nullable String httpContentType, HttpStatusListener httpStatusListener,
+            boolean refreshAfterCommand, @Nullable SharedResponseCache sharedResponseCache) {
         this.httpClient = httpClient;
         this.url = url;
         this.strictErrorHandling = thingConfig.strictErrorHandling;
@@ -82,7 +102,27 @@ public class RefreshingUrlCache {
         this.httpContentType = httpContentType;
         this.httpStatusListener = httpStatusListener;
         this.refreshAfterCommand = refreshAfterCommand;
+        this.onlyUpdateOnChange = thingConfig.onlyUpdateOnChange;
+        this.sharedResponseCache = sharedResponseCache;
         fallbackEncoding = thingConfig.encoding;
+        // everything except the URL, which may contain a date, that makes the response of a request different
+        requestKeySuffix = String.join("\n", new TreeMap<>(headers).toString(), httpContent,
+                String.valueOf(httpContentType), String.valueOf(fallbackEncoding), String.valueOf(bufferSize),
+                String.valueOf(thingConfig.ignoreSSLErrors), thingConfig.authMode.name(), hashCredentials(thingConfig));
+    }
+
+    /**
+     * Things with different credentials must never share a response, but the key should not contain the password
+     */
+    private static String hashCredentials(HttpThingConfig thingConfig) {
+        String credentials = thingConfig.username.length() + ":" + thingConfig.username + thingConfig.password;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(credentials.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is available on every Java platform
+            throw new IllegalStateException(e);
+        }
     }
 
     public void start(ScheduledExecutorService executor, int refreshTime) {
@@ -90,6 +130,7 @@ public class RefreshingUrlCache {
             logger.warn("Starting refresh task requested but it is already started. This is bug.");
             return;
         }
+        this.refreshTime = refreshTime;
         future = executor.scheduleWithFixedDelay(this::refresh, 1, refreshTime, TimeUnit.SECONDS);
         logger.trace("Started refresh task for URL '{}' with interval {}s", url, refreshTime);
     }
@@ -105,17 +146,18 @@ public class RefreshingUrlCache {
     }
 
     private void refresh() {
-        refresh(false);
+        refresh(false, true);
     }
 
     public void refreshAfterCommand(ScheduledExecutorService executor) {
         if (refreshAfterCommand) {
-            executor.schedule(() -> this.refresh(), 1, TimeUnit.SECONDS);
+            // the response of other things may be outdated by the command
+            executor.schedule(() -> this.refresh(false, false), 1, TimeUnit.SECONDS);
             logger.trace("Started refresh task for URL '{}'", url);
         }
     }
 
-    private void refresh(boolean isRetry) {
+    private void refresh(boolean isRetry, boolean shareResponse) {
         if (consumers.isEmpty()) {
             // do not refresh if we don't have listeners
             return;
@@ -124,37 +166,78 @@ public class RefreshingUrlCache {
         // format URL
         try {
             URI uri = Util.uriFromString(Util.wrappedStringFormat(this.url, new Date()));
+
+            CompletableFuture<@Nullable ChannelHandlerContent> sharedFuture = null;
+            SharedResponseCache sharedResponseCache = this.sharedResponseCache;
+            if (shareResponse && sharedResponseCache != null && refreshTime > 0) {
+                SharedResponseCache.Lease lease = sharedResponseCache.lease(
+                        httpMethod + " " + uri + "\n" + requestKeySuffix, this, Duration.ofSeconds(refreshTime));
+                if (!lease.owner()) {
+                    logger.trace("Using shared response for '{}'", uri);
+                    lease.future().thenAccept(content -> processSharedResult(content, isRetry));
+                    return;
+                }
+                sharedFuture = lease.future();
+            }
+            CompletableFuture<@Nullable ChannelHandlerContent> localSharedFuture = sharedFuture;
+
             logger.trace("Requesting refresh (retry={}) from '{}' with timeout {}ms", isRetry, uri, timeout);
 
             httpClient.newRequest(uri, httpMethod, httpContent, httpContentType).thenAccept(request -> {
                 request.timeout(timeout, TimeUnit.MILLISECONDS);
                 headers.forEach(request::header);
 
+                // only GET requests can be conditional
+                ChannelHandlerContent cachedContent = httpMethod == HttpMethod.GET ? lastContent : null;
+                String eTag = this.eTag;
+                String lastModified = this.lastModified;
+                if (cachedContent != null && eTag != null) {
+                    request.header(HttpHeader.IF_NONE_MATCH, eTag);
+                } else if (cachedContent != null && lastModified != null) {
+                    request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+                }
+
                 CompletableFuture<@Nullable ChannelHandlerContent> responseContentFuture = new CompletableFuture<>();
+                HttpResponseListener responseListener = new HttpResponseListener(responseContentFuture,
+                        fallbackEncoding, bufferSize, httpStatusListener, cachedContent);
                 responseContentFuture.exceptionally(t -> {
                     if (t instanceof HttpAuthException) {
                         if (isRetry || !httpClient.reAuth(uri)) {
                             logger.debug("Authentication failed for '{}', retry={}", uri, isRetry);
                             httpStatusListener.onHttpError("Authentication failed");
                         } else {
-                            refresh(true);
+                            refresh(true, false);
                         }
                     }
                     return null;
-                }).thenAccept(this::processResult);
+                }).thenAccept(content -> {
+                    if (content != null && content != cachedContent) {
+                        this.eTag = responseListener.getETag();
+                        this.lastModified = responseListener.getLastModified();
+                    } else if (content == null) {
+                        this.eTag = null;
+                        this.lastModified = null;
+                    }
+                    if (localSharedFuture != null) {
+                        localSharedFuture.complete(content);
+                    }
+                    processResult(content);
+                });
 
                 if (logger.isTraceEnabled()) {
                     logger.trace("Sending to '{}': {}", uri, Util.requestToLogString(request));
                 }
 
-                request.send(new HttpResponseListener(responseContentFuture, fallbackEncoding, bufferSize,
-                        httpStatusListener));
+                request.send(responseListener);
             }).exceptionally(e -> {
                 if (e instanceof CancellationException) {
                     logger.debug("Request to URL {} was cancelled by thing handler.", uri);
                 } else {
                     logger.warn("Request to URL {} failed: {}", uri, e.getMessage());
                 }
+                if (localSharedFuture != null) {
+                    localSharedFuture.complete(null);
+                }
                 return null;
             });
         } catch (IllegalArgumentException | URISyntaxException | MalformedURLException e) {
@@ -162,6 +245,19 @@ public class RefreshingUrlCache {
         }
     }
 
+    private void processSharedResult(@Nullable ChannelHandlerContent content, boolean isRetry) {
+        if (content == null) {
+            // the shared request failed, send our own request to get the correct error handling
+            refresh(isRetry, false);
+            return;
+        }
+        // our validators don't match the shared content
+        eTag = null;
+        lastModified = null;
+        httpStatusListener.onHttpSuccess();
+        processResult(content);
+    }
+
     public void addConsumer(Consumer<@Nullable ChannelHandlerContent> consumer) {
         consumers.add(consumer);
     }
@@ -171,6 +267,12 @@ public class RefreshingUrlCache {
     }
 
     private void processResult(@Nullable ChannelHandlerContent content) {
+        ChannelHandlerContent lastContent = this.lastContent;
+        if (onlyUpdateOnChange && content != null && lastContent != null && (content == lastContent
+                || Arrays.equals(content.getRawContent(), lastContent.getRawContent()))) {
+            logger.trace("Content of URL {} did not change, skipping channel updates", url);
+            return;
+        }
         if (content != null || strictErrorHandling) {
             for (Consumer<@Nullable ChannelHandlerContent> consumer : consumers) {
                 try {
@@ -180,6 +282,6 @@ public class RefreshingUrlCache {
                 }
             }
         }
-        lastContent = content;
+        this.lastContent = content;
     }
 }
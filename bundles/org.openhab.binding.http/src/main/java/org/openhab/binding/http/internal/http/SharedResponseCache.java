@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.http.internal.http;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
+
+/**
+ * The {@link SharedResponseCache} allows all things of the binding to share the responses of identical state
+ * requests. A request is only sent if no identical request of another requester is in progress and no identical request
+ * of another requester succeeded within the refresh time of the requesting {@link RefreshingUrlCache}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SharedResponseCache {
+
+    /**
+     * The future content of a request. Only the owner sends the request and must complete the future, even if the
+     * request failed.
+     */
+    public record Lease(CompletableFuture<@Nullable ChannelHandlerContent> future, boolean owner) {
+    }
+
+    private static class Entry {
+        private final CompletableFuture<@Nullable ChannelHandlerContent> future = new CompletableFuture<>();
+        private final Object owner;
+        private final long started = System.nanoTime();
+        private final long maxAge;
+        private volatile long completed = 0;
+
+        private Entry(Object owner, long maxAge) {
+            this.owner = owner;
+            this.maxAge = maxAge;
+            future.thenRun(() -> completed = System.nanoTime());
+        }
+
+        private boolean isFresh(long now, long maxAge) {
+            if (!future.isDone()) {
+                // guard against requests which never complete
+                return now - started < maxAge;
+            }
+            return completed != 0 && future.getNow(null) != null && now - completed < maxAge;
+        }
+    }
+
+    // All access must be guarded by "this"
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Get the response of an identical request, or become the owner of a new request.
+     *
+     * @param key identifies the request, requests with the same key must return the same response
+     * @param requester the requester, it never gets its own responses, so its own refresh interval is kept
+     * @param maxAge the maximum age of a response that can be used instead of sending the request
+     * @return the lease for the response
+     */
+    public synchronized Lease lease(String key, Object requester, Duration maxAge) {
+        long now = System.nanoTime();
+        long maxAgeNanos = maxAge.toNanos();
+        entries.values().removeIf(entry -> entry.future.isDone() && !entry.isFresh(now, entry.maxAge));
+
+        Entry entry = entries.get(key);
+        if (entry != null && entry.owner != requester && entry.isFresh(now, maxAgeNanos)) {
+            return new Lease(entry.future, false);
+        }
+        entry = new Entry(requester, maxAgeNanos);
+        entries.put(key, entry);
+        return new Lease(entry.future, true);
+    }
+}
@@ -13,8 +13,12 @@
 package org.openhab.binding.http;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.findAll;
 import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.resetAllRequests;
 import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
@@ -46,6 +50,7 @@ import org.openhab.binding.http.internal.config.HttpThingConfig;
 import org.openhab.binding.http.internal.http.HttpStatusListener;
 import org.openhab.binding.http.internal.http.RateLimitedHttpClient;
 import org.openhab.binding.http.internal.http.RefreshingUrlCache;
+import org.openhab.binding.http.internal.http.SharedResponseCache;
 import org.openhab.core.thing.binding.generic.ChannelHandlerContent;
 
 /**
@@ -245,6 +250,106 @@ public class RefreshingUrlCacheTest extends AbstractWireMockTest {
         assertTrue(returnedQueryValue.matches("\\d{4}-\\d{2}-\\d{2}"));
     }
 
+    @Test
+    public void testConditionalRequestWithETag() {
+        stubFor(get(urlEqualTo(TEST_LOCATION))
+                .willReturn(aResponse().withHeader("ETag", "\"v1\"").withBody(TEST_CONTENT)));
+        stubFor(get(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", equalTo("\"v1\"")).atPriority(1)
+                .willReturn(aResponse().withStatus(304)));
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        waitForAssert(() -> assertEquals(3, contentWrappers.size()));
+        urlCache.stop();
+
+        // the unchanged content is still passed to the channels
+        verify(statusListener, never()).onHttpError(any());
+        assertTrue(contentWrappers.stream().map(Objects::requireNonNull).map(ChannelHandlerContent::getAsString)
+                .allMatch(TEST_CONTENT::equals));
+        assertFalse(
+                findAll(getRequestedFor(urlEqualTo(TEST_LOCATION)).withHeader("If-None-Match", equalTo("\"v1\"")))
+                        .isEmpty());
+    }
+
+    @Test
+    public void testNoUpdateOnUnchangedContent() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        thingConfig.onlyUpdateOnChange = true;
+
+        RefreshingUrlCache urlCache = getUrlCache(TEST_CONTENT);
+
+        verify(statusListener, timeout(4000).atLeast(3)).onHttpSuccess();
+        urlCache.stop();
+
+        assertEquals(1, contentWrappers.size());
+    }
+
+    @Test
+    public void testIdenticalRequestsAreShared() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        resetAllRequests();
+
+        SharedResponseCache sharedResponseCache = new SharedResponseCache();
+        List<@Nullable ChannelHandlerContent> otherContentWrappers = new CopyOnWriteArrayList<>();
+        RefreshingUrlCache urlCache = new RefreshingUrlCache(rateLimitedHttpClient, url, thingConfig, TEST_CONTENT,
+                null, statusListener, false, sharedResponseCache);
+        urlCache.addConsumer(contentWrappers::add);
+        RefreshingUrlCache otherUrlCache = new RefreshingUrlCache(rateLimitedHttpClient, url, thingConfig,
+                TEST_CONTENT, null, statusListener, false, sharedResponseCache);
+        otherUrlCache.addConsumer(otherContentWrappers::add);
+        urlCache.start(scheduler, thingConfig.refresh);
+        otherUrlCache.start(scheduler, thingConfig.refresh);
+
+        waitForAssert(() -> {
+            assertTrue(contentWrappers.size() >= 3);
+            assertTrue(otherContentWrappers.size() >= 3);
+        });
+        urlCache.stop();
+        otherUrlCache.stop();
+
+        // both caches got the content, but fewer requests were sent
+        int requests = findAll(getRequestedFor(urlEqualTo(TEST_LOCATION))).size();
+        assertTrue(requests < contentWrappers.size() + otherContentWrappers.size());
+        verify(statusListener, never()).onHttpError(any());
+    }
+
+    @Test
+    public void testRequestsWithDifferentPasswordsAreNotShared() {
+        stubFor(get(urlEqualTo(TEST_LOCATION)).willReturn(aResponse().withBody(TEST_CONTENT)));
+        resetAllRequests();
+
+        thingConfig.username = "user";
+        thingConfig.password = "secret";
+        HttpThingConfig otherThingConfig = new HttpThingConfig();
+        otherThingConfig.baseURL = thingConfig.baseURL;
+        otherThingConfig.timeout = thingConfig.timeout;
+        otherThingConfig.refresh = thingConfig.refresh;
+        otherThingConfig.username = "user";
+        otherThingConfig.password = "wrong";
+
+        SharedResponseCache sharedResponseCache = new SharedResponseCache();
+        List<@Nullable ChannelHandlerContent> otherContentWrappers = new CopyOnWriteArrayList<>();
+        RefreshingUrlCache urlCache = new RefreshingUrlCache(rateLimitedHttpClient, url, thingConfig, TEST_CONTENT,
+                null, statusListener, false, sharedResponseCache);
+        urlCache.addConsumer(contentWrappers::add);
+        RefreshingUrlCache otherUrlCache = new RefreshingUrlCache(rateLimitedHttpClient, url, otherThingConfig,
+                TEST_CONTENT, null, statusListener, false, sharedResponseCache);
+        otherUrlCache.addConsumer(otherContentWrappers::add);
+        urlCache.start(scheduler, thingConfig.refresh);
+        otherUrlCache.start(scheduler, otherThingConfig.refresh);
+
+        waitForAssert(() -> {
+            assertTrue(contentWrappers.size() >= 3);
+            assertTrue(otherContentWrappers.size() >= 3);
+        });
+        urlCache.stop();
+        otherUrlCache.stop();
+
+        // every content was requested by its own cache
+        int requests = findAll(getRequestedFor(urlEqualTo(TEST_LOCATION))).size();
+        assertTrue(requests >= contentWrappers.size() + otherContentWrappers.size());
+    }
+
     /**
      * helper method to create a {@link RefreshingUrlCache} and add a test listener
      *
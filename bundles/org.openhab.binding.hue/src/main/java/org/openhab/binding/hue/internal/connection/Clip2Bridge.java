@@ -45,6 +45,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import javax.net.ssl.HttpsURLConnection;
@@ -609,6 +610,7 @@ public class Clip2Bridge implements Closeable {
     private final Semaphore streamMutex = new Semaphore(MAX_CONCURRENT_STREAMS, true); // i.e. fair
     private final ReadWriteLock sessionUseCreateLock = new ReentrantReadWriteLock(true); // i.e. fair
     private final Map<Integer, Future<?>> fatalErrorTasks = new ConcurrentHashMap<>();
+    private final Clip2CommandQueue commandQueue = new Clip2CommandQueue(jsonParser, this::putResource);
 
     private boolean recreatingSession;
     private boolean closing;
@@ -1150,7 +1152,8 @@ public class Clip2Bridge implements Closeable {
     /**
      * Use an HTTP/2 PUT command to send a resource to the server. Uses a Throttler to prevent too many concurrent
      * calls, and to prevent too frequent calls on the Hue bridge server. Also uses a SessionSynchronizer to delay
-     * accessing the session while it is being recreated.
+     * accessing the session while it is being recreated. Commands to lights and grouped lights are merged while they
+     * wait for the Throttler, see {@link Clip2CommandQueue}.
      *
      * @param resource the resource to put.
      * @return the resource, which may contain errors.
@@ -1158,13 +1161,29 @@ public class Clip2Bridge implements Closeable {
      * @throws InterruptedException
      */
     public Resources putResource(Resource resource) throws ApiException, InterruptedException {
+        return commandQueue.put(resource);
+    }
+
+    /**
+     * Internal method to send an HTTP/2 PUT request to the Hue Bridge and process its response. The payload is only
+     * taken from the command queue once the Throttler permits sending, so that commands which arrive in the meantime
+     * can still be merged into it.
+     *
+     * @param reference the resource to put.
+     * @param payload supplies the JSON payload.
+     * @return the resource, which may contain errors.
+     * @throws ApiException if something fails.
+     * @throws InterruptedException
+     */
+    private Resources putResource(ResourceReference reference, Supplier<String> payload)
+            throws ApiException, InterruptedException {
         Stream stream = null;
         try (Throttler throttler = new Throttler(MAX_CONCURRENT_STREAMS);
                 SessionSynchronizer sessionSynchronizer = new SessionSynchronizer(false)) {
             Session session = getSession();
-            String requestJson = jsonParser.toJson(resource);
+            String requestJson = payload.get();
             ByteBuffer requestBytes = ByteBuffer.wrap(requestJson.getBytes(StandardCharsets.UTF_8));
-            String url = getUrl(new ResourceReference().setId(resource.getId()).setType(resource.getType()));
+            String url = getUrl(reference);
             HeadersFrame headers = prepareHeaders(url, MediaType.APPLICATION_JSON, "PUT", requestBytes.capacity(),
                     MediaType.APPLICATION_JSON);
             LOGGER.trace("PUT {} HTTP/2 >> {}", url, requestJson);
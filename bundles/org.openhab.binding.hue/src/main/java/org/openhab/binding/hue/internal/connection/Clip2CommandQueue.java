@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.ResourceReference;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.binding.hue.internal.exceptions.ApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Queue for HTTP PUT commands to the Hue Bridge. While a command to a light or grouped light is waiting to be sent,
+ * further commands to the same resource are merged into it, whereby the fields of the later command win. So for
+ * example a dimmer slider, or a rule that ramps many lights, only causes one PUT per resource and throttling period,
+ * and the last value reaches the light without waiting behind all the intermediate values. Setting the color or the
+ * color temperature removes the other one from the pending command, as the light can only take one of them. Commands
+ * with an action such as an alert or an effect are never merged, so every action is executed.
+ * <p>
+ * The callers of merged commands receive the response of the PUT that carried their command.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2CommandQueue {
+
+    /**
+     * Interface for sending the PUT request.
+     */
+    @FunctionalInterface
+    public interface Sender {
+        /**
+         * Send a PUT request.
+         *
+         * @param reference the resource to put.
+         * @param payload supplies the JSON payload. It must be called as late as possible, i.e. when the request is
+         *            about to be sent, because commands can be merged into the payload until then.
+         * @return the response.
+         * @throws ApiException if something fails.
+         * @throws InterruptedException
+         */
+        Resources send(ResourceReference reference, Supplier<String> payload)
+                throws ApiException, InterruptedException;
+    }
+
+    /**
+     * A command, or several merged commands, waiting to be sent.
+     */
+    private static class PendingCommand {
+        private final CompletableFuture<Resources> response = new CompletableFuture<>();
+        private final Instant created = Instant.now();
+        private final JsonObject json;
+        private int commandCount = 1;
+
+        private PendingCommand(JsonObject json) {
+            this.json = json;
+        }
+
+        private void merge(JsonObject newJson) {
+            for (Entry<String, JsonElement> entry : newJson.entrySet()) {
+                String exclusiveField = EXCLUSIVE_FIELDS.get(entry.getKey());
+                if (exclusiveField != null) {
+                    json.remove(exclusiveField);
+                }
+                json.add(entry.getKey(), entry.getValue());
+            }
+            commandCount++;
+        }
+    }
+
+    private static final Set<ResourceType> MERGEABLE_TYPES = Set.of(ResourceType.LIGHT, ResourceType.GROUPED_LIGHT);
+    // fields which trigger an action on the light, commands with them are sent on their own
+    private static final Set<String> ACTION_FIELDS = Set.of("alert", "effects", "timed_effects");
+    // fields which replace each other, the later one wins when merging
+    private static final Map<String, String> EXCLUSIVE_FIELDS = Map.of("color", "color_temperature",
+            "color_temperature", "color");
+    private static final int RESPONSE_TIMEOUT_SECONDS = 60;
+
+    private final Logger logger = LoggerFactory.getLogger(Clip2CommandQueue.class);
+    private final Gson jsonParser;
+    private final Sender sender;
+
+    // All access must be guarded by "pendingCommands"
+    private final Map<String, PendingCommand> pendingCommands = new HashMap<>();
+    private int depth;
+
+    public Clip2CommandQueue(Gson jsonParser, Sender sender) {
+        this.jsonParser = jsonParser;
+        this.sender = sender;
+    }
+
+    /**
+     * Put a resource to the Hue Bridge, or merge it into a command to the same resource that is still waiting.
+     *
+     * @param resource the resource to put.
+     * @return the response, which may contain errors.
+     * @throws ApiException if something fails.
+     * @throws InterruptedException
+     */
+    public Resources put(Resource resource) throws ApiException, InterruptedException {
+        ResourceReference reference = new ResourceReference().setId(resource.getId()).setType(resource.getType());
+        if (!MERGEABLE_TYPES.contains(resource.getType()) || resource.getId().isEmpty()) {
+            return sender.send(reference, () -> jsonParser.toJson(resource));
+        }
+        JsonObject json = jsonParser.toJsonTree(resource).getAsJsonObject();
+        if (ACTION_FIELDS.stream().anyMatch(json::has)) {
+            return sender.send(reference, () -> jsonParser.toJson(json));
+        }
+
+        String key = resource.getType().name() + "/" + resource.getId();
+        PendingCommand command;
+        boolean merged;
+        synchronized (pendingCommands) {
+            depth++;
+            PendingCommand pending = pendingCommands.get(key);
+            merged = pending != null;
+            if (pending != null) {
+                pending.merge(json);
+                logger.trace("put() merged command into pending command to {}, queue depth {}", key, depth);
+                command = pending;
+            } else {
+                command = new PendingCommand(json);
+                pendingCommands.put(key, command);
+            }
+        }
+        if (merged) {
+            // the caller that created the pending command sends it
+            return awaitResponse(command);
+        }
+
+        try {
+            Resources response = sender.send(reference, () -> take(key, command));
+            logger.debug("put() {} commands to {} sent with latency {} ms", command.commandCount, key,
+                    Duration.between(command.created, Instant.now()).toMillis());
+            command.response.complete(response);
+            return response;
+        } catch (ApiException | InterruptedException | RuntimeException e) {
+            command.response.completeExceptionally(e);
+            throw e;
+        } finally {
+            // the payload is not taken if sending failed early, e.g. due to interruption
+            remove(key, command);
+        }
+    }
+
+    /**
+     * @return the number of commands waiting to be sent.
+     */
+    public int getDepth() {
+        synchronized (pendingCommands) {
+            return depth;
+        }
+    }
+
+    /**
+     * Remove the pending command from the queue, so no further commands are merged into it, and get its payload.
+     */
+    private String take(String key, PendingCommand command) {
+        synchronized (pendingCommands) {
+            remove(key, command);
+            return jsonParser.toJson(command.json);
+        }
+    }
+
+    private void remove(String key, PendingCommand command) {
+        synchronized (pendingCommands) {
+            if (pendingCommands.remove(key, command)) {
+                depth -= command.commandCount;
+                logger.trace("put() took {} commands to {} from queue, queue depth {}", command.commandCount, key,
+                        depth);
+            }
+        }
+    }
+
+    private Resources awaitResponse(PendingCommand command) throws ApiException, InterruptedException {
+        try {
+            return command.response.get(RESPONSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ApiException apiException) {
+                throw apiException;
+            }
+            throw new ApiException("Error sending merged PUT request", cause);
+        } catch (TimeoutException e) {
+            throw new ApiException("Timeout waiting for merged PUT request", e);
+        }
+    }
+}
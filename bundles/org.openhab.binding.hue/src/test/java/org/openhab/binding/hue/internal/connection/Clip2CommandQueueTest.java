@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.api.dto.clip2.Alerts;
+import org.openhab.binding.hue.internal.api.dto.clip2.ColorTemperature;
+import org.openhab.binding.hue.internal.api.dto.clip2.ColorXy;
+import org.openhab.binding.hue.internal.api.dto.clip2.Dimming;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.api.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ActionType;
+import org.openhab.binding.hue.internal.api.dto.clip2.enums.ResourceType;
+import org.openhab.core.library.types.OnOffType;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests for {@link Clip2CommandQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2CommandQueueTest {
+
+    private static final String LIGHT_ID = "3a6710fa-4474-4eba-b533-5e6e72968feb";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(3);
+    private final List<String> payloads = new CopyOnWriteArrayList<>();
+    private final CountDownLatch sending = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final Resources response = new Resources();
+
+    private final Clip2CommandQueue queue = new Clip2CommandQueue(new Gson(), (reference, payload) -> {
+        sending.countDown();
+        // simulate the Throttler delaying the request
+        release.await(10, TimeUnit.SECONDS);
+        payloads.add(payload.get());
+        return response;
+    });
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void commandsToSameLightAreMerged() throws Exception {
+        Future<Resources> first = executor
+                .submit(() -> queue.put(new Resource(ResourceType.LIGHT).setId(LIGHT_ID).setOnOff(OnOffType.ON)));
+        assertTrue(sending.await(10, TimeUnit.SECONDS));
+
+        Future<Resources> second = executor.submit(() -> queue.put(
+                new Resource(ResourceType.LIGHT).setId(LIGHT_ID).setDimming(new Dimming().setBrightness(50))));
+        for (int i = 0; i < 100 && queue.getDepth() < 2; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, queue.getDepth());
+        release.countDown();
+
+        assertSame(response, first.get(10, TimeUnit.SECONDS));
+        assertSame(response, second.get(10, TimeUnit.SECONDS));
+        assertEquals(1, payloads.size());
+        JsonObject json = JsonParser.parseString(payloads.get(0)).getAsJsonObject();
+        assertTrue(json.getAsJsonObject("on").get("on").getAsBoolean());
+        assertEquals(50, json.getAsJsonObject("dimming").get("brightness").getAsDouble());
+        assertEquals(0, queue.getDepth());
+    }
+
+    @Test
+    public void laterCommandWins() throws Exception {
+        Future<Resources> first = executor
+                .submit(() -> queue.put(new Resource(ResourceType.LIGHT).setId(LIGHT_ID).setOnOff(OnOffType.ON)));
+        assertTrue(sending.await(10, TimeUnit.SECONDS));
+
+        Future<Resources> second = executor
+                .submit(() -> queue.put(new Resource(ResourceType.LIGHT).setId(LIGHT_ID).setOnOff(OnOffType.OFF)));
+        for (int i = 0; i < 100 && queue.getDepth() < 2; i++) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        assertEquals(1, payloads.size());
+        JsonObject json = JsonParser.parseString(payloads.get(0)).getAsJsonObject();
+        assertFalse(json.getAsJsonObject("on").get("on").getAsBoolean());
+    }
+
+    @Test
+    public void colorTemperatureReplacesColor() throws Exception {
+        Future<Resources> first = executor
+                .submit(() -> queue.put(new Resource(ResourceType.LIGHT).setId(LIGHT_ID).setOnOff(OnOffType.ON)));
+        assertTrue(sending.await(10, TimeUnit.SECONDS));
+
+        Resource color = new Resource(ResourceType.LIGHT).setId(LIGHT_ID)
+                .setColorXy(new ColorXy().setXY(new double[] { 0.3, 0.3 }));
+        Resource colorTemperature = new Resource(ResourceType.LIGHT).setId(LIGHT_ID)
+                .setColorTemperature(new ColorTemperature().setMirek(250));
+        Future<Resources> second = executor.submit(() -> queue.put(color));
+        for (int i = 0; i < 100 && queue.getDepth() < 2; i++) {
+            Thread.sleep(10);
+        }
+        Future<Resources> third = executor.submit(() -> queue.put(colorTemperature));
+        for (int i = 0; i < 100 && queue.getDepth() < 3; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(3, queue.getDepth());
+        release.countDown();
+
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        third.get(10, TimeUnit.SECONDS);
+        assertEquals(1, payloads.size());
+        JsonObject json = JsonParser.parseString(payloads.get(0)).getAsJsonObject();
+        assertFalse(json.has("color"));
+        assertEquals(250, json.getAsJsonObject("color_temperature").get("mirek").getAsDouble());
+    }
+
+    @Test
+    public void actionsAreNotMerged() throws Exception {
+        Future<Resources> first = executor
+                .submit(() -> queue.put(new Resource(ResourceType.LIGHT).setId(LIGHT_ID).setOnOff(OnOffType.ON)));
+        assertTrue(sending.await(10, TimeUnit.SECONDS));
+
+        Resource alert = new Resource(ResourceType.LIGHT).setId(LIGHT_ID)
+                .setAlerts(new Alerts().setAction(ActionType.BREATHE));
+        Future<Resources> second = executor.submit(() -> queue.put(alert));
+        Future<Resources> third = executor.submit(() -> queue.put(alert));
+        release.countDown();
+
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        third.get(10, TimeUnit.SECONDS);
+        assertEquals(3, payloads.size());
+        assertEquals(2, payloads.stream().filter(payload -> payload.contains("\"alert\"")).count());
+        assertEquals(0, queue.getDepth());
+    }
+
+    @Test
+    public void otherResourceTypesAreNotMerged() throws Exception {
+        release.countDown();
+        queue.put(new Resource(ResourceType.SCENE).setId(LIGHT_ID));
+        queue.put(new Resource(ResourceType.SCENE).setId(LIGHT_ID));
+        assertEquals(2, payloads.size());
+        assertEquals(0, queue.getDepth());
+    }
+}
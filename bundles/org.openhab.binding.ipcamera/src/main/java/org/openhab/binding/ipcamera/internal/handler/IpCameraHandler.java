@@ -28,6 +28,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -277,11 +278,18 @@ public class IpCameraHandler extends BaseThingHandler {
                     } else {
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
                         if (contentType.contains("image/jp")) {
-                            for (int i = 0; i < content.content().capacity(); i++) {
-                                incomingJpeg[bytesAlreadyReceived++] = content.content().getByte(i);
+                            ByteBuf buffer = content.content();
+                            int length = buffer.readableBytes();
+                            if (bytesAlreadyReceived + length > incomingJpeg.length) {
+                                // Content-Length was missing or wrong
+                                incomingJpeg = Arrays.copyOf(incomingJpeg,
+                                        Math.max(bytesAlreadyReceived + length, incomingJpeg.length * 2));
                             }
+                            buffer.getBytes(buffer.readerIndex(), incomingJpeg, bytesAlreadyReceived, length);
+                            bytesAlreadyReceived += length;
                             if (content instanceof LastHttpContent) {
-                                processSnapshot(incomingJpeg);
+                                processSnapshot(bytesAlreadyReceived == incomingJpeg.length ? incomingJpeg
+                                        : Arrays.copyOf(incomingJpeg, bytesAlreadyReceived));
                                 ctx.close();
                             }
                         } else { // incomingMessage that is not an IMAGE
@@ -226,6 +226,7 @@ public class CameraServlet extends IpCameraServlet {
                         return;
                     }
                 } while (!openStreams.isEmpty());
+                return;
             case "/autofps.mjpeg":
                 handler.streamingAutoFps = true;
                 output = new StreamOutput(resp);
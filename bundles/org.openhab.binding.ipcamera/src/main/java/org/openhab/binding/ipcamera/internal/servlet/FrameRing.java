@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link FrameRing} holds the latest frames of one camera for all clients of a stream. The camera is the only
+ * writer and never waits for the clients. Each client reads at its own position and the frames are shared, so a
+ * frame is stored once no matter how many clients are connected. A client that falls behind by more than the size
+ * of the ring skips the oldest frames.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FrameRing {
+    public static final int DEFAULT_SIZE = 50;
+
+    /**
+     * A frame, or a chunk of a native MJPEG stream, as received from the camera.
+     */
+    public static class Frame {
+        private final long sequence;
+        private final byte[] data;
+        private byte @Nullable [] part;
+
+        Frame(long sequence, byte[] data) {
+            this.sequence = sequence;
+            this.data = data;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        /**
+         * The frame as a part of a multipart stream, so it can be written with a single write. The part is built
+         * once and shared by all clients.
+         *
+         * @param boundary of the multipart stream
+         * @return header, jpeg and footer of the part
+         */
+        public synchronized byte[] getPart(String boundary) {
+            byte[] localPart = part;
+            if (localPart == null) {
+                localPart = toPart(boundary, data);
+                part = localPart;
+            }
+            return localPart;
+        }
+    }
+
+    /**
+     * Builds a part of a multipart stream.
+     *
+     * @param boundary of the multipart stream
+     * @param jpeg the content of the part
+     * @return header, jpeg and footer of the part
+     */
+    public static byte[] toPart(String boundary, byte[] jpeg) {
+        byte[] header = ("--" + boundary + "\r\nContent-Type: image/jpeg\r\nContent-Length: " + jpeg.length
+                + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+        byte[] part = new byte[header.length + jpeg.length + 2];
+        System.arraycopy(header, 0, part, 0, header.length);
+        System.arraycopy(jpeg, 0, part, header.length, jpeg.length);
+        part[part.length - 2] = '\r';
+        part[part.length - 1] = '\n';
+        return part;
+    }
+
+    // All access must be guarded by "this"
+    private final List<@Nullable Frame> frames;
+    private long nextSequence = 0;
+    // the sequence of the first frame received after the last clear()
+    private long firstSequence = 0;
+
+    public FrameRing(int size) {
+        frames = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            frames.add(null);
+        }
+    }
+
+    public synchronized void publish(byte[] data) {
+        frames.set((int) (nextSequence % frames.size()), new Frame(nextSequence, data));
+        nextSequence++;
+        notifyAll();
+    }
+
+    /**
+     * Drops all frames, e.g. when the last client disconnected. The sequence continues, so clients still attached
+     * never read a frame twice.
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < frames.size(); i++) {
+            frames.set(i, null);
+        }
+        firstSequence = nextSequence;
+    }
+
+    /**
+     * @return the sequence of the next frame, a new client starts reading here
+     */
+    public synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * Get the frame with the given sequence, waits if it has not been received yet. If the frame was already
+     * overwritten or cleared, the oldest frame still in the ring is returned, or the next frame received if there is
+     * none.
+     *
+     * @param sequence of the wanted frame
+     * @param timeoutMs how long to wait for the frame
+     * @return the frame, or null if no frame was received within the timeout
+     * @throws InterruptedException
+     */
+    public synchronized @Nullable Frame take(long sequence, long timeoutMs) throws InterruptedException {
+        long oldest = Math.max(firstSequence, nextSequence - frames.size());
+        long wanted = Math.max(sequence, oldest);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (wanted >= nextSequence) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return null;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remainingNanos);
+            // the ring may have been cleared and refilled while waiting
+            wanted = Math.max(wanted, Math.max(firstSequence, nextSequence - frames.size()));
+        }
+        return frames.get((int) (wanted % frames.size()));
+    }
+}
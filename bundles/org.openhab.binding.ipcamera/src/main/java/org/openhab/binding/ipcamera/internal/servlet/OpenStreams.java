@@ -19,22 +19,27 @@ import java.util.List;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams. The frames are put into a single {@link FrameRing}
+ * which is read by all streams, to allow 1 to many streams without needing to open more than 1 source stream.
  *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
 public class OpenStreams {
     private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<>());
+    private final FrameRing frames = new FrameRing(FrameRing.DEFAULT_SIZE);
     public String boundary = "thisMjpegStream";
 
     public synchronized void addStream(StreamOutput stream) {
+        stream.attach(frames);
         openStreams.add(stream);
     }
 
     public synchronized void removeStream(StreamOutput stream) {
         openStreams.remove(stream);
+        if (openStreams.isEmpty()) {
+            frames.clear();
+        }
     }
 
     public synchronized int getNumberOfStreams() {
@@ -52,10 +57,8 @@ public class OpenStreams {
         }
     }
 
-    public synchronized void queueFrame(byte[] frame) {
-        for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
-        }
+    public void queueFrame(byte[] frame) {
+        frames.publish(frame);
     }
 
     public synchronized void closeAllStreams() {
@@ -63,5 +66,6 @@ public class OpenStreams {
             stream.close();
         }
         openStreams.clear();
+        frames.clear();
     }
 }
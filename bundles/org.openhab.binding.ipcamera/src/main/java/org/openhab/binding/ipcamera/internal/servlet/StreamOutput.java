@@ -13,13 +13,13 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.ipcamera.internal.servlet.FrameRing.Frame;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,12 +30,15 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class StreamOutput {
+    private static final long FRAME_TIMEOUT_MS = 1000;
+
     public final Logger logger = LoggerFactory.getLogger(getClass());
     private final HttpServletResponse response;
     private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<>(50);
+    private @Nullable FrameRing frames;
+    private long nextFrame = 0;
     private boolean connected = false;
     public boolean isSnapshotBased = false;
 
@@ -59,29 +62,25 @@ public class StreamOutput {
     }
 
     public void sendSnapshotBasedFrame(byte[] currentSnapshot) throws IOException {
-        String header = "--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
-                + currentSnapshot.length + "\r\n\r\n";
+        sendSnapshotBasedPart(FrameRing.toPart(boundary, currentSnapshot));
+    }
+
+    private void sendSnapshotBasedPart(byte[] part) throws IOException {
         if (!connected) {
             sendInitialHeaders();
             // iOS needs to have two jpgs sent for the picture to appear instantly.
-            output.write(header.getBytes());
-            output.write(currentSnapshot);
-            output.write("\r\n".getBytes());
+            output.write(part);
             connected = true;
         }
-        output.write(header.getBytes());
-        output.write(currentSnapshot);
-        output.write("\r\n".getBytes());
+        output.write(part);
     }
 
-    public void queueFrame(byte[] frame) {
-        try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space: {}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
-        }
+    /**
+     * Start reading the frames of the given ring with the next frame that will be received.
+     */
+    public void attach(FrameRing frames) {
+        nextFrame = frames.getNextSequence();
+        this.frames = frames;
     }
 
     public void updateContentType(String contentType) {
@@ -93,10 +92,23 @@ public class StreamOutput {
     }
 
     public void sendFrame() throws IOException, InterruptedException {
+        FrameRing localFrames = frames;
+        if (localFrames == null) {
+            Thread.sleep(FRAME_TIMEOUT_MS);
+            return;
+        }
+        Frame frame = localFrames.take(nextFrame, FRAME_TIMEOUT_MS);
+        if (frame == null) {
+            return;
+        }
+        if (frame.getSequence() != nextFrame) {
+            logger.debug("Client is too slow, skipped {} frames", frame.getSequence() - nextFrame);
+        }
+        nextFrame = frame.getSequence() + 1;
         if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
+            sendSnapshotBasedPart(frame.getPart(boundary));
         } else if (connected) {
-            output.write(fifo.take());
+            output.write(frame.getData());
         }
     }
 
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.ipcamera.internal.servlet.FrameRing.Frame;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class FrameRingTest {
+
+    private final FrameRing ring = new FrameRing(3);
+
+    private void publish(int count) {
+        for (int i = 0; i < count; i++) {
+            ring.publish(new byte[] { (byte) ring.getNextSequence() });
+        }
+    }
+
+    @Test
+    void framesAreReadInOrder() throws InterruptedException {
+        publish(2);
+
+        Frame frame = ring.take(0, 1);
+        assertNotNull(frame);
+        assertEquals(0, frame.getSequence());
+        frame = ring.take(1, 1);
+        assertNotNull(frame);
+        assertEquals(1, frame.getSequence());
+        assertNull(ring.take(2, 1));
+    }
+
+    @Test
+    void ringWrapsAround() throws InterruptedException {
+        publish(7);
+
+        assertEquals(7, ring.getNextSequence());
+        for (int sequence = 4; sequence < 7; sequence++) {
+            Frame frame = ring.take(sequence, 1);
+            assertNotNull(frame);
+            assertEquals(sequence, frame.getSequence());
+            assertArrayEquals(new byte[] { (byte) sequence }, frame.getData());
+        }
+    }
+
+    @Test
+    void slowReaderSkipsToTheOldestFrame() throws InterruptedException {
+        publish(2);
+        Frame frame = ring.take(0, 1);
+        assertNotNull(frame);
+
+        // the reader falls behind by more than the size of the ring
+        publish(5);
+        frame = ring.take(frame.getSequence() + 1, 1);
+        assertNotNull(frame);
+        assertEquals(4, frame.getSequence());
+    }
+
+    @Test
+    void readerWaitsForTheNextFrame() throws InterruptedException {
+        publish(1);
+        Thread publisher = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                return;
+            }
+            publish(1);
+        });
+        publisher.start();
+
+        Frame frame = ring.take(1, 5000);
+        publisher.join();
+        assertNotNull(frame);
+        assertEquals(1, frame.getSequence());
+    }
+
+    @Test
+    void clearDropsFramesButKeepsTheSequence() throws InterruptedException {
+        publish(2);
+        ring.clear();
+
+        assertEquals(2, ring.getNextSequence());
+        assertNull(ring.take(1, 1));
+        publish(1);
+        Frame frame = ring.take(2, 1);
+        assertNotNull(frame);
+        assertEquals(2, frame.getSequence());
+    }
+
+    @Test
+    void readerOfAClearedFrameWaitsForTheNextFrame() throws InterruptedException {
+        publish(2);
+        ring.clear();
+        Thread publisher = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                return;
+            }
+            publish(1);
+        });
+        publisher.start();
+
+        long start = System.nanoTime();
+        Frame frame = ring.take(1, 5000);
+        long waitedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        publisher.join();
+        assertNotNull(frame);
+        assertEquals(2, frame.getSequence());
+        assertTrue(waitedMs >= 40, "the reader should have waited for the frame instead of returning at once");
+    }
+
+    @Test
+    void readerOfAClearedFrameResumesWithTheFirstFrameAfterClear() throws InterruptedException {
+        publish(2);
+        ring.clear();
+        publish(2);
+
+        Frame frame = ring.take(0, 1);
+        assertNotNull(frame);
+        assertEquals(2, frame.getSequence());
+    }
+
+    @Test
+    void partContainsHeaderJpegAndFooter() {
+        byte[] part = FrameRing.toPart("boundary", new byte[] { 'j', 'p', 'g' });
+
+        assertEquals("--boundary\r\nContent-Type: image/jpeg\r\nContent-Length: 3\r\n\r\njpg\r\n",
+                new String(part, StandardCharsets.US_ASCII));
+    }
+}
@@ -15,13 +15,16 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -85,6 +88,12 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private ClientState state = ClientState.INIT;
 
     private static final int MAX_SEND_ATTEMPTS = 2;
+    private static final int GROUP_ADDRESS_COUNT = 0x10000;
+    // the pause between reads grows up to this factor of the configured reading pause while the bus is slow or busy
+    private static final int MAX_READING_PAUSE_FACTOR = 10;
+    // a TP1 line carries about 40 telegrams per second, reads are slowed down if other devices use more than half of it
+    private static final double BUSY_TELEGRAM_RATE = 20.0;
+    private static final int GROUP_RESPONSE = 0x40;
 
     private final Logger logger = LoggerFactory.getLogger(AbstractKNXClient.class);
 
@@ -107,8 +116,17 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    // listeners indexed by the raw 16 bit group address, the lists are immutable and replaced on every change
+    private final AtomicReferenceArray<@Nullable List<GroupAddressListener>> listenersByAddress = new AtomicReferenceArray<>(
+            GROUP_ADDRESS_COUNT);
+    // the group addresses each listener is indexed with, also used as lock for changes of the index
+    private final Map<GroupAddressListener, Set<GroupAddress>> listenerAddresses = new HashMap<>();
+    private final ReadQueue readDatapoints = new ReadQueue();
+    // incremented on every (dis-)connect, a read loop of an older connection stops rescheduling itself
+    private int readGeneration;
+    private volatile long currentReadingPause;
+    // raw group address of the last read request, the responses to it do not count as load of other devices
+    private volatile int lastReadAddress = -1;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -257,8 +275,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             link.addLinkListener(this);
 
             // create a job carrying out read requests
-            busJob = knxScheduler.scheduleWithFixedDelay(this::readNextQueuedDatapoint, 0, readingPause,
-                    TimeUnit.MILLISECONDS);
+            currentReadingPause = readingPause;
+            scheduleNextRead(++readGeneration, 0);
 
             statusUpdateCallback.updateStatus(ThingStatus.ONLINE);
             connectJob = null;
@@ -313,6 +331,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             tmpLink.removeLinkListener(this);
         }
         readDatapoints.clear();
+        readGeneration++;
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, ManagementProcedures::detach);
@@ -341,12 +360,28 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
+        List<GroupAddressListener> listeners = listenersByAddress.get(destination.getRawAddress());
+        boolean isHandled = listeners != null;
+        boolean isOwnResponse = event.getServiceCode() == GROUP_RESPONSE
+                && destination.getRawAddress() == lastReadAddress;
+        commandExtensionData.telegramStatistics().telegramReceived(isHandled, !isOwnResponse);
+        if (listeners != null) {
+            // notify all listeners of this address in a single task
+            List<GroupAddressListener> addressListeners = listeners;
+            long receivedAt = System.nanoTime();
+            knxScheduler.execute(() -> {
+                commandExtensionData.telegramStatistics().telegramDispatched(System.nanoTime() - receivedAt);
+                for (GroupAddressListener listener : addressListeners) {
+                    if (!listener.listensTo(destination)) {
+                        continue;
+                    }
+                    try {
+                        action.apply(listener, source, destination, asdu);
+                    } catch (RuntimeException e) {
+                        logger.warn("Failed to process {} telegram to '{}': {}", task, destination, e.getMessage(), e);
+                    }
+                }
+            });
         }
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
         // The idea is to store GA, message type, and size as key. The value counts the number of packets.
@@ -364,50 +399,99 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
-    // datapoint is null at end of the list, warning is misleading
-    @SuppressWarnings("null")
-    private void readNextQueuedDatapoint() {
+    private synchronized void scheduleNextRead(int generation, long delay) {
+        if (generation == readGeneration) {
+            busJob = knxScheduler.schedule(() -> readLoop(generation), delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void readLoop(int generation) {
+        long pause = readingPause;
+        try {
+            pause = readNextQueuedDatapoint();
+        } finally {
+            scheduleNextRead(generation, pause);
+        }
+    }
+
+    /**
+     * Sends the next queued read request and waits for the response.
+     *
+     * The pause before the next read is adapted to the bus: it is doubled when a read fails or times out, and it is
+     * reduced step by step to the configured reading pause again while devices respond quickly. The pause never gets
+     * shorter than the time it took the last device to respond, and is doubled while other devices keep the bus busy.
+     *
+     * @return the pause in milliseconds before the next read request should be sent
+     */
+    private long readNextQueuedDatapoint() {
         if (!connectIfNotAutomatic()) {
-            return;
+            return readingPause;
         }
         ProcessCommunicator processCommunicator = this.processCommunicator;
         if (processCommunicator == null) {
-            return;
+            return readingPause;
         }
         ReadDatapoint datapoint = readDatapoints.poll();
-        if (datapoint != null) {
-            // TODO #8872: allow write access, currently only listening mode
-            if (openhabSecurity.groupKeys().containsKey(datapoint.getDatapoint().getMainAddress())) {
-                logger.debug("outgoing secure communication not implemented, explicit read from GA '{}' skipped",
-                        datapoint.getDatapoint().getMainAddress());
-                return;
-            }
+        if (datapoint == null) {
+            return readingPause;
+        }
+        // TODO #8872: allow write access, currently only listening mode
+        if (openhabSecurity.groupKeys().containsKey(datapoint.getDatapoint().getMainAddress())) {
+            logger.debug("outgoing secure communication not implemented, explicit read from GA '{}' skipped",
+                    datapoint.getDatapoint().getMainAddress());
+            return readingPause;
+        }
 
-            datapoint.incrementRetries();
-            try {
-                logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
-                processCommunicator.read(datapoint.getDatapoint());
-            } catch (KNXException e) {
-                // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
-                // KnxIllegalArgumentException
-                if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
-                    logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
-                            datapoint.getDatapoint().getMainAddress(), e.getMessage());
-                } else {
-                    logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
-                            datapoint.getDatapoint().getMainAddress(), datapoint.getLimit());
-                }
-            } catch (InterruptedException | CancellationException e) {
-                logger.debug("Interrupted sending KNX read request");
-            } catch (Exception e) {
-                // Any other exception: Fail gracefully, i.e. notify user and continue reading next DP.
-                // Not catching this would end the scheduled read for all DPs in case of an error.
-                // Severity is warning as this is likely caused by a configuration error.
-                logger.warn("Error reading datapoint {}: {}", datapoint.getDatapoint().getMainAddress(),
-                        e.getMessage());
+        long pause = currentReadingPause;
+        datapoint.incrementRetries();
+        try {
+            logger.trace("Sending a {} priority Group Read Request telegram for {}", datapoint.getPriority(),
+                    datapoint.getDatapoint().getMainAddress());
+            long start = System.nanoTime();
+            lastReadAddress = datapoint.getDatapoint().getMainAddress().getRawAddress();
+            processCommunicator.read(datapoint.getDatapoint());
+            pause = adaptReadingPause(pause, readingPause, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (KNXException e) {
+            // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
+            // KnxIllegalArgumentException
+            pause = adaptReadingPause(pause, readingPause, -1);
+            if (datapoint.getRetries() < datapoint.getLimit()) {
+                readDatapoints.add(datapoint);
+                logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
+                        datapoint.getDatapoint().getMainAddress(), e.getMessage());
+            } else {
+                logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
+                        datapoint.getDatapoint().getMainAddress(), datapoint.getLimit());
             }
-        }
+        } catch (InterruptedException | CancellationException e) {
+            logger.debug("Interrupted sending KNX read request");
+        } catch (Exception e) {
+            // Any other exception: Fail gracefully, i.e. notify user and continue reading next DP.
+            // Not catching this would end the scheduled read for all DPs in case of an error.
+            // Severity is warning as this is likely caused by a configuration error.
+            logger.warn("Error reading datapoint {}: {}", datapoint.getDatapoint().getMainAddress(), e.getMessage());
+        }
+        currentReadingPause = pause;
+        if (commandExtensionData.telegramStatistics().getBusLoad() > BUSY_TELEGRAM_RATE) {
+            return Math.max(pause, 2L * readingPause);
+        }
+        return pause;
+    }
+
+    /**
+     * Calculates the pause before the next read request from the result of the last one.
+     *
+     * @param pause the current pause in milliseconds
+     * @param readingPause the configured reading pause in milliseconds
+     * @param latency the time in milliseconds it took the device to respond, or a negative value if the read failed
+     * @return the new pause in milliseconds
+     */
+    static long adaptReadingPause(long pause, int readingPause, long latency) {
+        long maxPause = (long) readingPause * MAX_READING_PAUSE_FACTOR;
+        if (latency < 0) {
+            return Math.min(maxPause, Math.max(readingPause, pause * 2));
+        }
+        return Math.min(maxPause, Math.max(Math.max(readingPause, pause * 3 / 4), latency));
     }
 
     public void dispose() {
@@ -509,23 +593,48 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        readDatapoints.add(new ReadDatapoint(datapoint, readRetriesLimit, priority));
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        synchronized (listenerAddresses) {
+            removeFromIndex(listener);
+            Set<GroupAddress> addresses = Set.copyOf(listener.getGroupAddresses());
+            listenerAddresses.put(listener, addresses);
+            for (GroupAddress address : addresses) {
+                int rawAddress = address.getRawAddress();
+                List<GroupAddressListener> listeners = listenersByAddress.get(rawAddress);
+                List<GroupAddressListener> newListeners = listeners == null ? new ArrayList<>(1)
+                        : new ArrayList<>(listeners);
+                newListeners.add(listener);
+                listenersByAddress.set(rawAddress, List.copyOf(newListeners));
+            }
+        }
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        synchronized (listenerAddresses) {
+            removeFromIndex(listener);
+        }
+    }
+
+    // must be called with the lock on listenerAddresses held
+    private void removeFromIndex(GroupAddressListener listener) {
+        Set<GroupAddress> addresses = listenerAddresses.remove(listener);
+        if (addresses == null) {
+            return;
+        }
+        for (GroupAddress address : addresses) {
+            int rawAddress = address.getRawAddress();
+            List<GroupAddressListener> listeners = listenersByAddress.get(rawAddress);
+            if (listeners != null) {
+                List<GroupAddressListener> newListeners = listeners.stream().filter(l -> l != listener).toList();
+                listenersByAddress.set(rawAddress, newListeners.isEmpty() ? null : newListeners);
+            }
+        }
     }
 
     @Override
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.calimero.GroupAddress;
+
+/**
+ * Queue of pending read requests.
+ * <p>
+ * There is at most one pending read per group address. Reads are returned by priority, and in the order they were
+ * queued within the same priority. Queuing a read for a group address which is already pending with a lower priority
+ * moves it to the higher priority.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ReadQueue {
+    // one queue per priority, indexed by the ordinal of the priority
+    private final List<Map<GroupAddress, ReadDatapoint>> queues = new ArrayList<>();
+
+    public ReadQueue() {
+        for (int i = 0; i < ReadPriority.values().length; i++) {
+            queues.add(new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Queues a read, unless a read for the same group address is already pending with the same or a higher priority.
+     *
+     * @param datapoint the read
+     * @return true if the read was queued or moved to a higher priority
+     */
+    public synchronized boolean add(ReadDatapoint datapoint) {
+        GroupAddress address = datapoint.getDatapoint().getMainAddress();
+        int priority = datapoint.getPriority().ordinal();
+        for (int i = 0; i < queues.size(); i++) {
+            Map<GroupAddress, ReadDatapoint> queue = queues.get(i);
+            if (queue.containsKey(address)) {
+                if (i <= priority) {
+                    return false;
+                }
+                queue.remove(address);
+                break;
+            }
+        }
+        queues.get(priority).put(address, datapoint);
+        return true;
+    }
+
+    /**
+     * Removes the next read to be sent.
+     *
+     * @return the read with the highest priority, or null if the queue is empty
+     */
+    public synchronized @Nullable ReadDatapoint poll() {
+        for (Map<GroupAddress, ReadDatapoint> queue : queues) {
+            Iterator<ReadDatapoint> iterator = queue.values().iterator();
+            if (iterator.hasNext()) {
+                ReadDatapoint datapoint = iterator.next();
+                iterator.remove();
+                return datapoint;
+            }
+        }
+        return null;
+    }
+
+    public synchronized int size() {
+        int size = 0;
+        for (Map<GroupAddress, ReadDatapoint> queue : queues) {
+            size += queue.size();
+        }
+        return size;
+    }
+
+    public synchronized void clear() {
+        for (Map<GroupAddress, ReadDatapoint> queue : queues) {
+            queue.clear();
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Counts incoming group telegrams and measures how long they wait before they are dispatched to the listeners.
+ * The figures can be shown on the console using knx:statistics.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TelegramStatistics {
+    private static final int RATE_WINDOW_SECONDS = 60;
+    private static final int BUS_LOAD_WINDOW_SECONDS = 5;
+
+    private final LongAdder telegrams = new LongAdder();
+    private final LongAdder unhandledTelegrams = new LongAdder();
+    private final LongAdder dispatches = new LongAdder();
+    private final LongAdder dispatchLatencyNanos = new LongAdder();
+    private final AtomicLong maxDispatchLatencyNanos = new AtomicLong();
+
+    private final RateWindow telegramRate = new RateWindow(RATE_WINDOW_SECONDS);
+    // only telegrams of other devices, used to detect a busy bus
+    private final RateWindow busLoad = new RateWindow(BUS_LOAD_WINDOW_SECONDS);
+
+    /**
+     * Counts a received group telegram.
+     *
+     * @param handled true if at least one listener is registered for the destination
+     * @param foreign false if the telegram is a response to a read request of this client
+     */
+    public void telegramReceived(boolean handled, boolean foreign) {
+        telegramReceived(handled, foreign, currentSecond());
+    }
+
+    void telegramReceived(boolean handled, boolean foreign, long second) {
+        telegrams.increment();
+        if (!handled) {
+            unhandledTelegrams.increment();
+        }
+        telegramRate.increment(second);
+        if (foreign) {
+            busLoad.increment(second);
+        }
+    }
+
+    /**
+     * Records the time a telegram waited for its dispatch task.
+     *
+     * @param latencyNanos the time between reception and start of the dispatch in nanoseconds
+     */
+    public void telegramDispatched(long latencyNanos) {
+        dispatches.increment();
+        dispatchLatencyNanos.add(latencyNanos);
+        maxDispatchLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    public long getTelegrams() {
+        return telegrams.sum();
+    }
+
+    public long getUnhandledTelegrams() {
+        return unhandledTelegrams.sum();
+    }
+
+    /**
+     * @return the average number of telegrams per second during the last minute
+     */
+    public double getTelegramRate() {
+        return telegramRate.getRate(currentSecond());
+    }
+
+    /**
+     * @return the average number of telegrams per second of other devices during the last few seconds, excluding the
+     *         responses to the read requests of this client
+     */
+    public double getBusLoad() {
+        return getBusLoad(currentSecond());
+    }
+
+    double getBusLoad(long second) {
+        return busLoad.getRate(second);
+    }
+
+    public long getAverageDispatchLatencyMicros() {
+        long count = dispatches.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(dispatchLatencyNanos.sum() / count);
+    }
+
+    public long getMaxDispatchLatencyMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxDispatchLatencyNanos.get());
+    }
+
+    private long currentSecond() {
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+    }
+
+    /**
+     * Telegrams per second of the last seconds, as ring buffer indexed by second. Each slot holds the second in the
+     * upper and the count in the lower bits, so a slot is reset and counted in a single atomic update.
+     */
+    private static class RateWindow {
+        private static final int COUNT_BITS = 20;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+        private final int size;
+        private final AtomicLongArray slots;
+
+        RateWindow(int size) {
+            this.size = size;
+            slots = new AtomicLongArray(size);
+        }
+
+        void increment(long second) {
+            int slot = (int) Math.floorMod(second, size);
+            slots.getAndUpdate(slot, packed -> {
+                if (packed >> COUNT_BITS != second) {
+                    return second << COUNT_BITS | 1;
+                }
+                return (packed & COUNT_MASK) == COUNT_MASK ? packed : packed + 1;
+            });
+        }
+
+        double getRate(long second) {
+            long count = 0;
+            for (int slot = 0; slot < size; slot++) {
+                long packed = slots.get(slot);
+                long slotSecond = packed >> COUNT_BITS;
+                // the current second is not complete yet
+                if (slotSecond != second && second - slotSecond <= size) {
+                    count += packed & COUNT_MASK;
+                }
+            }
+            return (double) count / size;
+        }
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Map.Entry;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.KNXBindingConstants;
+import org.openhab.binding.knx.internal.client.TelegramStatistics;
 import org.openhab.binding.knx.internal.factory.KNXHandlerFactory;
 import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler;
 import org.openhab.core.io.console.Console;
@@ -39,7 +40,9 @@ import org.osgi.service.component.annotations.Reference;
 public class KNXCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
 
     private static final String CMD_LIST_UNKNOWN_GA = "list-unknown-ga";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST_UNKNOWN_GA), false);
+    private static final String CMD_STATISTICS = "statistics";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST_UNKNOWN_GA, CMD_STATISTICS), false);
 
     private final KNXHandlerFactory knxHandlerFactory;
 
@@ -61,13 +64,28 @@ public class KNXCommandExtension extends AbstractConsoleCommandExtension impleme
             }
             return;
         }
+        if (args.length == 1 && CMD_STATISTICS.equalsIgnoreCase(args[0])) {
+            for (KNXBridgeBaseThingHandler bridgeHandler : knxHandlerFactory.getBridges()) {
+                TelegramStatistics statistics = bridgeHandler.getCommandExtensionData().telegramStatistics();
+                console.println("KNX bridge \"" + bridgeHandler.getThing().getLabel() + "\":");
+                console.println(String.format("  group telegrams received: %d (%d for unknown group addresses)",
+                        statistics.getTelegrams(), statistics.getUnhandledTelegrams()));
+                console.println(String.format("  telegram rate (last minute): %.1f/s", statistics.getTelegramRate()));
+                console.println(String.format("  bus load of other devices (last seconds): %.1f/s",
+                        statistics.getBusLoad()));
+                console.println(String.format("  dispatch latency: %d µs average, %d µs maximum",
+                        statistics.getAverageDispatchLatencyMicros(), statistics.getMaxDispatchLatencyMicros()));
+            }
+            return;
+        }
         printUsage(console);
     }
 
     @Override
     public List<String> getUsages() {
-        return List
-                .of(buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"));
+        return List.of(
+                buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"),
+                buildCommandUsage(CMD_STATISTICS, "show the rate and dispatch latency of received group telegrams"));
     }
 
     @Override
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Field;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler.CommandExtensionData;
+import org.openhab.core.thing.ThingUID;
+
+import io.calimero.GroupAddress;
+import io.calimero.IndividualAddress;
+import io.calimero.link.KNXNetworkLink;
+import io.calimero.process.ProcessEvent;
+import io.calimero.process.ProcessListener;
+import io.calimero.secure.Security;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class AbstractKNXClientTest {
+
+    private static final int READING_PAUSE = 50;
+    private static final GroupAddress ADDRESS = new GroupAddress(1, 2, 3);
+    private static final GroupAddress OTHER_ADDRESS = new GroupAddress(1, 2, 4);
+    private static final IndividualAddress SOURCE = new IndividualAddress(1, 1, 1);
+    private static final byte[] ASDU = new byte[] { 1 };
+
+    private @NonNullByDefault({}) TelegramStatistics statistics;
+    private @NonNullByDefault({}) AbstractKNXClient client;
+    private @NonNullByDefault({}) ProcessListener processListener;
+
+    @BeforeEach
+    void setUp() throws ReflectiveOperationException {
+        // run the dispatch tasks synchronously
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable> getArgument(0).run();
+            return null;
+        }).when(scheduler).execute(any());
+        statistics = new TelegramStatistics();
+        client = new AbstractKNXClient(0, new ThingUID("knx", "ip", "test"), 10, READING_PAUSE, 3, scheduler,
+                new CommandExtensionData(new TreeMap<>(), statistics), mock(Security.class),
+                mock(StatusUpdateCallback.class)) {
+            @Override
+            protected KNXNetworkLink establishConnection() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        Field field = AbstractKNXClient.class.getDeclaredField("processListener");
+        field.setAccessible(true);
+        processListener = (ProcessListener) field.get(client);
+    }
+
+    @Test
+    void failedReadsDoubleThePauseUpToTheLimit() {
+        long pause = READING_PAUSE;
+        pause = AbstractKNXClient.adaptReadingPause(pause, READING_PAUSE, -1);
+        assertEquals(100, pause);
+        pause = AbstractKNXClient.adaptReadingPause(pause, READING_PAUSE, -1);
+        assertEquals(200, pause);
+        for (int i = 0; i < 10; i++) {
+            pause = AbstractKNXClient.adaptReadingPause(pause, READING_PAUSE, -1);
+        }
+        assertEquals(10 * READING_PAUSE, pause);
+    }
+
+    @Test
+    void quickResponsesReduceThePauseToTheReadingPause() {
+        long pause = 400;
+        pause = AbstractKNXClient.adaptReadingPause(pause, READING_PAUSE, 10);
+        assertEquals(300, pause);
+        for (int i = 0; i < 20; i++) {
+            pause = AbstractKNXClient.adaptReadingPause(pause, READING_PAUSE, 10);
+        }
+        assertEquals(READING_PAUSE, pause);
+    }
+
+    @Test
+    void pauseIsNotShorterThanTheLastResponseTime() {
+        assertEquals(120, AbstractKNXClient.adaptReadingPause(READING_PAUSE, READING_PAUSE, 120));
+        assertEquals(10 * READING_PAUSE, AbstractKNXClient.adaptReadingPause(READING_PAUSE, READING_PAUSE, 5000));
+    }
+
+    @Test
+    void allListenersOfAnAddressAreNotified() {
+        GroupAddressListener first = listenerFor(ADDRESS);
+        GroupAddressListener second = listenerFor(ADDRESS, OTHER_ADDRESS);
+        GroupAddressListener other = listenerFor(OTHER_ADDRESS);
+
+        processListener.groupWrite(groupWrite(ADDRESS));
+
+        verify(first).onGroupWrite(client, SOURCE, ADDRESS, ASDU);
+        verify(second).onGroupWrite(client, SOURCE, ADDRESS, ASDU);
+        verify(other, never()).onGroupWrite(any(), any(), any(), any());
+        assertEquals(0, statistics.getUnhandledTelegrams());
+    }
+
+    @Test
+    void unregisteringDuringDispatchAffectsTheNextTelegram() {
+        GroupAddressListener first = listenerFor(ADDRESS);
+        GroupAddressListener second = listenerFor(ADDRESS);
+        doAnswer(invocation -> {
+            client.unregisterGroupAddressListener(second);
+            return null;
+        }).when(first).onGroupWrite(any(), any(), any(), any());
+
+        // the telegram is dispatched to the listeners registered when it was received
+        processListener.groupWrite(groupWrite(ADDRESS));
+        verify(second).onGroupWrite(client, SOURCE, ADDRESS, ASDU);
+
+        processListener.groupWrite(groupWrite(ADDRESS));
+        verify(first, times(2)).onGroupWrite(client, SOURCE, ADDRESS, ASDU);
+        verify(second, times(1)).onGroupWrite(client, SOURCE, ADDRESS, ASDU);
+
+        client.unregisterGroupAddressListener(first);
+        processListener.groupWrite(groupWrite(ADDRESS));
+        verify(first, times(2)).onGroupWrite(client, SOURCE, ADDRESS, ASDU);
+        assertEquals(1, statistics.getUnhandledTelegrams());
+    }
+
+    @Test
+    void failingListenerDoesNotStopTheOthers() {
+        GroupAddressListener failing = listenerFor(ADDRESS);
+        GroupAddressListener working = listenerFor(ADDRESS);
+        doThrow(new IllegalStateException("test")).when(failing).onGroupWrite(any(), any(), any(), any());
+
+        assertDoesNotThrow(() -> processListener.groupWrite(groupWrite(ADDRESS)));
+
+        verify(failing).onGroupWrite(client, SOURCE, ADDRESS, ASDU);
+        verify(working).onGroupWrite(client, SOURCE, ADDRESS, ASDU);
+    }
+
+    private GroupAddressListener listenerFor(GroupAddress... addresses) {
+        Set<GroupAddress> groupAddresses = Set.of(addresses);
+        GroupAddressListener listener = mock(GroupAddressListener.class);
+        when(listener.getGroupAddresses()).thenReturn(groupAddresses);
+        when(listener.listensTo(any())).thenAnswer(invocation -> groupAddresses.contains(invocation.getArgument(0)));
+        client.registerGroupAddressListener(listener);
+        return listener;
+    }
+
+    private ProcessEvent groupWrite(GroupAddress destination) {
+        ProcessEvent event = mock(ProcessEvent.class);
+        when(event.getSourceAddr()).thenReturn(SOURCE);
+        when(event.getDestination()).thenReturn(destination);
+        when(event.getServiceCode()).thenReturn(0x80);
+        when(event.getASDU()).thenReturn(ASDU);
+        return event;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import io.calimero.GroupAddress;
+import io.calimero.datapoint.CommandDP;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ReadQueueTest {
+
+    @Test
+    void pollsByPriorityAndOrder() {
+        ReadQueue queue = new ReadQueue();
+        queue.add(read(1, ReadPriority.LOW));
+        queue.add(read(2, ReadPriority.NORMAL));
+        queue.add(read(3, ReadPriority.NORMAL));
+        queue.add(read(4, ReadPriority.HIGH));
+
+        assertEquals(4, queue.size());
+        assertEquals(4, pollAddress(queue));
+        assertEquals(2, pollAddress(queue));
+        assertEquals(3, pollAddress(queue));
+        assertEquals(1, pollAddress(queue));
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void deduplicatesGroupAddresses() {
+        ReadQueue queue = new ReadQueue();
+        assertTrue(queue.add(read(1, ReadPriority.NORMAL)));
+        assertFalse(queue.add(read(1, ReadPriority.NORMAL)));
+        assertFalse(queue.add(read(1, ReadPriority.LOW)));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void upgradesPriority() {
+        ReadQueue queue = new ReadQueue();
+        queue.add(read(1, ReadPriority.LOW));
+        queue.add(read(2, ReadPriority.HIGH));
+        assertTrue(queue.add(read(1, ReadPriority.HIGH)));
+
+        assertEquals(2, queue.size());
+        assertEquals(2, pollAddress(queue));
+        ReadDatapoint datapoint = Objects.requireNonNull(queue.poll());
+        assertEquals(1, datapoint.getDatapoint().getMainAddress().getRawAddress());
+        assertEquals(ReadPriority.HIGH, datapoint.getPriority());
+    }
+
+    private static ReadDatapoint read(int address, ReadPriority priority) {
+        return new ReadDatapoint(new CommandDP(new GroupAddress(address), "test", 0, "1.001"), 3, priority);
+    }
+
+    private static int pollAddress(ReadQueue queue) {
+        return Objects.requireNonNull(queue.poll()).getDatapoint().getMainAddress().getRawAddress();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class TelegramStatisticsTest {
+
+    @Test
+    void countsTelegrams() {
+        TelegramStatistics statistics = new TelegramStatistics();
+        statistics.telegramReceived(true, true);
+        statistics.telegramReceived(false, true);
+        statistics.telegramReceived(true, false);
+
+        assertEquals(3, statistics.getTelegrams());
+        assertEquals(1, statistics.getUnhandledTelegrams());
+    }
+
+    @Test
+    void busLoadExcludesOwnResponses() {
+        TelegramStatistics statistics = new TelegramStatistics();
+        for (int i = 0; i < 100; i++) {
+            statistics.telegramReceived(true, false, 10);
+        }
+        for (int i = 0; i < 25; i++) {
+            statistics.telegramReceived(true, true, 10);
+        }
+
+        // 25 foreign telegrams within the window of 5 seconds
+        assertEquals(5.0, statistics.getBusLoad(11));
+    }
+
+    @Test
+    void busLoadOnlyCoversTheLastSeconds() {
+        TelegramStatistics statistics = new TelegramStatistics();
+        for (int i = 0; i < 200; i++) {
+            statistics.telegramReceived(true, true, 10);
+        }
+
+        assertEquals(40.0, statistics.getBusLoad(11));
+        assertEquals(0.0, statistics.getBusLoad(16));
+    }
+
+    @Test
+    void concurrentTelegramsAreNotLostWhenASlotIsReused() throws InterruptedException {
+        TelegramStatistics statistics = new TelegramStatistics();
+        statistics.telegramReceived(true, true, 10);
+
+        // second 15 reuses the slot of second 10, the reset must not drop telegrams counted by other threads
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    statistics.telegramReceived(true, true, 15);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(800.0, statistics.getBusLoad(16));
+    }
+
+    @Test
+    void measuresDispatchLatency() {
+        TelegramStatistics statistics = new TelegramStatistics();
+        assertEquals(0, statistics.getAverageDispatchLatencyMicros());
+
+        statistics.telegramDispatched(TimeUnit.MICROSECONDS.toNanos(100));
+        statistics.telegramDispatched(TimeUnit.MICROSECONDS.toNanos(300));
+
+        assertEquals(200, statistics.getAverageDispatchLatencyMicros());
+        assertEquals(300, statistics.getMaxDispatchLatencyMicros());
+    }
+}
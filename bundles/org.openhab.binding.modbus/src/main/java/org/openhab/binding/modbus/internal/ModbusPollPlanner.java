@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.exception.ModbusSlaveErrorResponseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ModbusPollPlanner} merges the regular polls of the pollers of one endpoint. Polls with the same slave
+ * id, function code, refresh interval and maximum tries are read with one request, if the gap between them is not
+ * larger than the configured gap and the merged request does not exceed the protocol limits. The response is sliced
+ * back into one response per poller, so the pollers and their data things are not aware of the merging.
+ *
+ * If the slave rejects a merged request as illegal (e.g. because the gap contains unmapped registers), the pollers
+ * of that request are read with separate requests again.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollPlanner {
+
+    /**
+     * Handle of a registered poll, needed to unregister the poll.
+     */
+    public static final class Registration {
+        private final ModbusReadRequestBlueprint request;
+        private final long refreshMillis;
+        private final ModbusReadCallback resultCallback;
+        private final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback;
+        // Set when a merged request containing this poll was rejected by the slave
+        private boolean separate;
+
+        private Registration(ModbusReadRequestBlueprint request, long refreshMillis, ModbusReadCallback resultCallback,
+                ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+            this.request = request;
+            this.refreshMillis = refreshMillis;
+            this.resultCallback = resultCallback;
+            this.failureCallback = failureCallback;
+        }
+
+        private GroupKey getGroupKey() {
+            return new GroupKey(request.getUnitID(), request.getFunctionCode(), refreshMillis, request.getMaxTries());
+        }
+
+        private int getStart() {
+            return request.getReference();
+        }
+
+        private int getEnd() {
+            return request.getReference() + request.getDataLength();
+        }
+    }
+
+    /**
+     * Polls can only be merged within the same group
+     */
+    private record GroupKey(int unitId, ModbusReadFunctionCode functionCode, long refreshMillis, int maxTries) {
+    }
+
+    /**
+     * One request, which is polled regularly and serves one or more registrations
+     */
+    private class Block implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        private final GroupKey key;
+        private final List<Registration> members;
+        private final ModbusReadRequestBlueprint request;
+        private volatile @Nullable PollTask pollTask;
+        private volatile boolean retired;
+
+        private Block(GroupKey key, List<Registration> members) {
+            this.key = key;
+            this.members = List.copyOf(members);
+            int start = members.stream().mapToInt(Registration::getStart).min().orElse(0);
+            int end = members.stream().mapToInt(Registration::getEnd).max().orElse(0);
+            this.request = new ModbusReadRequestBlueprint(key.unitId(), key.functionCode(), start, end - start,
+                    key.maxTries());
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            if (retired) {
+                return;
+            }
+            Optional<ModbusRegisterArray> registers = result.getRegisters();
+            Optional<BitArray> bits = result.getBits();
+            for (Registration member : members) {
+                int offset = member.getStart() - request.getReference();
+                int length = member.request.getDataLength();
+                AsyncModbusReadResult memberResult;
+                if (registers.isPresent()) {
+                    ModbusRegisterArray blockRegisters = registers.get();
+                    memberResult = new AsyncModbusReadResult(member.request,
+                            members.size() == 1 ? blockRegisters
+                                    : new ModbusRegisterArray(Arrays.copyOfRange(blockRegisters.getBytes(),
+                                            offset * 2, (offset + length) * 2)));
+                } else if (bits.isPresent()) {
+                    BitArray blockBits = bits.get();
+                    BitArray memberBits = blockBits;
+                    if (members.size() > 1) {
+                        memberBits = new BitArray(length);
+                        for (int i = 0; i < length; i++) {
+                            memberBits.setBit(i, blockBits.getBit(offset + i));
+                        }
+                    }
+                    memberResult = new AsyncModbusReadResult(member.request, memberBits);
+                } else {
+                    logger.debug("Response to {} contains neither registers nor bits", request);
+                    return;
+                }
+                member.resultCallback.handle(memberResult);
+            }
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            if (retired) {
+                return;
+            }
+            if (members.size() > 1 && isIllegalRequest(failure.getCause())) {
+                logger.debug("Slave rejected merged request {}, polling the {} merged polls separately", request,
+                        members.size());
+                separate(this);
+                return;
+            }
+            for (Registration member : members) {
+                member.failureCallback.handle(new AsyncModbusFailure<>(member.request, failure.getCause()));
+            }
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusPollPlanner.class);
+    private final ModbusCommunicationInterface comms;
+    private final int maxGap;
+
+    // All access must be guarded by "this"
+    private final Set<Registration> registrations = new LinkedHashSet<>();
+    private final Map<GroupKey, List<Block>> blocks = new HashMap<>();
+
+    /**
+     * Creates a new planner
+     *
+     * @param comms communication interface of the endpoint
+     * @param maxGap maximum number of registers or coils between two polls to merge them, negative to disable merging
+     */
+    public ModbusPollPlanner(ModbusCommunicationInterface comms, int maxGap) {
+        this.comms = comms;
+        this.maxGap = maxGap;
+    }
+
+    /**
+     * Register a regular poll. The callbacks are called with the given request, even if the poll was merged.
+     *
+     * @param request the request to poll
+     * @param refreshMillis the poll interval in milliseconds
+     * @param resultCallback callback for the results
+     * @param failureCallback callback for the failures
+     * @return handle to unregister the poll
+     */
+    public synchronized Registration register(ModbusReadRequestBlueprint request, long refreshMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        Registration registration = new Registration(request, refreshMillis, resultCallback, failureCallback);
+        registrations.add(registration);
+        plan(registration.getGroupKey());
+        return registration;
+    }
+
+    /**
+     * Unregister a regular poll. No-op if the poll is not registered.
+     *
+     * @param registration the handle returned when registering
+     */
+    public synchronized void unregister(Registration registration) {
+        if (registrations.remove(registration)) {
+            plan(registration.getGroupKey());
+        }
+    }
+
+    /**
+     * Unregister all polls
+     */
+    public synchronized void close() {
+        registrations.clear();
+        blocks.values().forEach(groupBlocks -> groupBlocks.forEach(this::retire));
+        blocks.clear();
+    }
+
+    /**
+     * @return number of requests which are polled regularly
+     */
+    synchronized int getRequestCount() {
+        return blocks.values().stream().mapToInt(List::size).sum();
+    }
+
+    private synchronized void separate(Block block) {
+        if (block.retired) {
+            return;
+        }
+        block.members.forEach(member -> member.separate = true);
+        plan(block.key);
+    }
+
+    /**
+     * Calculate the requests of the given group. Requests which are not changed keep polling, the other requests
+     * are replaced.
+     */
+    private void plan(GroupKey key) {
+        List<Registration> members = registrations.stream().filter(r -> key.equals(r.getGroupKey()))
+                .sorted(Comparator.comparingInt(Registration::getStart).thenComparingInt(Registration::getEnd))
+                .toList();
+        int maxLength = switch (key.functionCode()) {
+            case READ_COILS, READ_INPUT_DISCRETES -> ModbusConstants.MAX_BITS_READ_COUNT;
+            default -> ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        };
+
+        List<List<Registration>> plannedMembers = new ArrayList<>();
+        List<Registration> current = new ArrayList<>();
+        int currentStart = 0;
+        int currentEnd = 0;
+        for (Registration member : members) {
+            boolean merge = !current.isEmpty() && maxGap >= 0 && !member.separate && !current.get(0).separate
+                    && member.getStart() - currentEnd <= maxGap
+                    && Math.max(currentEnd, member.getEnd()) - currentStart <= maxLength;
+            if (merge) {
+                currentEnd = Math.max(currentEnd, member.getEnd());
+            } else {
+                current = new ArrayList<>();
+                plannedMembers.add(current);
+                currentStart = member.getStart();
+                currentEnd = member.getEnd();
+            }
+            current.add(member);
+        }
+
+        List<Block> oldBlocks = blocks.getOrDefault(key, List.of());
+        List<Block> newBlocks = new ArrayList<>();
+        for (List<Registration> blockMembers : plannedMembers) {
+            Block block = oldBlocks.stream().filter(b -> b.members.equals(blockMembers)).findFirst().orElse(null);
+            if (block == null) {
+                block = new Block(key, blockMembers);
+                block.pollTask = comms.registerRegularPoll(block.request, key.refreshMillis(), 0, block, block);
+                if (blockMembers.size() > 1) {
+                    logger.debug("Merged {} polls into request {}", blockMembers.size(), block.request);
+                }
+            }
+            newBlocks.add(block);
+        }
+        oldBlocks.stream().filter(b -> !newBlocks.contains(b)).forEach(this::retire);
+
+        if (newBlocks.isEmpty()) {
+            blocks.remove(key);
+        } else {
+            blocks.put(key, newBlocks);
+        }
+    }
+
+    private void retire(Block block) {
+        block.retired = true;
+        PollTask pollTask = block.pollTask;
+        if (pollTask != null) {
+            comms.unregisterRegularPoll(pollTask);
+        }
+    }
+
+    private static boolean isIllegalRequest(Exception cause) {
+        if (cause instanceof ModbusSlaveErrorResponseException errorResponse) {
+            int code = errorResponse.getExceptionCode();
+            return code == ModbusSlaveErrorResponseException.ILLEGAL_DATA_ACCESS
+                    || code == ModbusSlaveErrorResponseException.ILLEGAL_DATA_VALUE;
+        }
+        return false;
+    }
+}
@@ -95,6 +95,12 @@ public class ModbusSerialThingHandler
                 Optional.ofNullable(this.endpoint).map(e -> e.getPortName()).orElse("<null>"));
     }
 
+    @Override
+    protected int getPollMergeGap() {
+        ModbusSerialConfiguration localConfig = config;
+        return localConfig == null ? -1 : localConfig.getPollMergeGap();
+    }
+
     @Override
     public int getSlaveId() throws EndpointNotInitializedException {
         ModbusSerialConfiguration config = this.config;
@@ -73,6 +73,12 @@ public class ModbusTcpThingHandler
                 Optional.ofNullable(this.endpoint).map(e -> String.valueOf(e.getPort())).orElse("<null>"));
     }
 
+    @Override
+    protected int getPollMergeGap() {
+        ModbusTcpConfiguration localConfig = config;
+        return localConfig == null ? -1 : localConfig.getPollMergeGap();
+    }
+
     @Override
     public int getSlaveId() throws EndpointNotInitializedException {
         ModbusTcpConfiguration localConfig = config;
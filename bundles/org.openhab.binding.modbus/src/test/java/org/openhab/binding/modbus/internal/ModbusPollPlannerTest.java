@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.openhab.core.io.transport.modbus.exception.ModbusSlaveErrorResponseException;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusPollPlannerTest {
+
+    private record Poll(ModbusReadRequestBlueprint request, ModbusReadCallback resultCallback,
+            ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback, PollTask task) {
+    }
+
+    private static class Poller implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+        private final List<AsyncModbusReadResult> results = new ArrayList<>();
+        private final List<AsyncModbusFailure<ModbusReadRequestBlueprint>> failures = new ArrayList<>();
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            results.add(result);
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            failures.add(failure);
+        }
+    }
+
+    private final ModbusCommunicationInterface comms = mock(ModbusCommunicationInterface.class);
+    private final List<Poll> polls = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        when(comms.registerRegularPoll(any(), anyLong(), anyLong(), any(), any())).thenAnswer(invocation -> {
+            Poll poll = new Poll(invocation.getArgument(0), invocation.getArgument(3), invocation.getArgument(4),
+                    mock(PollTask.class));
+            polls.add(poll);
+            return poll.task();
+        });
+        when(comms.unregisterRegularPoll(any()))
+                .thenAnswer(invocation -> polls.removeIf(poll -> poll.task() == invocation.getArgument(0)));
+    }
+
+    private static ModbusReadRequestBlueprint holding(int start, int length) {
+        return new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, start, length, 3);
+    }
+
+    @Test
+    public void testAdjacentPollsAreMerged() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 0);
+        Poller first = new Poller();
+        Poller second = new Poller();
+        Poller separate = new Poller();
+        planner.register(holding(0, 2), 1000, first, first);
+        planner.register(holding(2, 1), 1000, second, second);
+        planner.register(holding(5, 1), 1000, separate, separate);
+
+        assertEquals(2, planner.getRequestCount());
+        assertEquals(2, polls.size());
+        Poll merged = polls.stream().filter(poll -> poll.request().getReference() == 0).findFirst().orElseThrow();
+        assertEquals(3, merged.request().getDataLength());
+
+        merged.resultCallback().handle(new AsyncModbusReadResult(merged.request(),
+                new ModbusRegisterArray(new byte[] { 0, 1, 0, 2, 0, 3 })));
+        assertEquals(1, first.results.size());
+        assertEquals(holding(0, 2), first.results.get(0).getRequest());
+        assertEquals(new ModbusRegisterArray(new byte[] { 0, 1, 0, 2 }), first.results.get(0).getRegisters().get());
+        assertEquals(1, second.results.size());
+        assertEquals(new ModbusRegisterArray(new byte[] { 0, 3 }), second.results.get(0).getRegisters().get());
+        assertTrue(separate.results.isEmpty());
+    }
+
+    @Test
+    public void testGapAndRefreshLimitMerging() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 2);
+        Poller poller = new Poller();
+        planner.register(holding(0, 2), 1000, poller, poller);
+        planner.register(holding(4, 2), 1000, poller, poller);
+        assertEquals(1, planner.getRequestCount());
+
+        // different refresh interval
+        planner.register(holding(6, 2), 500, poller, poller);
+        // gap too large
+        planner.register(holding(9, 2), 1000, poller, poller);
+        assertEquals(3, planner.getRequestCount());
+    }
+
+    @Test
+    public void testMergedPollsRespectProtocolLimit() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 0);
+        Poller poller = new Poller();
+        planner.register(holding(0, 100), 1000, poller, poller);
+        planner.register(holding(100, 100), 1000, poller, poller);
+        assertEquals(2, planner.getRequestCount());
+    }
+
+    @Test
+    public void testCoilsAreSliced() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 0);
+        Poller first = new Poller();
+        Poller second = new Poller();
+        planner.register(new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_COILS, 0, 2, 3), 1000, first,
+                first);
+        planner.register(new ModbusReadRequestBlueprint(1, ModbusReadFunctionCode.READ_COILS, 2, 2, 3), 1000, second,
+                second);
+        assertEquals(1, polls.size());
+
+        Poll merged = polls.get(0);
+        merged.resultCallback()
+                .handle(new AsyncModbusReadResult(merged.request(), new BitArray(true, false, false, true)));
+        assertEquals(new BitArray(true, false), first.results.get(0).getBits().get());
+        assertEquals(new BitArray(false, true), second.results.get(0).getBits().get());
+    }
+
+    @Test
+    public void testUnregisterReplansPolls() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 0);
+        Poller poller = new Poller();
+        ModbusPollPlanner.Registration first = planner.register(holding(0, 2), 1000, poller, poller);
+        planner.register(holding(2, 2), 1000, poller, poller);
+        assertEquals(1, polls.size());
+
+        planner.unregister(first);
+        assertEquals(1, polls.size());
+        assertEquals(holding(2, 2), polls.get(0).request());
+
+        planner.close();
+        assertTrue(polls.isEmpty());
+    }
+
+    @Test
+    public void testRejectedMergedPollIsSeparated() {
+        ModbusPollPlanner planner = new ModbusPollPlanner(comms, 1);
+        Poller first = new Poller();
+        Poller second = new Poller();
+        planner.register(holding(0, 2), 1000, first, first);
+        planner.register(holding(3, 2), 1000, second, second);
+        assertEquals(1, polls.size());
+
+        ModbusSlaveErrorResponseException error = mock(ModbusSlaveErrorResponseException.class);
+        when(error.getExceptionCode()).thenReturn(ModbusSlaveErrorResponseException.ILLEGAL_DATA_ACCESS);
+        Poll merged = polls.get(0);
+        merged.failureCallback().handle(new AsyncModbusFailure<>(merged.request(), error));
+
+        assertEquals(2, polls.size());
+        assertTrue(first.failures.isEmpty());
+        assertTrue(second.failures.isEmpty());
+
+        // other failures are passed to the pollers
+        Poll single = polls.get(0);
+        single.failureCallback().handle(new AsyncModbusFailure<>(single.request(), new Exception("timeout")));
+        assertEquals(1, first.failures.size() + second.failures.size());
+    }
+}
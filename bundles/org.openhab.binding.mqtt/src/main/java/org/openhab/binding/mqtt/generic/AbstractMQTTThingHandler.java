@@ -85,6 +85,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
     private AtomicBoolean messageReceived = new AtomicBoolean(false);
     private Map<String, @Nullable ChannelState> availabilityStates = new ConcurrentHashMap<>();
     private AvailabilityMode availabilityMode = AvailabilityMode.ALL;
+    protected final SharedPayloadDecoder payloadDecoder = new SharedPayloadDecoder();
 
     public AbstractMQTTThingHandler(Thing thing, int subscribeTimeout) {
         super(thing);
@@ -121,6 +122,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
     protected void stop() {
         clearAllAvailabilityTopics();
         resetMessageReceived();
+        payloadDecoder.clear();
     }
 
     @Override
@@ -328,6 +330,7 @@ public abstract class AbstractMQTTThingHandler extends BaseThingHandler
                         public void postChannelCommand(ChannelUID channelUID, Command value) {
                         }
                     }, transformation, null);
+            state.setPayloadDecoder(payloadDecoder);
             MqttBrokerConnection connection = getConnection();
             if (connection != null) {
                 state.start(connection, scheduler, 0);
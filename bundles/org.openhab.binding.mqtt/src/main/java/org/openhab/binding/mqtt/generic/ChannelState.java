@@ -62,6 +62,7 @@ public class ChannelState implements MqttMessageSubscriber {
     protected final ChannelTransformation incomingTransformation;
     protected final ChannelTransformation outgoingTransformation;
     private @Nullable ChannelStateUpdateListener channelStateUpdateListener;
+    private @Nullable SharedPayloadDecoder payloadDecoder;
     protected boolean hasSubscribed = false;
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private CompletableFuture<@Nullable Void> future = CompletableFuture.completedFuture(null);
@@ -159,7 +160,9 @@ public class ChannelState implements MqttMessageSubscriber {
         }
 
         // String value: Apply transformations
-        String strValue = new String(payload, StandardCharsets.UTF_8);
+        final SharedPayloadDecoder payloadDecoder = this.payloadDecoder;
+        String strValue = payloadDecoder != null ? payloadDecoder.decode(topic, payload)
+                : new String(payload, StandardCharsets.UTF_8);
         if (incomingTransformation.isPresent()) {
             Optional<String> transformedValue = incomingTransformation.apply(strValue);
             if (transformedValue.isEmpty()) {
@@ -438,6 +441,14 @@ public class ChannelState implements MqttMessageSubscriber {
         this.channelStateUpdateListener = channelStateUpdateListener;
     }
 
+    /**
+     * @param payloadDecoder A decoder shared with the other channels of the thing, so that a message which is
+     *            delivered to several channels is only decoded once
+     */
+    public void setPayloadDecoder(@Nullable SharedPayloadDecoder payloadDecoder) {
+        this.payloadDecoder = payloadDecoder;
+    }
+
     public @Nullable MqttBrokerConnection getConnection() {
         return connection;
     }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.mqtt.generic;
+
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Decodes MQTT payloads once per message for all {@link ChannelState}s of a thing.
+ * <p>
+ * A message on a topic that is mapped to many channels is delivered to each of their {@link ChannelState}s with the
+ * same payload array. With a shared decoder, all of them get the very same string instance. Transformations that
+ * cache their results or parsed documents by input (like JSONPATH does) then only need a cheap identity comparison to
+ * find the cached entry, instead of decoding, hashing and comparing the payload for every single channel.
+ * <p>
+ * Only the payload of the last message is kept, as the next message comes with a new payload array anyway.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SharedPayloadDecoder {
+    private record DecodedPayload(String topic, byte[] payload, String value) {
+    }
+
+    private volatile @Nullable DecodedPayload lastPayload;
+
+    /**
+     * Decodes a payload as UTF-8 text.
+     *
+     * @param topic The topic the payload was received on
+     * @param payload The payload
+     * @return The decoded payload. The same instance is returned for all channels the message is delivered to.
+     */
+    public String decode(String topic, byte[] payload) {
+        DecodedPayload last = lastPayload;
+        if (last != null && last.payload() == payload && last.topic().equals(topic)) {
+            return last.value();
+        }
+        String value = new String(payload, StandardCharsets.UTF_8);
+        lastPayload = new DecodedPayload(topic, payload, value);
+        return value;
+    }
+
+    /**
+     * Forgets the last payload, e.g. when the connection is lost.
+     */
+    public void clear() {
+        lastPayload = null;
+    }
+}
@@ -178,6 +178,7 @@ public class GenericMQTTThingHandler extends AbstractMQTTThingHandler implements
             try {
                 Value value = ValueFactory.createValueState(channelConfig, channelTypeUID.getId());
                 ChannelState channelState = createChannelState(channelConfig, channel.getUID(), value);
+                channelState.setPayloadDecoder(payloadDecoder);
                 channelStateByChannelUID.put(channel.getUID(), channelState);
                 StateDescription description = value.createStateDescription(channelConfig.commandTopic.isBlank())
                         .build().toStateDescription();
@@ -37,6 +37,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
@@ -494,6 +495,28 @@ public class ChannelStateTests {
             verify(channelStateUpdateListenerMock, never()).updateChannelState(eq(channelUIDMock), any());
         }
 
+        @Test
+        public void sharedPayloadDecoderTest() throws Exception {
+            ChannelConfig config = ChannelConfigBuilder.create("state", "command")
+                    .withTransformationPattern(List.of(T1_NAME + ":" + T1_PATTERN)).build();
+            SharedPayloadDecoder payloadDecoder = new SharedPayloadDecoder();
+            ChannelState c1 = new ChannelState(config, channelUIDMock, new TextValue(), channelStateUpdateListenerMock);
+            ChannelState c2 = new ChannelState(config, channelUIDMock, new TextValue(), channelStateUpdateListenerMock);
+            c1.setPayloadDecoder(payloadDecoder);
+            c2.setPayloadDecoder(payloadDecoder);
+
+            byte[] payload = T1_INPUT.getBytes();
+            c1.processMessage("state", payload);
+            c2.processMessage("state", payload);
+            // the next message comes with its own payload array
+            c1.processMessage("state", T1_INPUT.getBytes());
+
+            ArgumentCaptor<String> inputs = ArgumentCaptor.forClass(String.class);
+            verify(transformationService1Mock, times(3)).transform(eq(T1_PATTERN), inputs.capture());
+            assertThat(inputs.getAllValues().get(1), is(sameInstance(inputs.getAllValues().get(0))));
+            assertThat(inputs.getAllValues().get(2), is(not(sameInstance(inputs.getAllValues().get(0)))));
+        }
+
         @Test
         public void transformationPatternOutTest() throws Exception {
             ChannelConfig config = ChannelConfigBuilder.create("state", "command")
@@ -38,6 +38,8 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.network.internal.dhcp.DHCPListenService;
 import org.openhab.binding.network.internal.dhcp.DHCPPacketListenerServer;
 import org.openhab.binding.network.internal.dhcp.IPRequestReceivedCallback;
+import org.openhab.binding.network.internal.utils.NetworkProber;
+import org.openhab.binding.network.internal.utils.NetworkProber.ProbeType;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
@@ -96,6 +98,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
     private String lastReachableNetworkInterfaceName = "";
 
     private final Executor executor;
+    private @Nullable NetworkProber prober;
 
     public PresenceDetection(final PresenceDetectionListener updateListener, Duration cacheDeviceStateTime,
             Executor executor) {
@@ -167,6 +170,16 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         this.preferResponseTimeAsLatency = preferResponseTimeAsLatency;
     }
 
+    /**
+     * Sets the {@link NetworkProber} used for TCP connection attempts and UDP probes. Without a prober, each TCP
+     * connection attempt blocks a thread of the executor and no UDP probe is sent before the ICMP ping.
+     *
+     * @param prober the prober or <code>null</code> to disable in-process probes
+     */
+    public void setProber(@Nullable NetworkProber prober) {
+        this.prober = prober;
+    }
+
     /**
      * Sets the ping method. This method will perform a feature test. If {@link IpPingMethodEnum#SYSTEM_PING}
      * does not work on this system, {@link IpPingMethodEnum#JAVA_PING} will be used instead.
@@ -377,11 +390,16 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
 
         List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
+        NetworkProber prober = this.prober;
 
         for (Integer tcpPort : tcpPorts) {
-            addAsyncDetection(completableFutures, () -> {
-                performServicePing(pdv, tcpPort);
-            });
+            if (prober != null) {
+                completableFutures.add(performServicePing(prober, pdv, tcpPort));
+            } else {
+                addAsyncDetection(completableFutures, () -> {
+                    performServicePing(pdv, tcpPort);
+                });
+            }
         }
 
         // ARP ping for IPv4 addresses. Use single executor for Windows tool and
@@ -400,13 +418,19 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
         // ICMP ping
         if (pingMethod != IpPingMethodEnum.DISABLED) {
-            addAsyncDetection(completableFutures, () -> {
+            Consumer<Duration> icmpPing = pingTimeout -> {
                 if (pingMethod == IpPingMethodEnum.JAVA_PING) {
-                    performJavaPing(pdv);
+                    performJavaPing(pdv, pingTimeout);
                 } else {
-                    performSystemPing(pdv);
+                    performSystemPing(pdv, pingTimeout);
                 }
-            });
+            };
+            if (prober != null) {
+                // the ICMP ping is only a fallback for hosts which do not answer the UDP probe
+                completableFutures.add(performUdpProbe(prober, pdv, icmpPing));
+            } else {
+                addAsyncDetection(completableFutures, () -> icmpPing.accept(timeout));
+            }
         }
 
         return CompletableFuture.supplyAsync(() -> {
@@ -500,6 +524,67 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         });
     }
 
+    /**
+     * Performs a TCP connection attempt with the {@link NetworkProber}, without blocking a thread while waiting.
+     *
+     * @param prober the prober
+     * @param pdv the {@link PresenceDetectionValue} to update
+     * @param tcpPort the TCP port
+     * @return a {@link CompletableFuture} which completes when the result has been processed
+     */
+    protected CompletableFuture<Void> performServicePing(NetworkProber prober, PresenceDetectionValue pdv,
+            int tcpPort) {
+        logger.trace("Perform TCP presence detection for {} on port: {}", hostname, tcpPort);
+
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            logger.trace("The destinationAddress for {} is null", hostname);
+            return CompletableFuture.completedFuture(null);
+        }
+        return prober.tcpProbe(destinationAddress, tcpPort, timeout).thenAcceptAsync(pingResult -> {
+            if (pingResult.isSuccess()) {
+                updateReachable(pdv, TCP_CONNECTION, getLatency(pingResult), tcpPort);
+            }
+        }, executor);
+    }
+
+    /**
+     * Sends a UDP datagram to a closed port with the {@link NetworkProber}. Most hosts answer with an ICMP port
+     * unreachable message, which makes the ICMP ping unnecessary. Only if there is no answer within half of the
+     * timeout, the given ICMP ping is performed as fallback with the rest of the timeout.
+     *
+     * @param prober the prober
+     * @param pdv the {@link PresenceDetectionValue} to update
+     * @param icmpPing the ICMP ping to perform with the given timeout if the host does not answer
+     * @return a {@link CompletableFuture} which completes when the result has been processed
+     */
+    protected CompletableFuture<Void> performUdpProbe(NetworkProber prober, PresenceDetectionValue pdv,
+            Consumer<Duration> icmpPing) {
+        logger.trace("Perform UDP presence detection for {}", hostname);
+
+        InetAddress destinationAddress = destination.getValue();
+        if (destinationAddress == null) {
+            logger.trace("The destinationAddress for {} is null", hostname);
+            return CompletableFuture.completedFuture(null);
+        }
+        long start = System.nanoTime();
+        return prober.udpProbe(destinationAddress, NetworkProber.UDP_PROBE_PORT, timeout.dividedBy(2))
+                .thenAcceptAsync(pingResult -> {
+                    if (pingResult.isSuccess()) {
+                        updateReachable(pdv, UDP_PROBE, getLatency(pingResult));
+                        return;
+                    }
+                    // the ping gets the rest of the timeout, so the fallback does not make the detection take longer
+                    Duration remaining = timeout.minusNanos(System.nanoTime() - start);
+                    if (remaining.isNegative() || remaining.isZero()) {
+                        logger.trace("No answer to UDP probe from {}, no time left for an ICMP ping", hostname);
+                        return;
+                    }
+                    logger.trace("No answer to UDP probe from {}, falling back to ICMP ping", hostname);
+                    icmpPing.accept(remaining);
+                }, executor);
+    }
+
     /**
      * Performs an "ARP ping" (ARP request) on the given interface.
      * If it is an iOS device, the {@link NetworkUtils#wakeUpIOS(InetAddress)} method is
@@ -518,6 +603,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
                     PingResult pingResult = networkUtils.nativeArpPing(arpPingMethod, arpPingUtilPath, interfaceName,
                             destinationAddress.getHostAddress(), timeout);
                     if (pingResult != null) {
+                        recordProbe(ProbeType.ARP_PING, pingResult);
                         if (pingResult.isSuccess()) {
                             updateReachable(pdv, ARP_PING, getLatency(pingResult));
                             lastReachableNetworkInterfaceName = interfaceName;
@@ -557,28 +643,34 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      * and will not work on Windows systems reliably and will fall back from ICMP pings to
      * the TCP echo service on port 7 which barely no device or server supports nowadays.
      *
+     * @param pdv the {@link PresenceDetectionValue} to update
+     * @param pingTimeout the timeout of the ping
      * @see InetAddress#isReachable(int)
      */
-    protected void performJavaPing(PresenceDetectionValue pdv) {
+    protected void performJavaPing(PresenceDetectionValue pdv, Duration pingTimeout) {
         logger.trace("Perform Java ping presence detection for {}", hostname);
 
         withDestinationAddress(destinationAddress -> {
-            PingResult pingResult = networkUtils.javaPing(timeout, destinationAddress);
+            PingResult pingResult = networkUtils.javaPing(pingTimeout, destinationAddress);
+            recordProbe(ProbeType.ICMP_PING, pingResult);
             if (pingResult.isSuccess()) {
                 updateReachable(pdv, ICMP_PING, getLatency(pingResult));
             }
         });
     }
 
-    protected void performSystemPing(PresenceDetectionValue pdv) {
+    protected void performSystemPing(PresenceDetectionValue pdv, Duration pingTimeout) {
         logger.trace("Perform native ping presence detection for {}", hostname);
 
         withDestinationAddress(destinationAddress -> {
             try {
                 PingResult pingResult = networkUtils.nativePing(pingMethod, destinationAddress.getHostAddress(),
-                        timeout);
-                if (pingResult != null && pingResult.isSuccess()) {
-                    updateReachable(pdv, ICMP_PING, getLatency(pingResult));
+                        pingTimeout);
+                if (pingResult != null) {
+                    recordProbe(ProbeType.ICMP_PING, pingResult);
+                    if (pingResult.isSuccess()) {
+                        updateReachable(pdv, ICMP_PING, getLatency(pingResult));
+                    }
                 }
             } catch (IOException e) {
                 logger.trace("Failed to execute a native ping for {}", hostname, e);
@@ -589,6 +681,13 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         });
     }
 
+    private void recordProbe(ProbeType type, PingResult pingResult) {
+        NetworkProber prober = this.prober;
+        if (prober != null) {
+            prober.record(type, pingResult);
+        }
+    }
+
     private Duration getLatency(PingResult pingResult) {
         logger.trace("Getting latency from ping result {} using latency mode {}", pingResult,
                 preferResponseTimeAsLatency);
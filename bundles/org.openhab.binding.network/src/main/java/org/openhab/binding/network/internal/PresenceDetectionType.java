@@ -24,6 +24,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 public enum PresenceDetectionType {
     ARP_PING,
     ICMP_PING,
+    UDP_PROBE,
     TCP_CONNECTION,
     DHCP_REQUEST
 }
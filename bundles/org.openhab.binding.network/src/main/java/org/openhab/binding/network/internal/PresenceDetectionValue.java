@@ -113,11 +113,12 @@ public class PresenceDetectionValue {
     }
 
     /**
-     * Return true if the target can be reached by ICMP or ARP pings.
+     * Return true if the target can be reached by ICMP or ARP pings, or answers UDP probes.
      */
     public synchronized boolean isPingReachable() {
         return reachableDetectionTypes.contains(PresenceDetectionType.ARP_PING)
-                || reachableDetectionTypes.contains(PresenceDetectionType.ICMP_PING);
+                || reachableDetectionTypes.contains(PresenceDetectionType.ICMP_PING)
+                || reachableDetectionTypes.contains(PresenceDetectionType.UDP_PROBE);
     }
 
     /**
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.console;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.NetworkBindingConstants;
+import org.openhab.binding.network.internal.utils.LatencyHistogram;
+import org.openhab.binding.network.internal.utils.NetworkProber;
+import org.openhab.binding.network.internal.utils.NetworkProber.ProbeType;
+import org.openhab.core.io.console.Console;
+import org.openhab.core.io.console.ConsoleCommandCompleter;
+import org.openhab.core.io.console.StringsCompleter;
+import org.openhab.core.io.console.extensions.AbstractConsoleCommandExtension;
+import org.openhab.core.io.console.extensions.ConsoleCommandExtension;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * The {@link NetworkCommandExtension} is responsible for handling console commands
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = ConsoleCommandExtension.class)
+public class NetworkCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
+
+    private static final String CMD_PROBES = "probes";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_PROBES), false);
+
+    private final NetworkProber prober;
+
+    @Activate
+    public NetworkCommandExtension(final @Reference NetworkProber prober) {
+        super(NetworkBindingConstants.BINDING_ID, "Interact with the network binding.");
+        this.prober = prober;
+    }
+
+    @Override
+    public void execute(String[] args, Console console) {
+        if (args.length == 1 && CMD_PROBES.equalsIgnoreCase(args[0])) {
+            long[] bounds = LatencyHistogram.BUCKET_BOUNDS_MS;
+            StringBuilder header = new StringBuilder(String.format("%-12s %8s %8s", "probe", "failed", "success"));
+            for (long bound : bounds) {
+                header.append(String.format(" %7s", "<" + bound + "ms"));
+            }
+            header.append(String.format(" %7s", ">=" + bounds[bounds.length - 1] + "ms"));
+            console.println(header.toString());
+            for (ProbeType type : ProbeType.values()) {
+                LatencyHistogram histogram = prober.getHistogram(type);
+                StringBuilder line = new StringBuilder(String.format("%-12s %8d %8d", type, histogram.getFailures(),
+                        histogram.getSuccesses()));
+                for (long count : histogram.getBuckets()) {
+                    line.append(String.format(" %7d", count));
+                }
+                console.println(line.toString());
+            }
+            return;
+        }
+        printUsage(console);
+    }
+
+    @Override
+    public List<String> getUsages() {
+        return List.of(buildCommandUsage(CMD_PROBES, "show the number and latency histogram of all probes"));
+    }
+
+    @Override
+    public @Nullable ConsoleCommandCompleter getCompleter() {
+        return this;
+    }
+
+    @Override
+    public boolean complete(String[] args, int cursorArgumentIndex, int cursorPosition, List<String> candidates) {
+        if (cursorArgumentIndex <= 0) {
+            return CMD_COMPLETER.complete(args, cursorArgumentIndex, cursorPosition, candidates);
+        }
+        return false;
+    }
+}
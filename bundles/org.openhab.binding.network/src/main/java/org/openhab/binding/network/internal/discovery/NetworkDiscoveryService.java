@@ -41,6 +41,7 @@ import org.openhab.binding.network.internal.NetworkBindingConfiguration;
 import org.openhab.binding.network.internal.PresenceDetection;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
+import org.openhab.binding.network.internal.utils.NetworkProber;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
@@ -85,14 +86,16 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     private @Nullable ExecutorService resolver;
     private final NetworkUtils networkUtils = new NetworkUtils();
     private final ConfigurationAdmin admin;
+    private final NetworkProber prober;
 
     @Activate
-    public NetworkDiscoveryService(@Reference ConfigurationAdmin admin) {
+    public NetworkDiscoveryService(@Reference ConfigurationAdmin admin, @Reference NetworkProber prober) {
         super(SUPPORTED_THING_TYPES_UIDS,
                 (int) Math.round(new NetworkUtils().getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size()
                         * (durationToMillis(PING_TIMEOUT) / 1000.0)),
                 false);
         this.admin = admin;
+        this.prober = prober;
     }
 
     @Override
@@ -212,6 +215,8 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
                     }
                     // TCP devices
                     pd.setServicePorts(tcpServicePorts);
+                    // Multiplex TCP connection attempts and UDP probes instead of blocking a worker thread for each
+                    pd.setProber(configuration == null || configuration.inProcessProbes ? prober : null);
                     pd.getValue((v) -> {
                         int count = scannedIPcount.incrementAndGet();
                         if (count >= targetCount) {
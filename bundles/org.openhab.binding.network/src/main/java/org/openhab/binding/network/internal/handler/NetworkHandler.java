@@ -37,6 +37,7 @@ import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.WakeOnLanPacketSender;
 import org.openhab.binding.network.internal.action.NetworkActions;
+import org.openhab.binding.network.internal.utils.NetworkProber;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
@@ -86,15 +87,17 @@ public class NetworkHandler extends BaseThingHandler
     private volatile int retryCounter = 0;
     private final ScheduledExecutorService executor;
     private final ExecutorService resolver;
+    private final NetworkProber prober;
 
     /**
      * Creates a new instance using the specified parameters.
      */
     public NetworkHandler(Thing thing, ScheduledExecutorService executor, ExecutorService resolver,
-            boolean isTCPServiceDevice, NetworkBindingConfiguration configuration) {
+            NetworkProber prober, boolean isTCPServiceDevice, NetworkBindingConfiguration configuration) {
         super(thing);
         this.executor = executor;
         this.resolver = resolver;
+        this.prober = prober;
         this.isTCPServiceDevice = isTCPServiceDevice;
         this.configuration = configuration;
         this.configuration.addNetworkBindingConfigurationListener(this);
@@ -204,6 +207,7 @@ public class NetworkHandler extends BaseThingHandler
         presenceDetection.setHostname(config.hostname);
         presenceDetection.setNetworkInterfaceNames(config.networkInterfaceNames);
         presenceDetection.setPreferResponseTimeAsLatency(configuration.preferResponseTimeAsLatency);
+        presenceDetection.setProber(configuration.inProcessProbes ? prober : null);
 
         if (isTCPServiceDevice) {
             Integer port = config.port;
@@ -277,6 +281,7 @@ public class NetworkHandler extends BaseThingHandler
             PresenceDetection pd = presenceDetection;
             if (pd != null) {
                 pd.setPreferResponseTimeAsLatency(configuration.preferResponseTimeAsLatency);
+                pd.setProber(configuration.inProcessProbes ? prober : null);
             }
         }
     }
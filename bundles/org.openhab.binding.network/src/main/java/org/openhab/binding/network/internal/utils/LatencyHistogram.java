@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Counts the latencies of successful probes in buckets, and the number of failed probes.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LatencyHistogram {
+    /**
+     * Upper bounds of the buckets in milliseconds, there is one more bucket for all larger values.
+     */
+    public static final long[] BUCKET_BOUNDS_MS = { 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000 };
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1);
+    private final LongAdder failures = new LongAdder();
+
+    public void record(PingResult result) {
+        if (result.isSuccess()) {
+            recordSuccess(result.getExecutionTime());
+        } else {
+            recordFailure();
+        }
+    }
+
+    public void recordSuccess(Duration latency) {
+        long millis = latency.toMillis();
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MS.length && millis >= BUCKET_BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        buckets.incrementAndGet(bucket);
+    }
+
+    public void recordFailure() {
+        failures.increment();
+    }
+
+    /**
+     * @return the number of successful probes per bucket, the last bucket counts all probes that took at least
+     *         5 seconds
+     */
+    public long[] getBuckets() {
+        long[] counts = new long[buckets.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return counts;
+    }
+
+    public long getSuccesses() {
+        long successes = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            successes += buckets.get(i);
+        }
+        return successes;
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.PortUnreachableException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.NetworkBindingConstants;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Probes hosts with non-blocking TCP connects and UDP datagrams. All probes of the binding are multiplexed on a
+ * single selector thread, so probing many hosts neither needs a thread per probe nor forks any process.
+ * <p>
+ * The futures returned by the probe methods are completed by the selector thread. Dependent actions must be
+ * executed asynchronously, they must not block the selector thread.
+ * <p>
+ * Latencies of all probes, including those of the native ping and arping tools, are collected in a
+ * {@link LatencyHistogram} per {@link ProbeType}. They can be shown on the console using openhab:network probes.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = NetworkProber.class)
+public class NetworkProber {
+    /**
+     * The UDP port used for UDP probes. Like traceroute, we use a port which is very likely closed, so that the host
+     * answers with an ICMP port unreachable message.
+     */
+    public static final int UDP_PROBE_PORT = 33434;
+
+    private static final byte[] UDP_PROBE_PAYLOAD = new byte[] { 0 };
+
+    public enum ProbeType {
+        TCP_CONNECT,
+        UDP,
+        ICMP_PING,
+        ARP_PING
+    }
+
+    private record Probe(ProbeType type, SelectableChannel channel, int operations, long start, long deadline,
+            CompletableFuture<PingResult> future) {
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(NetworkProber.class);
+    private final Map<ProbeType, LatencyHistogram> histograms = new EnumMap<>(ProbeType.class);
+    private final Queue<Probe> newProbes = new ConcurrentLinkedQueue<>();
+    // only accessed by the selector thread
+    private final PriorityQueue<Probe> deadlines = new PriorityQueue<>(Comparator.comparingLong(Probe::deadline));
+    private final Selector selector;
+    private final Thread selectorThread;
+    private volatile boolean running = true;
+
+    @Activate
+    public NetworkProber() throws IOException {
+        for (ProbeType type : ProbeType.values()) {
+            histograms.put(type, new LatencyHistogram());
+        }
+        selector = Selector.open();
+        selectorThread = new Thread(this::run,
+                String.format("OH-binding-%s-%s", NetworkBindingConstants.BINDING_ID, "prober"));
+        selectorThread.setDaemon(true);
+        selectorThread.start();
+    }
+
+    @Deactivate
+    public void dispose() {
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Tries to establish a TCP connection to the given port.
+     *
+     * @param address the address of the host
+     * @param port the TCP port
+     * @param timeout the timeout before the probe fails
+     * @return the future {@link PingResult}, successful if the port accepted the connection
+     */
+    public CompletableFuture<PingResult> tcpProbe(InetAddress address, int port, Duration timeout) {
+        long start = System.nanoTime();
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            if (channel.connect(new InetSocketAddress(address, port))) {
+                return completed(ProbeType.TCP_CONNECT, channel, start, true);
+            }
+            return submit(ProbeType.TCP_CONNECT, channel, SelectionKey.OP_CONNECT, start, timeout);
+        } catch (IOException e) {
+            logger.trace("Could not connect to {}:{} {}", address, port, e.getMessage());
+            return completed(ProbeType.TCP_CONNECT, channel, start, false);
+        }
+    }
+
+    /**
+     * Sends a UDP datagram to the given port. Any answer proves that the host is up, be it a UDP datagram or an
+     * ICMP port unreachable message. Hosts which silently drop the datagram cannot be told apart from hosts which
+     * are down, the probe fails after the timeout in both cases.
+     *
+     * @param address the address of the host
+     * @param port the UDP port, usually {@link #UDP_PROBE_PORT}
+     * @param timeout the timeout before the probe fails
+     * @return the future {@link PingResult}, successful if the host answered
+     */
+    public CompletableFuture<PingResult> udpProbe(InetAddress address, int port, Duration timeout) {
+        long start = System.nanoTime();
+        DatagramChannel channel = null;
+        try {
+            channel = DatagramChannel.open();
+            channel.configureBlocking(false);
+            channel.connect(new InetSocketAddress(address, port));
+            channel.write(ByteBuffer.wrap(UDP_PROBE_PAYLOAD));
+            return submit(ProbeType.UDP, channel, SelectionKey.OP_READ, start, timeout);
+        } catch (PortUnreachableException e) {
+            return completed(ProbeType.UDP, channel, start, true);
+        } catch (IOException e) {
+            logger.trace("Could not send UDP probe to {}:{} {}", address, port, e.getMessage());
+            return completed(ProbeType.UDP, channel, start, false);
+        }
+    }
+
+    /**
+     * Records the result of a probe which was not executed by this prober, e.g. of the native ping tool.
+     *
+     * @param type the type of the probe
+     * @param result the result of the probe
+     */
+    public void record(ProbeType type, PingResult result) {
+        getHistogram(type).record(result);
+    }
+
+    public LatencyHistogram getHistogram(ProbeType type) {
+        LatencyHistogram histogram = histograms.get(type);
+        if (histogram == null) {
+            throw new IllegalArgumentException("No histogram for " + type);
+        }
+        return histogram;
+    }
+
+    private CompletableFuture<PingResult> submit(ProbeType type, SelectableChannel channel, int operations,
+            long start, Duration timeout) {
+        Probe probe = new Probe(type, channel, operations, start, start + timeout.toNanos(),
+                new CompletableFuture<>());
+        newProbes.add(probe);
+        if (running) {
+            selector.wakeup();
+        } else {
+            // the selector thread may already be gone
+            failNewProbes();
+        }
+        return probe.future();
+    }
+
+    private CompletableFuture<PingResult> completed(ProbeType type, @Nullable SelectableChannel channel, long start,
+            boolean success) {
+        if (channel != null) {
+            closeQuietly(channel);
+        }
+        PingResult result = new PingResult(success, Duration.ofNanos(System.nanoTime() - start));
+        getHistogram(type).record(result);
+        return CompletableFuture.completedFuture(result);
+    }
+
+    private void complete(Probe probe, boolean success) {
+        closeQuietly(probe.channel());
+        PingResult result = new PingResult(success, Duration.ofNanos(System.nanoTime() - probe.start()));
+        if (probe.future().complete(result)) {
+            getHistogram(probe.type()).record(result);
+        }
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                registerNewProbes();
+                long now = System.nanoTime();
+                expireProbes(now);
+                Probe next = deadlines.peek();
+                // select(0) waits until a channel is ready or wakeup() is called
+                long waitMillis = next == null ? 0 : TimeUnit.NANOSECONDS.toMillis(next.deadline() - now) + 1;
+                selector.select(waitMillis);
+                for (SelectionKey key : selector.selectedKeys()) {
+                    if (key.attachment() instanceof Probe probe) {
+                        handleReadyProbe(probe);
+                    }
+                }
+                selector.selectedKeys().clear();
+            }
+        } catch (IOException | ClosedSelectorException e) {
+            logger.warn("Network prober stopped unexpectedly: {}", e.getMessage());
+        } finally {
+            running = false;
+            Probe probe;
+            while ((probe = deadlines.poll()) != null) {
+                complete(probe, false);
+            }
+            failNewProbes();
+            try {
+                selector.close();
+            } catch (IOException e) {
+                logger.trace("Failed to close the selector", e);
+            }
+        }
+    }
+
+    private void registerNewProbes() {
+        Probe probe;
+        while ((probe = newProbes.poll()) != null) {
+            try {
+                probe.channel().register(selector, probe.operations(), probe);
+                deadlines.add(probe);
+            } catch (ClosedChannelException e) {
+                complete(probe, false);
+            }
+        }
+    }
+
+    private void failNewProbes() {
+        Probe probe;
+        while ((probe = newProbes.poll()) != null) {
+            complete(probe, false);
+        }
+    }
+
+    private void expireProbes(long now) {
+        Probe probe;
+        while ((probe = deadlines.peek()) != null && (probe.future().isDone() || probe.deadline() - now <= 0)) {
+            deadlines.poll();
+            complete(probe, false);
+        }
+    }
+
+    private void handleReadyProbe(Probe probe) {
+        try {
+            if (probe.channel() instanceof SocketChannel channel) {
+                if (channel.finishConnect()) {
+                    complete(probe, true);
+                }
+            } else if (probe.channel() instanceof DatagramChannel channel) {
+                // the content of an answer does not matter, its presence proves that the host is up
+                if (channel.read(ByteBuffer.allocate(512)) > 0) {
+                    complete(probe, true);
+                }
+            }
+        } catch (PortUnreachableException e) {
+            // the host rejected the UDP datagram, so it is up
+            complete(probe, true);
+        } catch (IOException e) {
+            logger.trace("{} probe failed: {}", probe.type(), e.getMessage());
+            complete(probe, false);
+        }
+    }
+
+    private void closeQuietly(SelectableChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.trace("Failed to close channel", e);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -33,6 +34,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.openhab.binding.network.internal.utils.NetworkProber;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
 import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
@@ -55,6 +57,7 @@ public class PresenceDetectionTest {
     private @Mock @NonNullByDefault({}) Consumer<PresenceDetectionValue> callback;
     private @Mock @NonNullByDefault({}) PresenceDetectionListener listener;
     private @Mock @NonNullByDefault({}) NetworkUtils networkUtils;
+    private @Mock @NonNullByDefault({}) NetworkProber prober;
 
     @BeforeEach
     public void setUp() {
@@ -119,8 +122,8 @@ public class PresenceDetectionTest {
         subject.setUseIcmpPing(true);
 
         doNothing().when(subject).performArpPing(any(), any());
-        doNothing().when(subject).performJavaPing(any());
-        doNothing().when(subject).performSystemPing(any());
+        doNothing().when(subject).performJavaPing(any(), any());
+        doNothing().when(subject).performSystemPing(any(), any());
         doNothing().when(subject).performServicePing(any(), anyInt());
 
         subject.getValue(callback -> {
@@ -144,8 +147,8 @@ public class PresenceDetectionTest {
         assertThat(subject.detectionChecks, is(3));
 
         // All detection methods should be called (direct executor runs synchronously)
-        verify(subject, times(0)).performJavaPing(any());
-        verify(subject).performSystemPing(any());
+        verify(subject, times(0)).performJavaPing(any(), any());
+        verify(subject).performSystemPing(any(), eq(Duration.ofMillis(300)));
         verify(subject).performArpPing(any(), any());
         verify(subject).performServicePing(any(), anyInt());
 
@@ -156,6 +159,46 @@ public class PresenceDetectionTest {
         assertThat(pdvCapture.getValue().getSuccessfulDetectionTypes(), is("ARP_PING, ICMP_PING, TCP_CONNECTION"));
     }
 
+    @Test
+    public void answeredUdpProbeReplacesIcmpPing() throws InterruptedException, IOException {
+        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
+        doReturn(pingResult).when(networkUtils).nativeArpPing(eq(ArpPingUtilEnum.IPUTILS_ARPING), anyString(),
+                anyString(), any(), any());
+        when(prober.tcpProbe(any(), anyInt(), any())).thenReturn(CompletableFuture.completedFuture(pingResult));
+        when(prober.udpProbe(any(), eq(NetworkProber.UDP_PROBE_PORT), eq(Duration.ofMillis(150))))
+                .thenReturn(CompletableFuture.completedFuture(pingResult));
+        subject.setProber(prober);
+
+        subject.performPresenceDetection();
+
+        verify(subject, never()).performSystemPing(any(), any());
+        verify(networkUtils, never()).servicePing(anyString(), anyInt(), any());
+        ArgumentCaptor<PresenceDetectionValue> pdvCapture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
+        verify(listener).finalDetectionResult(pdvCapture.capture());
+        assertThat(pdvCapture.getValue().getSuccessfulDetectionTypes(), is("ARP_PING, UDP_PROBE, TCP_CONNECTION"));
+        assertTrue(pdvCapture.getValue().isPingReachable());
+    }
+
+    @Test
+    public void unansweredUdpProbeFallsBackToIcmpPingWithinTimeout() throws InterruptedException, IOException {
+        PingResult failed = new PingResult(false, Duration.ofMillis(150));
+        PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
+        doReturn(pingResult).when(networkUtils).nativePing(eq(IpPingMethodEnum.WINDOWS_PING), anyString(), any());
+        when(prober.tcpProbe(any(), anyInt(), any())).thenReturn(CompletableFuture.completedFuture(failed));
+        when(prober.udpProbe(any(), anyInt(), any())).thenReturn(CompletableFuture.completedFuture(failed));
+        subject.setProber(prober);
+
+        subject.performPresenceDetection();
+
+        ArgumentCaptor<Duration> timeoutCapture = ArgumentCaptor.forClass(Duration.class);
+        verify(subject).performSystemPing(any(), timeoutCapture.capture());
+        assertTrue(timeoutCapture.getValue().compareTo(Duration.ofMillis(300)) <= 0);
+        assertTrue(timeoutCapture.getValue().isPositive());
+        ArgumentCaptor<PresenceDetectionValue> pdvCapture = ArgumentCaptor.forClass(PresenceDetectionValue.class);
+        verify(listener).finalDetectionResult(pdvCapture.capture());
+        assertThat(pdvCapture.getValue().getSuccessfulDetectionTypes(), is("ICMP_PING"));
+    }
+
     @Test
     public void cacheTest() throws InterruptedException, IOException {
         PingResult pingResult = new PingResult(true, Duration.ofMillis(10));
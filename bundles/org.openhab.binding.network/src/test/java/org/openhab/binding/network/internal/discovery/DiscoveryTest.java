@@ -31,6 +31,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.openhab.binding.network.internal.NetworkBindingConstants;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
+import org.openhab.binding.network.internal.utils.NetworkProber;
 import org.openhab.core.config.discovery.DiscoveryListener;
 import org.openhab.core.config.discovery.DiscoveryResult;
 import org.osgi.service.cm.ConfigurationAdmin;
@@ -48,6 +49,7 @@ public class DiscoveryTest {
 
     private @Mock @NonNullByDefault({}) PresenceDetectionValue value;
     private @Mock @NonNullByDefault({}) DiscoveryListener listener;
+    private @Mock @NonNullByDefault({}) NetworkProber prober;
 
     @BeforeEach
     public void setUp() {
@@ -60,7 +62,7 @@ public class DiscoveryTest {
     @Test
     public void pingDeviceDetected() throws InterruptedException {
         ConfigurationAdmin configAdmin = mock(ConfigurationAdmin.class);
-        NetworkDiscoveryService d = new NetworkDiscoveryService(configAdmin);
+        NetworkDiscoveryService d = new NetworkDiscoveryService(configAdmin, prober);
         d.addDiscoveryListener(listener);
 
         ArgumentCaptor<DiscoveryResult> result = ArgumentCaptor.forClass(DiscoveryResult.class);
@@ -79,7 +81,7 @@ public class DiscoveryTest {
     @Test
     public void tcpDeviceDetected() throws InterruptedException {
         ConfigurationAdmin configAdmin = mock(ConfigurationAdmin.class);
-        NetworkDiscoveryService d = new NetworkDiscoveryService(configAdmin);
+        NetworkDiscoveryService d = new NetworkDiscoveryService(configAdmin, prober);
         d.addDiscoveryListener(listener);
 
         ArgumentCaptor<DiscoveryResult> result = ArgumentCaptor.forClass(DiscoveryResult.class);
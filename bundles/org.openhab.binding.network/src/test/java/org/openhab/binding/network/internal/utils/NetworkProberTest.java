@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.utils;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.net.DatagramSocket;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.network.internal.utils.NetworkProber.ProbeType;
+
+/**
+ * Tests cases for {@link NetworkProber} and {@link LatencyHistogram}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class NetworkProberTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    private @NonNullByDefault({}) NetworkProber prober;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        prober = new NetworkProber();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        prober.dispose();
+    }
+
+    @Test
+    public void tcpProbeOfOpenPortSucceeds() throws Exception {
+        InetAddress localhost = InetAddress.getLoopbackAddress();
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, localhost)) {
+            PingResult result = prober.tcpProbe(localhost, serverSocket.getLocalPort(), TIMEOUT).get(5,
+                    TimeUnit.SECONDS);
+            assertThat(result.isSuccess(), is(true));
+        }
+        assertThat(prober.getHistogram(ProbeType.TCP_CONNECT).getSuccesses(), is(1L));
+    }
+
+    @Test
+    public void tcpProbeOfClosedPortFails() throws Exception {
+        InetAddress localhost = InetAddress.getLoopbackAddress();
+        int port;
+        try (ServerSocket serverSocket = new ServerSocket(0, 1, localhost)) {
+            port = serverSocket.getLocalPort();
+        }
+        PingResult result = prober.tcpProbe(localhost, port, TIMEOUT).get(5, TimeUnit.SECONDS);
+        assertThat(result.isSuccess(), is(false));
+        assertThat(prober.getHistogram(ProbeType.TCP_CONNECT).getFailures(), is(1L));
+    }
+
+    @Test
+    public void udpProbeOfClosedPortSucceeds() throws Exception {
+        InetAddress localhost = InetAddress.getLoopbackAddress();
+        int port;
+        try (DatagramSocket socket = new DatagramSocket(0, localhost)) {
+            port = socket.getLocalPort();
+        }
+        // the host answers with an ICMP port unreachable message
+        PingResult result = prober.udpProbe(localhost, port, TIMEOUT).get(5, TimeUnit.SECONDS);
+        assertThat(result.isSuccess(), is(true));
+        assertThat(prober.getHistogram(ProbeType.UDP).getSuccesses(), is(1L));
+    }
+
+    @Test
+    public void udpProbeWithoutAnswerFailsAfterTimeout() throws Exception {
+        InetAddress localhost = InetAddress.getLoopbackAddress();
+        try (DatagramSocket socket = new DatagramSocket(0, localhost)) {
+            // the open port receives the datagram but never answers
+            PingResult result = prober.udpProbe(localhost, socket.getLocalPort(), Duration.ofMillis(200)).get(5,
+                    TimeUnit.SECONDS);
+            assertThat(result.isSuccess(), is(false));
+        }
+        assertThat(prober.getHistogram(ProbeType.UDP).getFailures(), is(1L));
+    }
+
+    @Test
+    public void histogramBuckets() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordSuccess(Duration.ofNanos(500_000));
+        histogram.recordSuccess(Duration.ofMillis(1));
+        histogram.recordSuccess(Duration.ofMillis(150));
+        histogram.recordSuccess(Duration.ofSeconds(10));
+        histogram.record(new PingResult(false, Duration.ofSeconds(1)));
+
+        long[] buckets = histogram.getBuckets();
+        assertThat(buckets.length, is(LatencyHistogram.BUCKET_BOUNDS_MS.length + 1));
+        assertThat(buckets[0], is(1L));
+        assertThat(buckets[1], is(1L));
+        assertThat(buckets[7], is(1L));
+        assertThat(buckets[buckets.length - 1], is(1L));
+        assertThat(histogram.getSuccesses(), is(4L));
+        assertThat(histogram.getFailures(), is(1L));
+    }
+}
@@ -270,6 +270,9 @@ public class ShellyBindingConstants {
     public static final int UPDATE_SKIP_COUNT = 20; // update every x triggers or when a key was pressed
     public static final int UPDATE_MIN_DELAY = 15;// update every x triggers or when a key was pressed
     public static final int UPDATE_SETTINGS_INTERVAL_SECONDS = 60; // check for updates every x sec
+    public static final int POLLING_WHEEL_TICK_MS = 250; // resolution of the polling wheel
+    public static final int POLLING_MAX_POLLS_PER_SECOND = 10; // rate limit for regular status polls of all things
+    public static final int POLLING_MAX_SUPPRESSED = 4; // max. regular polls skipped in a row due to WebSocket status
     public static final int HEALTH_CHECK_INTERVAL_SEC = 300; // Health check interval, 5min
     public static final int VIBRATION_FILTER_SEC = 5; // Absorb duplicate vibration events for xx sec
 
@@ -28,12 +28,14 @@ import org.openhab.binding.shelly.internal.handler.ShellyBaseHandler;
 import org.openhab.binding.shelly.internal.handler.ShellyBluHandler;
 import org.openhab.binding.shelly.internal.handler.ShellyLightHandler;
 import org.openhab.binding.shelly.internal.handler.ShellyManagerInterface;
+import org.openhab.binding.shelly.internal.handler.ShellyPollingWheel;
 import org.openhab.binding.shelly.internal.handler.ShellyProtectedHandler;
 import org.openhab.binding.shelly.internal.handler.ShellyRelayHandler;
 import org.openhab.binding.shelly.internal.handler.ShellyThingInterface;
 import org.openhab.binding.shelly.internal.handler.ShellyThingTable;
 import org.openhab.binding.shelly.internal.provider.ShellyTranslationProvider;
 import org.openhab.binding.shelly.internal.util.ShellyUtils;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.io.net.http.HttpClientFactory;
 import org.openhab.core.io.net.http.WebSocketFactory;
 import org.openhab.core.net.HttpServiceUtil;
@@ -65,6 +67,7 @@ public class ShellyHandlerFactory extends BaseThingHandlerFactory {
     private final ShellyTranslationProvider messages;
     private final Shelly1CoapServer coapServer;
     private final ShellyThingTable thingTable;
+    private final ShellyPollingWheel pollingWheel;
     private final WebSocketClient webSocketClient;
     private ShellyBindingConfiguration bindingConfig = new ShellyBindingConfiguration();
 
@@ -111,11 +114,13 @@ public class ShellyHandlerFactory extends BaseThingHandlerFactory {
         bindingConfig.httpPort = httpPort;
 
         this.coapServer = new Shelly1CoapServer();
+        this.pollingWheel = new ShellyPollingWheel(ThreadPoolManager.getScheduledPool("thingHandler"));
         this.thingTable.startDiscoveryService(bundleContext);
     }
 
     @Deactivate
     public void deactivate() {
+        pollingWheel.stop();
         try {
             webSocketClient.stop();
         } catch (Exception e) {
@@ -136,23 +141,23 @@ public class ShellyHandlerFactory extends BaseThingHandlerFactory {
         if (THING_TYPE_SHELLYPROTECTED.equals(thingTypeUID)) {
             logger.debug("{}: Create new thing of type {} using ShellyProtectedHandler", thing.getLabel(),
                     thingTypeUID.toString());
-            handler = new ShellyProtectedHandler(thing, messages, bindingConfig, thingTable, coapServer, httpClient,
-                    webSocketClient);
+            handler = new ShellyProtectedHandler(thing, messages, bindingConfig, thingTable, coapServer, pollingWheel,
+                    httpClient, webSocketClient);
         } else if (GROUP_LIGHT_THING_TYPES.contains(thingTypeUID)) {
             logger.debug("{}: Create new thing of type {} using ShellyLightHandler", thing.getLabel(),
                     thingTypeUID.toString());
-            handler = new ShellyLightHandler(thing, messages, bindingConfig, thingTable, coapServer, httpClient,
-                    webSocketClient);
+            handler = new ShellyLightHandler(thing, messages, bindingConfig, thingTable, coapServer, pollingWheel,
+                    httpClient, webSocketClient);
         } else if (GROUP_BLU_THING_TYPES.contains(thingTypeUID)) {
             logger.debug("{}: Create new thing of type {} using ShellyBluSensorHandler", thing.getLabel(),
                     thingTypeUID.toString());
-            handler = new ShellyBluHandler(thing, messages, bindingConfig, thingTable, coapServer, httpClient,
-                    webSocketClient);
+            handler = new ShellyBluHandler(thing, messages, bindingConfig, thingTable, coapServer, pollingWheel,
+                    httpClient, webSocketClient);
         } else if (SUPPORTED_THING_TYPES.contains(thingTypeUID)) {
             logger.debug("{}: Create new thing of type {} using ShellyRelayHandler", thing.getLabel(),
                     thingTypeUID.toString());
-            handler = new ShellyRelayHandler(thing, messages, bindingConfig, thingTable, coapServer, httpClient,
-                    webSocketClient);
+            handler = new ShellyRelayHandler(thing, messages, bindingConfig, thingTable, coapServer, pollingWheel,
+                    httpClient, webSocketClient);
         }
 
         if (handler != null) {
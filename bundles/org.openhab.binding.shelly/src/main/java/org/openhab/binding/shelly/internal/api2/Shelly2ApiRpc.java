@@ -662,6 +662,7 @@ public class Shelly2ApiRpc extends Shelly2ApiClient implements ShellyApiInterfac
             }
 
             profile.status = status;
+            getThing().statusNotificationReceived();
             if (updated) {
                 getThing().restartWatchdog();
             }
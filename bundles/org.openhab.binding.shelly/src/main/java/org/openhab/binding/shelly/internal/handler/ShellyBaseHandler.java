@@ -26,7 +26,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.TreeMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -127,8 +129,15 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
     protected int scheduledUpdates = 0;
     private int skipCount = UPDATE_SKIP_COUNT;
     private int skipUpdate = 0;
+    private int pollOffset = 0;
+    private boolean pollPending = false;
+    private int suppressedPolls = 0;
+    private volatile long lastStatusNotification = 0;
     private boolean refreshSettings = false;
-    private @Nullable ScheduledFuture<?> statusJob;
+    private final ShellyPollingWheel pollingWheel;
+    private final Runnable pollingUpdate = this::triggerUpdate;
+    private final AtomicBoolean updateRunning = new AtomicBoolean();
+    private volatile boolean updateJobStarted = false;
     private @Nullable ScheduledFuture<?> initJob;
 
     /**
@@ -140,14 +149,17 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
      *            configuration)
      * @param thingTable
      * @param coapServer coap server instance
+     * @param pollingWheel binding-wide scheduler for the status updates
      * @param httpClient from httpService
      */
     public ShellyBaseHandler(final Thing thing, final ShellyTranslationProvider translationProvider,
             final ShellyBindingConfiguration bindingConfig, ShellyThingTable thingTable,
-            final Shelly1CoapServer coapServer, final HttpClient httpClient, WebSocketClient webSocketClient) {
+            final Shelly1CoapServer coapServer, final ShellyPollingWheel pollingWheel, final HttpClient httpClient,
+            WebSocketClient webSocketClient) {
         super(thing);
 
         this.thingTable = thingTable;
+        this.pollingWheel = pollingWheel;
         this.thingName = getString(thing.getLabel());
         this.messages = translationProvider;
         this.cache = new ShellyChannelCache(this);
@@ -555,7 +567,29 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
             }
 
             skipUpdate++;
-            if (refreshSettings || (scheduledUpdates > 0) || (skipUpdate % skipCount == 0)) {
+            if ((skipUpdate + pollOffset) % skipCount == 0) {
+                pollPending = true;
+            }
+            boolean requested = refreshSettings || (scheduledUpdates > 0);
+            if (!requested && pollPending && isStatusStreamed()) {
+                // WebSocket delivered a fresh status, skip the regular poll
+                pollPending = false;
+                suppressedPolls++;
+                stats.pollsSuppressed.incrementAndGet();
+                logger.trace("{}: Status is up to date, skip poll ({} in a row)", thingName, suppressedPolls);
+            }
+            if (requested) {
+                pollingWheel.acquirePoll();
+            } else if (pollPending && !pollingWheel.tryAcquirePoll()) {
+                stats.pollsDeferred.incrementAndGet();
+                logger.trace("{}: Poll rate limit reached, defer status update", thingName);
+            } else if (pollPending) {
+                requested = true;
+            }
+            if (requested) {
+                pollPending = false;
+                suppressedPolls = 0;
+                stats.statusPolls.incrementAndGet();
                 ThingStatus thingStatus = getThing().getStatus();
                 if (!profile.isInitialized() || ((thingStatus == ThingStatus.OFFLINE))
                         || (getThingStatusDetail() == ThingStatusDetail.CONFIGURATION_PENDING)) {
@@ -1199,15 +1233,49 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
      * Start the background updates
      */
     protected void startUpdateJob() {
-        ScheduledFuture<?> statusJob = this.statusJob;
-        if ((statusJob == null) || statusJob.isCancelled()) {
-            this.statusJob = scheduler.scheduleWithFixedDelay(this::refreshStatus, 2, UPDATE_STATUS_INTERVAL_SECONDS,
-                    TimeUnit.SECONDS);
+        if (!updateJobStarted) {
+            updateJobStarted = true;
+            // jitter the regular polls, so that things with the same interval don't poll at the same time
+            pollOffset = ThreadLocalRandom.current().nextInt(skipCount);
+            pollingWheel.register(pollingUpdate);
             logger.debug("{}: Update status job started, interval={}*{}={}sec.", thingName, skipCount,
                     UPDATE_STATUS_INTERVAL_SECONDS, skipCount * UPDATE_STATUS_INTERVAL_SECONDS);
         }
     }
 
+    /**
+     * Called by the polling wheel once per update interval, runs the status update unless the previous one is still
+     * in progress
+     */
+    private void triggerUpdate() {
+        if (updateRunning.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                try {
+                    refreshStatus();
+                } finally {
+                    updateRunning.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * A status received through the WebSocket replaces the regular poll, but not more than POLLING_MAX_SUPPRESSED
+     * times in a row, so the complete status is still refreshed from time to time.
+     *
+     * @return true if a status was received within the update interval
+     */
+    private boolean isStatusStreamed() {
+        long last = lastStatusNotification;
+        return last != 0 && suppressedPolls < POLLING_MAX_SUPPRESSED
+                && System.nanoTime() - last < TimeUnit.SECONDS.toNanos(config.updateInterval);
+    }
+
+    @Override
+    public void statusNotificationReceived() {
+        lastStatusNotification = System.nanoTime();
+    }
+
     /**
      * Flag the status job to do an exceptional update (something happened) rather
      * than waiting until the next regular poll
@@ -1560,10 +1628,9 @@ public abstract class ShellyBaseHandler extends BaseThingHandler
             job.cancel(true);
             initJob = null;
         }
-        job = this.statusJob;
-        if (job != null) {
-            job.cancel(true);
-            statusJob = null;
+        if (updateJobStarted) {
+            pollingWheel.unregister(pollingUpdate);
+            updateJobStarted = false;
             logger.debug("{}: Shelly statusJob stopped", thingName);
         }
         api.close();
@@ -33,8 +33,10 @@ public class ShellyBluHandler extends ShellyBaseHandler {
 
     public ShellyBluHandler(final Thing thing, final ShellyTranslationProvider translationProvider,
             final ShellyBindingConfiguration bindingConfig, final ShellyThingTable thingTable,
-            final Shelly1CoapServer coapServer, final HttpClient httpClient, WebSocketClient webSocketClient) {
-        super(thing, translationProvider, bindingConfig, thingTable, coapServer, httpClient, webSocketClient);
+            final Shelly1CoapServer coapServer, final ShellyPollingWheel pollingWheel, final HttpClient httpClient,
+            WebSocketClient webSocketClient) {
+        super(thing, translationProvider, bindingConfig, thingTable, coapServer, pollingWheel, httpClient,
+                webSocketClient);
     }
 
     @Override
@@ -44,6 +44,9 @@ public class ShellyDeviceStats {
     public final AtomicInteger protocolErrors = new AtomicInteger(0);
     public final AtomicInteger wifiRssi = new AtomicInteger(0);
     public final AtomicInteger maxInternalTemp = new AtomicInteger(0);
+    public final AtomicLong statusPolls = new AtomicLong(0);
+    public final AtomicLong pollsSuppressed = new AtomicLong(0);
+    public final AtomicLong pollsDeferred = new AtomicLong(0);
 
     public Map<String, String> asProperties() {
         Map<String, String> prop = new HashMap<>();
@@ -62,6 +65,9 @@ public class ShellyDeviceStats {
         prop.put("protocolErrors", String.valueOf(protocolErrors));
         prop.put("wifiRssi", String.valueOf(wifiRssi));
         prop.put("maxInternalTemp", String.valueOf(maxInternalTemp.get()));
+        prop.put("statusPolls", String.valueOf(statusPolls));
+        prop.put("pollsSuppressed", String.valueOf(pollsSuppressed));
+        prop.put("pollsDeferred", String.valueOf(pollsDeferred));
         return prop;
     }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.handler;
+
+import static org.openhab.binding.shelly.internal.ShellyBindingConstants.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ShellyPollingWheel} drives the status updates of all things from a single timer. The update interval
+ * is divided into slots and each thing is assigned to the least used slot. This spreads the updates of many things
+ * evenly instead of firing them all at the same time.
+ * <p>
+ * In addition the wheel limits the rate of regular status polls of all things. Polls requested by an event or a
+ * command are not limited, but they use up the budget of the regular polls.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ShellyPollingWheel {
+    static final int SLOTS = UPDATE_STATUS_INTERVAL_SECONDS * 1000 / POLLING_WHEEL_TICK_MS;
+
+    private final Logger logger = LoggerFactory.getLogger(ShellyPollingWheel.class);
+    private final ScheduledExecutorService scheduler;
+
+    // All access must be guarded by "this"
+    private final List<Set<Runnable>> slots = new ArrayList<>(SLOTS);
+    private final Map<Runnable, Integer> assignedSlots = new HashMap<>();
+    private int currentSlot = 0;
+    private double pollBudget = POLLING_MAX_POLLS_PER_SECOND;
+    private @Nullable ScheduledFuture<?> tickJob;
+
+    public ShellyPollingWheel(ScheduledExecutorService scheduler) {
+        this.scheduler = scheduler;
+        for (int i = 0; i < SLOTS; i++) {
+            slots.add(new LinkedHashSet<>());
+        }
+    }
+
+    /**
+     * Register a thing to the wheel. The update function is called once per update interval, it must not block.
+     *
+     * @param update function to trigger the status update
+     */
+    public synchronized void register(Runnable update) {
+        if (assignedSlots.containsKey(update)) {
+            return;
+        }
+        int slot = currentSlot;
+        for (int i = 0; i < SLOTS; i++) {
+            int candidate = (currentSlot + i) % SLOTS;
+            if (slots.get(candidate).size() < slots.get(slot).size()) {
+                slot = candidate;
+            }
+        }
+        slots.get(slot).add(update);
+        assignedSlots.put(update, slot);
+
+        ScheduledFuture<?> job = tickJob;
+        if (job == null || job.isCancelled()) {
+            tickJob = scheduler.scheduleWithFixedDelay(this::tick, POLLING_WHEEL_TICK_MS, POLLING_WHEEL_TICK_MS,
+                    TimeUnit.MILLISECONDS);
+            logger.debug("Polling wheel started, {} slots of {}ms", SLOTS, POLLING_WHEEL_TICK_MS);
+        }
+    }
+
+    public synchronized void unregister(Runnable update) {
+        Integer slot = assignedSlots.remove(update);
+        if (slot != null) {
+            slots.get(slot).remove(update);
+        }
+        if (assignedSlots.isEmpty()) {
+            stop();
+        }
+    }
+
+    public synchronized void stop() {
+        ScheduledFuture<?> job = tickJob;
+        if (job != null) {
+            job.cancel(false);
+            tickJob = null;
+            logger.debug("Polling wheel stopped");
+        }
+    }
+
+    /**
+     * Try to get permission for a regular status poll.
+     *
+     * @return true if the poll is within the rate limit, false if it should be deferred to the next update
+     */
+    public synchronized boolean tryAcquirePoll() {
+        if (pollBudget >= 1) {
+            pollBudget--;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Account for a poll, which was requested by an event or command and is executed regardless of the rate limit.
+     */
+    public synchronized void acquirePoll() {
+        pollBudget = Math.max(pollBudget - 1, -POLLING_MAX_POLLS_PER_SECOND);
+    }
+
+    synchronized int getSlot(Runnable update) {
+        Integer slot = assignedSlots.get(update);
+        return slot != null ? slot : -1;
+    }
+
+    void tick() {
+        List<Runnable> updates;
+        synchronized (this) {
+            pollBudget = Math.min(pollBudget + POLLING_MAX_POLLS_PER_SECOND * POLLING_WHEEL_TICK_MS / 1000.0,
+                    POLLING_MAX_POLLS_PER_SECOND);
+            updates = new ArrayList<>(slots.get(currentSlot));
+            currentSlot = (currentSlot + 1) % SLOTS;
+        }
+        for (Runnable update : updates) {
+            try {
+                update.run();
+            } catch (RuntimeException e) {
+                logger.debug("Unable to trigger status update", e);
+            }
+        }
+    }
+}
@@ -35,12 +35,15 @@ public class ShellyProtectedHandler extends ShellyBaseHandler {
      * @param bindingConfig configuration of the binding
      * @param thingTable
      * @param coapService coap server instance
+     * @param pollingWheel binding-wide scheduler for the status updates
      * @param httpClient to connect to the openHAB HTTP API
      */
     public ShellyProtectedHandler(final Thing thing, final ShellyTranslationProvider translationProvider,
             final ShellyBindingConfiguration bindingConfig, ShellyThingTable thingTable,
-            final Shelly1CoapServer coapService, final HttpClient httpClient, WebSocketClient webSocketClient) {
-        super(thing, translationProvider, bindingConfig, thingTable, coapService, httpClient, webSocketClient);
+            final Shelly1CoapServer coapService, final ShellyPollingWheel pollingWheel, final HttpClient httpClient,
+            WebSocketClient webSocketClient) {
+        super(thing, translationProvider, bindingConfig, thingTable, coapService, pollingWheel, httpClient,
+                webSocketClient);
     }
 
     @Override
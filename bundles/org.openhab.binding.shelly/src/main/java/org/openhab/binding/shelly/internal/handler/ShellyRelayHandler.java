@@ -59,12 +59,15 @@ public class ShellyRelayHandler extends ShellyBaseHandler {
      * @param bindingConfig configuration of the binding
      * @param thingTable
      * @param coapServer coap server instance
+     * @param pollingWheel binding-wide scheduler for the status updates
      * @param httpClient to connect to the openHAB HTTP API
      */
     public ShellyRelayHandler(final Thing thing, final ShellyTranslationProvider translationProvider,
             final ShellyBindingConfiguration bindingConfig, ShellyThingTable thingTable,
-            final Shelly1CoapServer coapServer, final HttpClient httpClient, WebSocketClient webSocketClient) {
-        super(thing, translationProvider, bindingConfig, thingTable, coapServer, httpClient, webSocketClient);
+            final Shelly1CoapServer coapServer, final ShellyPollingWheel pollingWheel, final HttpClient httpClient,
+            WebSocketClient webSocketClient) {
+        super(thing, translationProvider, bindingConfig, thingTable, coapServer, pollingWheel, httpClient,
+                webSocketClient);
     }
 
     @Override
@@ -74,6 +74,8 @@ public interface ShellyThingInterface {
 
     void restartWatchdog();
 
+    void statusNotificationReceived();
+
     void publishState(String channelId, State value);
 
     boolean areChannelsCreated();
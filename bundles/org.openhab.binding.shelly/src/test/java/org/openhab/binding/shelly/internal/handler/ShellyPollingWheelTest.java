@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.openhab.binding.shelly.internal.ShellyBindingConstants.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ShellyPollingWheel}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ShellyPollingWheelTest {
+
+    private final ShellyPollingWheel wheel = new ShellyPollingWheel(mock(ScheduledExecutorService.class));
+
+    @Test
+    void spreadsThingsOverSlots() {
+        List<AtomicInteger> counters = new ArrayList<>();
+        for (int i = 0; i < ShellyPollingWheel.SLOTS * 2; i++) {
+            AtomicInteger counter = new AtomicInteger();
+            counters.add(counter);
+            wheel.register(counter::incrementAndGet);
+        }
+
+        for (int tick = 0; tick < ShellyPollingWheel.SLOTS; tick++) {
+            int before = counters.stream().mapToInt(AtomicInteger::get).sum();
+            wheel.tick();
+            assertEquals(2, counters.stream().mapToInt(AtomicInteger::get).sum() - before);
+        }
+        counters.forEach(counter -> assertEquals(1, counter.get()));
+    }
+
+    @Test
+    void unregisterRemovesThing() {
+        AtomicInteger counter = new AtomicInteger();
+        Runnable update = counter::incrementAndGet;
+        wheel.register(update);
+        assertNotEquals(-1, wheel.getSlot(update));
+
+        wheel.unregister(update);
+        assertEquals(-1, wheel.getSlot(update));
+        for (int tick = 0; tick < ShellyPollingWheel.SLOTS; tick++) {
+            wheel.tick();
+        }
+        assertEquals(0, counter.get());
+    }
+
+    @Test
+    void limitsPollRate() {
+        int granted = 0;
+        while (wheel.tryAcquirePoll()) {
+            granted++;
+        }
+        assertEquals(POLLING_MAX_POLLS_PER_SECOND, granted);
+
+        // the budget is refilled over one second
+        for (int tick = 0; tick < 1000 / POLLING_WHEEL_TICK_MS; tick++) {
+            wheel.tick();
+        }
+        assertTrue(wheel.tryAcquirePoll());
+    }
+
+    @Test
+    void requestedPollsUseUpBudget() {
+        for (int i = 0; i < POLLING_MAX_POLLS_PER_SECOND; i++) {
+            wheel.acquirePoll();
+        }
+        assertFalse(wheel.tryAcquirePoll());
+    }
+}
@@ -31,10 +31,13 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
+import org.openhab.core.events.EventSubscriber;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.Metadata;
 import org.openhab.core.items.MetadataKey;
 import org.openhab.core.items.MetadataRegistry;
+import org.openhab.core.items.events.GroupItemStateChangedEvent;
+import org.openhab.core.items.events.ItemStateChangedEvent;
 import org.openhab.core.net.CidrAddress;
 import org.openhab.core.net.NetUtil;
 import org.openhab.core.net.NetworkAddressService;
@@ -67,15 +70,18 @@ import com.google.gson.GsonBuilder;
  * Also manages the pairing timeout. The service is restarted after a pairing timeout, due to the ConfigAdmin
  * configuration change.
  * <p>
+ * Listens to item state changes to keep the {@link JsonSnapshotCache} up to date.
+ * <p>
  * This is a central component and required by all other components and may not
  * depend on anything in this bundle.
  *
  * @author David Graeff - Initial contribution
  */
-@Component(immediate = false, service = ConfigStore.class, configurationPid = HueEmulationService.CONFIG_PID)
+@Component(immediate = false, service = { ConfigStore.class,
+        EventSubscriber.class }, configurationPid = HueEmulationService.CONFIG_PID)
 @ConfigurableService(category = "io", label = "Hue Emulation", description_uri = "io:hueemulation")
 @NonNullByDefault
-public class ConfigStore {
+public class ConfigStore implements EventSubscriber {
 
     public static final String METAKEY = "HUEEMU";
     public static final String EVENT_ADDRESS_CHANGED = "HUE_EMU_CONFIG_ADDR_CHANGED";
@@ -100,6 +106,11 @@ public class ConfigStore {
             .registerTypeAdapter(HueSuccessResponseStateChanged.class, new HueSuccessResponseStateChanged.Serializer())
             .registerTypeAdapter(HueGroupEntry.class, new HueGroupEntry.Serializer()).create();
 
+    /**
+     * The serialised lights and groups. Must be invalidated whenever lights or groups are changed.
+     */
+    public final JsonSnapshotCache jsonSnapshots = new JsonSnapshotCache();
+
     @Reference
     protected @NonNullByDefault({}) ConfigurationAdmin configAdmin;
 
@@ -417,4 +428,16 @@ public class ConfigStore {
     public Set<InetAddress> getDiscoveryIps() {
         return discoveryIps;
     }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return Set.of(ItemStateChangedEvent.TYPE, GroupItemStateChangedEvent.TYPE);
+    }
+
+    @Override
+    public void receive(org.openhab.core.events.Event event) {
+        if (event instanceof ItemStateChangedEvent stateChangedEvent) {
+            jsonSnapshots.itemStateChanged(stateChangedEvent.getItemName());
+        }
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.io.hueemulation.internal.dto.HueGroupEntry;
+import org.openhab.io.hueemulation.internal.dto.HueLightEntry;
+
+import com.google.gson.Gson;
+
+/**
+ * Hue clients like voice assistants poll all lights and all groups very often. This cache keeps the serialised
+ * documents until they may have changed, so the same data is not serialised again for every request.
+ * <p>
+ * Each document has a version. The lights version changes on state changes of a light item, see
+ * {@link #itemStateChanged(String)}. Both versions change on {@link #invalidate()}, which must be called whenever lights
+ * or groups are added, removed or changed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JsonSnapshotCache {
+
+    /**
+     * A serialised document
+     *
+     * @param version The version of the document
+     * @param json The UTF-8 encoded JSON document
+     * @param entityTag An entity tag that changes whenever the document may have changed
+     */
+    public record Snapshot(long version, byte[] json, String entityTag) {
+    }
+
+    private static class CachedDocument {
+        private final String name;
+        private final AtomicLong version = new AtomicLong();
+        private final AtomicReference<@Nullable Snapshot> snapshot = new AtomicReference<>();
+
+        private CachedDocument(String name) {
+            this.name = name;
+        }
+    }
+
+    // Entity tags must not repeat after a restart, when the versions start from 0 again
+    private final String instanceId = Long.toHexString(System.currentTimeMillis());
+    private final CachedDocument lights = new CachedDocument("lights");
+    private final CachedDocument groups = new CachedDocument("groups");
+    private volatile Set<String> lightItemNames = Set.of();
+
+    /**
+     * Returns all lights as JSON document.
+     *
+     * @param gson The gson instance with the hue emulation type adapters
+     * @param lightsMap The lights of the data store
+     */
+    public Snapshot getLights(Gson gson, Map<String, HueLightEntry> lightsMap) {
+        return get(lights, () -> {
+            lightItemNames = lightsMap.values().stream().map(light -> light.item.getName())
+                    .collect(Collectors.toUnmodifiableSet());
+            return gson.toJson(lightsMap);
+        });
+    }
+
+    /**
+     * Returns all groups as JSON document.
+     *
+     * @param gson The gson instance with the hue emulation type adapters
+     * @param groupsMap The groups of the data store
+     */
+    public Snapshot getGroups(Gson gson, Map<String, HueGroupEntry> groupsMap) {
+        return get(groups, () -> gson.toJson(groupsMap));
+    }
+
+    /**
+     * Invalidates the lights document if the given item is one of the lights.
+     *
+     * @param itemName The name of the item whose state changed
+     */
+    public void itemStateChanged(String itemName) {
+        if (lightItemNames.contains(itemName)) {
+            lights.version.incrementAndGet();
+        }
+    }
+
+    /**
+     * Invalidates all documents.
+     */
+    public void invalidate() {
+        lights.version.incrementAndGet();
+        groups.version.incrementAndGet();
+    }
+
+    private Snapshot get(CachedDocument document, Supplier<String> serializer) {
+        // Read the version first: if the data changes while serialising, the snapshot is outdated immediately
+        long version = document.version.get();
+        Snapshot snapshot = document.snapshot.get();
+        if (snapshot != null && snapshot.version() == version) {
+            return snapshot;
+        }
+        byte[] json = serializer.get().getBytes(StandardCharsets.UTF_8);
+        Snapshot newSnapshot = new Snapshot(version, json, instanceId + "-" + document.name + "-" + version);
+        // Never replace a newer snapshot of a concurrent request
+        document.snapshot
+                .updateAndGet(current -> current != null && current.version() > version ? current : newSnapshot);
+        return newSnapshot;
+    }
+}
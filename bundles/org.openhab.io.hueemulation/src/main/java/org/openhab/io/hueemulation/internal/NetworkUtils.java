@@ -20,6 +20,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.UriInfo;
@@ -140,4 +142,20 @@ public class NetworkUtils {
         return Response.ok(gson.toJson(responses, new TypeToken<List<?>>() {
         }.getType())).build();
     }
+
+    /**
+     * Creates a json response from a cached document. Responds with 304 (Not Modified) if the client already has
+     * the document, according to the If-None-Match header.
+     *
+     * @param request The request, for evaluating the preconditions
+     * @param snapshot The cached document
+     */
+    public static Response snapshot(Request request, JsonSnapshotCache.Snapshot snapshot) {
+        EntityTag entityTag = new EntityTag(snapshot.entityTag());
+        ResponseBuilder response = request.evaluatePreconditions(entityTag);
+        if (response == null) {
+            response = Response.ok(snapshot.json());
+        }
+        return response.tag(entityTag).build();
+    }
 }
@@ -27,6 +27,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
@@ -152,6 +153,7 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
             rebuildSemanticModel();
         } else {
             cs.ds.resetGroupsAndLights();
+            cs.jsonSnapshots.invalidate();
 
             for (Item item : itemRegistry.getItems()) {
                 added(item);
@@ -181,6 +183,7 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
         }
 
         updateGroup0();
+        cs.jsonSnapshots.invalidate();
 
         logger.debug("Semantic model built: {} lights, {} groups", lights.size(), groups.size());
     }
@@ -237,6 +240,7 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
             cs.ds.lights.put(hueID, device);
             updateGroup0();
         }
+        cs.jsonSnapshots.invalidate();
     }
 
     /**
@@ -264,6 +268,7 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
         cs.ds.lights.remove(hueID);
         cs.ds.groups.remove(hueID);
         updateGroup0();
+        cs.jsonSnapshots.invalidate();
     }
 
     /**
@@ -284,6 +289,7 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
 
     private synchronized void updatedNonSemanticModel(GenericItem newItem) {
         String hueID = cs.mapItemUIDtoHueID(newItem);
+        cs.jsonSnapshots.invalidate();
 
         HueGroupEntry hueGroup = cs.ds.groups.get(hueID);
         if (hueGroup != null) {
@@ -317,12 +323,12 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
     @GET
     @Path("{username}/lights")
     @Operation(summary = "Return all lights", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllLightsApi(@Context UriInfo uri,
+    public Response getAllLightsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights)).build();
+        return NetworkUtils.snapshot(request, cs.jsonSnapshots.getLights(cs.gson, cs.ds.lights));
     }
 
     @GET
@@ -466,6 +472,7 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
             }
             hueDevice.lastCommand = command;
             hueDevice.lastHueChange = newState;
+            cs.jsonSnapshots.invalidate();
         }
 
         return Response.ok(cs.gson.toJson(responses, new TypeToken<List<?>>() {
@@ -496,6 +503,7 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
 
         // First synchronize the internal state information with the framework
         hueDevice.action = StateUtils.colorStateFromItemState(groupItem.getState(), hueDevice.deviceType);
+        cs.jsonSnapshots.invalidate();
 
         List<HueResponse> responses = new ArrayList<>();
         Command command = StateUtils.computeCommandByState(responses, "/groups/" + id + "/state/", hueDevice.action,
@@ -520,12 +528,12 @@ public class LightsAndGroups implements ConfigurationListener, RegistryChangeLis
     @GET
     @Path("{username}/groups")
     @Operation(summary = "Return all groups", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllGroupsApi(@Context UriInfo uri,
+    public Response getAllGroupsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups)).build();
+        return NetworkUtils.snapshot(request, cs.jsonSnapshots.getGroups(cs.gson, cs.ds.groups));
     }
 
     @GET
@@ -23,6 +23,7 @@ import java.io.IOException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.http.HttpHeader;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -424,6 +425,31 @@ public class LightsAndGroupsTests {
         assertThat(body, containsString("color"));
     }
 
+    @Test
+    public void allLightsNotModified() throws Exception {
+        ContentResponse response = commonSetup.sendGet("/testuser/lights");
+        assertThat(response.getStatus(), is(200));
+        String entityTag = response.getHeaders().get(HttpHeader.ETAG);
+        assertNotNull(entityTag);
+
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights")
+                .header(HttpHeader.IF_NONE_MATCH, entityTag).send();
+        assertThat(response.getStatus(), is(304));
+
+        // Unrelated items do not change the document
+        cs.jsonSnapshots.itemStateChanged("unrelated");
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights")
+                .header(HttpHeader.IF_NONE_MATCH, entityTag).send();
+        assertThat(response.getStatus(), is(304));
+
+        cs.jsonSnapshots.itemStateChanged("color");
+        response = commonSetup.client.newRequest(commonSetup.basePath + "/testuser/lights")
+                .header(HttpHeader.IF_NONE_MATCH, entityTag).send();
+        assertThat(response.getStatus(), is(200));
+        assertThat(response.getContentAsString(), containsString("color"));
+        assertThat(response.getHeaders().get(HttpHeader.ETAG), not(entityTag));
+    }
+
     private boolean assertHueValue(ItemCommandEvent ce, int hueValue) {
         assertThat(((HSBType) ce.getItemCommand()).getHue().intValue(), is(hueValue * 360 / HueStateColorBulb.MAX_HUE));
         return true;
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Collects item updates for a short interval and sends only the latest state of every item, so an item changing
+ * many times in a row does not send a message to the openHAB Cloud for every change.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class PendingItemUpdates {
+    private final ScheduledExecutorService scheduler;
+    private final long intervalMs;
+    private final Consumer<Map<String, String>> sender;
+    // latest states of the items whose updates are not sent yet, all access must be guarded by "this"
+    private final Map<String, String> itemStates = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> sendFuture;
+
+    /**
+     * @param scheduler the scheduler sending the updates
+     * @param intervalMs the time in milliseconds updates are collected before they are sent
+     * @param sender called with the latest state of every updated item, in the order of their first update
+     */
+    PendingItemUpdates(ScheduledExecutorService scheduler, long intervalMs, Consumer<Map<String, String>> sender) {
+        this.scheduler = scheduler;
+        this.intervalMs = intervalMs;
+        this.sender = sender;
+    }
+
+    synchronized void add(String itemName, String itemState) {
+        // a newer state of the same item replaces the pending one
+        itemStates.put(itemName, itemState);
+        if (sendFuture == null) {
+            sendFuture = scheduler.schedule(this::send, intervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Discards the updates which are not sent yet.
+     */
+    synchronized void clear() {
+        ScheduledFuture<?> sendFuture = this.sendFuture;
+        if (sendFuture != null) {
+            sendFuture.cancel(false);
+            this.sendFuture = null;
+        }
+        itemStates.clear();
+    }
+
+    private void send() {
+        Map<String, String> itemUpdates;
+        synchronized (this) {
+            itemUpdates = new LinkedHashMap<>(itemStates);
+            itemStates.clear();
+            sendFuture = null;
+        }
+        sender.accept(itemUpdates);
+    }
+}
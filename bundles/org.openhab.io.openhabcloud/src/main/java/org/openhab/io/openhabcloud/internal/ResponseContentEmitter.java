@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Collects the content chunks of a proxied response into frames of up to a maximum size, so the response is sent to
+ * the openHAB Cloud with a few large packets instead of one packet per chunk. If the length of the response is known,
+ * a frame is emitted as soon as it is full. Content of unknown length, e.g. event streams, is additionally emitted a
+ * few milliseconds after it arrived, so it is not held back until the frame is full.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ResponseContentEmitter {
+    static final long FLUSH_DELAY_MS = 5;
+
+    private final ScheduledExecutorService scheduler;
+    private final int maxFrameSize;
+    private final Consumer<byte[]> emitter;
+    // Content still expected according to the Content-Length header, negative if unknown
+    private long remainingLength = -1;
+    private byte @Nullable [] frame;
+    private int frameLength;
+    private @Nullable ScheduledFuture<?> flushFuture;
+
+    /**
+     * @param scheduler the scheduler delaying the emission of content of unknown length
+     * @param maxFrameSize the maximum number of bytes emitted at once
+     * @param emitter called with every frame, in the order of the content
+     */
+    ResponseContentEmitter(ScheduledExecutorService scheduler, int maxFrameSize, Consumer<byte[]> emitter) {
+        this.scheduler = scheduler;
+        this.maxFrameSize = maxFrameSize;
+        this.emitter = emitter;
+    }
+
+    /**
+     * @param contentLength the length of the content, or a negative value if unknown
+     */
+    synchronized void setContentLength(long contentLength) {
+        remainingLength = contentLength;
+    }
+
+    synchronized void add(ByteBuffer content) {
+        while (content.hasRemaining()) {
+            if (remainingLength == 0) {
+                // more content than announced, the rest is handled like content of unknown length
+                remainingLength = -1;
+            }
+            byte[] frame = this.frame;
+            if (frame == null) {
+                frame = new byte[(int) (remainingLength > 0 ? Math.min(remainingLength, maxFrameSize) : maxFrameSize)];
+                this.frame = frame;
+            }
+            int length = Math.min(content.remaining(), frame.length - frameLength);
+            content.get(frame, frameLength, length);
+            frameLength += length;
+            if (remainingLength > 0) {
+                remainingLength -= length;
+            }
+            if (frameLength == frame.length) {
+                emitter.accept(frame);
+                this.frame = null;
+                frameLength = 0;
+            }
+        }
+        if (remainingLength < 0 && frameLength > 0 && flushFuture == null) {
+            flushFuture = scheduler.schedule(this::flush, FLUSH_DELAY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Emits the content which is not emitted yet.
+     */
+    synchronized void flush() {
+        ScheduledFuture<?> flushFuture = this.flushFuture;
+        if (flushFuture != null) {
+            flushFuture.cancel(false);
+            this.flushFuture = null;
+        }
+        byte[] frame = this.frame;
+        if (frame != null && frameLength > 0) {
+            // the frame is kept for the following content
+            emitter.accept(Arrays.copyOf(frame, frameLength));
+            frameLength = 0;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class PendingItemUpdatesTest {
+
+    private static final long INTERVAL_MS = 100;
+
+    private final List<Map<String, String>> sentUpdates = new ArrayList<>();
+    private final List<Runnable> scheduledSends = new ArrayList<>();
+    private @NonNullByDefault({}) ScheduledFuture<?> sendFuture;
+    private @NonNullByDefault({}) PendingItemUpdates pendingItemUpdates;
+
+    @BeforeEach
+    void setUp() {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        sendFuture = mock(ScheduledFuture.class);
+        doAnswer(invocation -> {
+            scheduledSends.add(invocation.getArgument(0));
+            return sendFuture;
+        }).when(scheduler).schedule(any(Runnable.class), eq(INTERVAL_MS), eq(TimeUnit.MILLISECONDS));
+        pendingItemUpdates = new PendingItemUpdates(scheduler, INTERVAL_MS, sentUpdates::add);
+    }
+
+    @Test
+    void onlyTheLatestStateOfAnItemIsSent() {
+        pendingItemUpdates.add("Light", "ON");
+        pendingItemUpdates.add("Temperature", "20.5");
+        pendingItemUpdates.add("Light", "OFF");
+        assertTrue(sentUpdates.isEmpty());
+        assertEquals(1, scheduledSends.size());
+
+        scheduledSends.get(0).run();
+        assertEquals(List.of(Map.of("Light", "OFF", "Temperature", "20.5")), sentUpdates);
+        assertEquals(List.of("Light", "Temperature"), List.copyOf(sentUpdates.get(0).keySet()));
+    }
+
+    @Test
+    void updatesAfterASendAreSentWithTheNextInterval() {
+        pendingItemUpdates.add("Light", "ON");
+        scheduledSends.get(0).run();
+
+        pendingItemUpdates.add("Light", "OFF");
+        assertEquals(2, scheduledSends.size());
+        scheduledSends.get(1).run();
+
+        assertEquals(List.of(Map.of("Light", "ON"), Map.of("Light", "OFF")), sentUpdates);
+    }
+
+    @Test
+    void clearDiscardsPendingUpdates() {
+        pendingItemUpdates.add("Light", "ON");
+        pendingItemUpdates.clear();
+        verify(sendFuture).cancel(false);
+
+        pendingItemUpdates.add("Temperature", "20.5");
+        assertEquals(2, scheduledSends.size());
+        scheduledSends.get(1).run();
+
+        assertEquals(List.of(Map.of("Temperature", "20.5")), sentUpdates);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ResponseContentEmitterTest {
+
+    private final List<String> frames = new ArrayList<>();
+    private final List<Runnable> scheduledFlushes = new ArrayList<>();
+    private @NonNullByDefault({}) ScheduledFuture<?> flushFuture;
+    private @NonNullByDefault({}) ResponseContentEmitter emitter;
+
+    @BeforeEach
+    void setUp() {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        flushFuture = mock(ScheduledFuture.class);
+        doAnswer(invocation -> {
+            scheduledFlushes.add(invocation.getArgument(0));
+            return flushFuture;
+        }).when(scheduler).schedule(any(Runnable.class), eq(ResponseContentEmitter.FLUSH_DELAY_MS),
+                eq(TimeUnit.MILLISECONDS));
+        emitter = new ResponseContentEmitter(scheduler, 4,
+                frame -> frames.add(new String(frame, StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    void contentOfKnownLengthIsSentInFullFrames() {
+        emitter.setContentLength(10);
+        add("ab");
+        add("cde");
+        assertEquals(List.of("abcd"), frames);
+
+        add("fghij");
+        assertEquals(List.of("abcd", "efgh", "ij"), frames);
+        assertTrue(scheduledFlushes.isEmpty());
+    }
+
+    @Test
+    void flushCancelsTheDelayedFlush() {
+        add("a");
+        emitter.flush();
+
+        assertEquals(List.of("a"), frames);
+        verify(flushFuture).cancel(false);
+    }
+
+    @Test
+    void flushSendsIncompleteFrame() {
+        emitter.setContentLength(10);
+        add("abcdef");
+        emitter.flush();
+        emitter.flush();
+
+        assertEquals(List.of("abcd", "ef"), frames);
+    }
+
+    @Test
+    void contentBeyondTheAnnouncedLengthIsSent() {
+        emitter.setContentLength(2);
+        add("abcdefg");
+        assertEquals(List.of("ab", "cdef"), frames);
+
+        emitter.flush();
+        assertEquals(List.of("ab", "cdef", "g"), frames);
+    }
+
+    @Test
+    void contentOfUnknownLengthIsSentAfterAShortDelay() {
+        add("a");
+        add("b");
+        assertTrue(frames.isEmpty());
+        assertEquals(1, scheduledFlushes.size());
+
+        scheduledFlushes.get(0).run();
+        assertEquals(List.of("ab"), frames);
+
+        add("cdefg");
+        assertEquals(List.of("ab", "cdef"), frames);
+        assertEquals(2, scheduledFlushes.size());
+
+        emitter.flush();
+        assertEquals(List.of("ab", "cdef", "g"), frames);
+    }
+
+    private void add(String content) {
+        emitter.add(ByteBuffer.wrap(content.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
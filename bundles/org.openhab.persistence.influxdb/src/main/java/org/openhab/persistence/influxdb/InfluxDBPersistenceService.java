@@ -14,6 +14,8 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
@@ -33,8 +35,10 @@ import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemFactory;
 import org.openhab.core.items.ItemRegistry;
@@ -52,12 +56,15 @@ import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
+import org.openhab.persistence.influxdb.internal.InfluxDBOverflowPolicy;
 import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
+import org.openhab.persistence.influxdb.internal.InfluxDBSpool;
 import org.openhab.persistence.influxdb.internal.InfluxDBStateConvertUtils;
 import org.openhab.persistence.influxdb.internal.InfluxPoint;
 import org.openhab.persistence.influxdb.internal.influx1.InfluxDB1RepositoryImpl;
 import org.openhab.persistence.influxdb.internal.influx2.InfluxDB2RepositoryImpl;
+import org.openhab.persistence.metrics.PersistenceMetrics;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -81,6 +88,14 @@ import org.slf4j.LoggerFactory;
  * {@link org.openhab.persistence.influxdb.internal.influx1} and
  * {@link org.openhab.persistence.influxdb.internal.influx2} packages
  *
+ * Points are written asynchronously from a bounded queue in chunks of at most
+ * {@link InfluxDBConfiguration#getMaxBatchSize()} points. Failed writes are retried
+ * with exponential backoff and, if enabled, moved to an on-disk {@link InfluxDBSpool}
+ * that is replayed once the database is reachable again.
+ *
+ * Queue size, write and query durations, batch sizes, failures and dropped points are
+ * published as {@link PersistenceMetrics}.
+ *
  * @author Theo Weiss - Initial contribution, rewrite of
  *         org.openhab.persistence.influxdb
  * @author Joan Pujol Espinar - Addon rewrite refactoring code and adding
@@ -98,6 +113,8 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
 
     private static final int COMMIT_INTERVAL = 3; // in s
+    private static final int MAX_BACKOFF_SHIFT = 16;
+    private static final Path SPOOL_FOLDER = Path.of(OpenHAB.getUserDataFolder(), "persistence", "influxdb", "spool");
     protected static final String CONFIG_URI = "persistence:influxdb";
 
     // External dependencies
@@ -110,7 +127,13 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     // storage
     private final ScheduledFuture<?> storeJob;
-    private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final BlockingQueue<InfluxPoint> pointsQueue;
+    private final @Nullable InfluxDBSpool spool;
+    private List<InfluxPoint> retryPoints = new ArrayList<>();
+    private int failedWrites = 0;
+    private long nextWriteAttempt = System.nanoTime();
+    private boolean overflowReported = false;
+    private final PersistenceMetrics metrics = new PersistenceMetrics(SERVICE_NAME);
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -122,6 +145,9 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.itemRegistry = itemRegistry;
         this.influxDBMetadataService = influxDBMetadataService;
         this.configuration = new InfluxDBConfiguration(config);
+        this.pointsQueue = new LinkedBlockingQueue<>(configuration.getMaxQueueSize());
+        metrics.gaugeQueueSize(pointsQueue::size);
+        this.spool = configuration.isSpoolEnabled() ? createSpool() : null;
         if (configuration.isValid()) {
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
@@ -144,6 +170,16 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         };
     }
 
+    private @Nullable InfluxDBSpool createSpool() {
+        try {
+            return new InfluxDBSpool(SPOOL_FOLDER, configuration.getMaxSpoolSize() * 1024L * 1024L);
+        } catch (IOException e) {
+            logger.warn("Failed to create spool directory {}, points will only be queued in memory: {}", SPOOL_FOLDER,
+                    e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Disconnect from database when service is deactivated
      */
@@ -152,13 +188,22 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         serviceActivated = false;
 
         storeJob.cancel(false);
-        commit(); // ensure we at least tried to store the data;
+        synchronized (this) {
+            nextWriteAttempt = System.nanoTime();
+            commit(); // ensure we at least tried to store the data;
+            if (spool != null) {
+                spoolPendingPoints();
+            }
+        }
 
-        if (!pointsQueue.isEmpty()) {
-            logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
+        int remaining = retryPoints.size() + pointsQueue.size();
+        if (remaining > 0) {
+            logger.warn("InfluxDB failed to finally store {} points.", remaining);
+            metrics.dropped(remaining);
         }
 
         influxDBRepository.disconnect();
+        metrics.setMeterRegistry(null);
         logger.info("InfluxDB persistence service stopped.");
     }
 
@@ -209,10 +254,8 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
                 logger.trace("Ignoring item {}, conversion to an InfluxDB point failed.", item.getName());
                 return;
             }
-            if (pointsQueue.offer(point)) {
+            if (queue(point)) {
                 logger.trace("Queued {} for item {}", point, item);
-            } else {
-                logger.warn("Failed to queue {} for item {}", point, item);
             }
         });
     }
@@ -246,8 +289,15 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         if (serviceActivated && checkConnection()) {
             logger.trace("Query-Filter: {}", filter);
 
-            List<InfluxDBRepository.InfluxRow> results = influxDBRepository.query(filter,
-                    configuration.getRetentionPolicy(), alias);
+            long start = System.nanoTime();
+            List<InfluxDBRepository.InfluxRow> results;
+            try {
+                results = influxDBRepository.query(filter, configuration.getRetentionPolicy(), alias);
+            } catch (RuntimeException e) {
+                metrics.queryFailed();
+                throw e;
+            }
+            metrics.recordQuery(start);
             return results.stream().map(r -> mapRowToHistoricItem(r, itemName)).collect(Collectors.toList());
         } else {
             logger.debug("Query for persisted data ignored, InfluxDB is not connected");
@@ -280,16 +330,116 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         return false;
     }
 
-    private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
+    private boolean queue(InfluxPoint point) {
+        if (pointsQueue.offer(point)) {
+            overflowReported = false;
+            return true;
+        }
+        if (configuration.getOverflowPolicy() == InfluxDBOverflowPolicy.DROP_OLDEST) {
+            InfluxPoint dropped;
+            do {
+                dropped = pointsQueue.poll();
+            } while (!pointsQueue.offer(point));
+            logOverflow(dropped);
+            return true;
+        }
+        logOverflow(point);
+        return false;
+    }
+
+    private void logOverflow(@Nullable InfluxPoint dropped) {
+        metrics.dropped(1);
+        if (!overflowReported) {
+            overflowReported = true;
+            logger.warn("InfluxDB write queue is full ({} points), dropping points until it drains.",
+                    configuration.getMaxQueueSize());
+        }
+        logger.trace("Dropped {}", dropped);
+    }
+
+    private synchronized void commit() {
+        InfluxDBSpool spool = this.spool;
+        if (System.nanoTime() - nextWriteAttempt < 0) {
+            return; // backing off after a failed write
+        }
+        if (retryPoints.isEmpty() && pointsQueue.isEmpty() && (spool == null || spool.isEmpty())) {
+            return;
+        }
+        if (!checkConnection()) {
+            writeFailed();
+            return;
+        }
+
+        if (!retryPoints.isEmpty()) {
+            if (!write(retryPoints)) {
+                return;
+            }
+            retryPoints = new ArrayList<>();
+        }
+        if (spool != null) {
+            for (Path segment : spool.getSegments()) {
+                List<InfluxPoint> points = spool.read(segment);
+                if (!points.isEmpty() && !write(points)) {
+                    return;
+                }
+                spool.delete(segment);
+            }
+        }
+        while (!pointsQueue.isEmpty()) {
+            retryPoints = new ArrayList<>();
+            pointsQueue.drainTo(retryPoints, configuration.getMaxBatchSize());
+            if (!write(retryPoints)) {
+                return;
+            }
+            retryPoints = new ArrayList<>();
+        }
+        failedWrites = 0;
+    }
+
+    private boolean write(List<InfluxPoint> points) {
+        long start = System.nanoTime();
+        if (influxDBRepository.write(points)) {
+            metrics.recordStore(start, points.size());
+            logger.trace("Wrote {} elements to database", points.size());
+            return true;
+        }
+        metrics.storeFailed();
+        influxDBRepository.disconnect();
+        writeFailed();
+        return false;
+    }
+
+    private void writeFailed() {
+        failedWrites++;
+        long delay = Math.min((long) COMMIT_INTERVAL << Math.min(failedWrites - 1, MAX_BACKOFF_SHIFT),
+                configuration.getMaxRetryDelay());
+        nextWriteAttempt = System.nanoTime() + TimeUnit.SECONDS.toNanos(delay);
+        logger.warn("Failed to write to InfluxDB ({} attempts), {} points pending, retrying in {}s.", failedWrites,
+                retryPoints.size() + pointsQueue.size(), delay);
+        if (spool != null) {
+            spoolPendingPoints();
+        }
+    }
+
+    private void spoolPendingPoints() {
+        InfluxDBSpool spool = this.spool;
+        if (spool == null) {
+            return;
+        }
+        if (!retryPoints.isEmpty() && spool.append(retryPoints)) {
+            retryPoints = new ArrayList<>();
+        }
+        while (!pointsQueue.isEmpty()) {
             List<InfluxPoint> points = new ArrayList<>();
-            pointsQueue.drainTo(points);
-            if (!influxDBRepository.write(points)) {
-                logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
-                pointsQueue.addAll(points);
-                influxDBRepository.disconnect();
-            } else {
-                logger.trace("Wrote {} elements to database", points.size());
+            pointsQueue.drainTo(points, configuration.getMaxBatchSize());
+            if (!spool.append(points)) {
+                if (retryPoints.isEmpty()) {
+                    retryPoints = points;
+                } else {
+                    logger.warn("Dropping {} points that could neither be written nor spooled.", points.size());
+                    metrics.dropped(points.size());
+                }
+                return;
             }
         }
     }
@@ -363,6 +513,15 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         calculateItemTypeClasses();
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.setMeterRegistry(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    public void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.setMeterRegistry(null);
+    }
+
     private synchronized void calculateItemTypeClasses() {
         Map<String, Class<? extends State>> desiredClasses = new HashMap<>();
         itemFactories.forEach(factory -> {
@@ -39,6 +39,12 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String MAX_QUEUE_SIZE_PARAM = "maxQueueSize";
+    public static final String OVERFLOW_POLICY_PARAM = "overflowPolicy";
+    public static final String MAX_BATCH_SIZE_PARAM = "maxBatchSize";
+    public static final String MAX_RETRY_DELAY_PARAM = "maxRetryDelay";
+    public static final String SPOOL_ENABLED_PARAM = "spoolEnabled";
+    public static final String MAX_SPOOL_SIZE_PARAM = "maxSpoolSize";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -51,6 +57,12 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final int maxQueueSize;
+    private final InfluxDBOverflowPolicy overflowPolicy;
+    private final int maxBatchSize;
+    private final int maxRetryDelay;
+    private final boolean spoolEnabled;
+    private final int maxSpoolSize;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -64,6 +76,22 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        maxQueueSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(MAX_QUEUE_SIZE_PARAM), Integer.class, 100000));
+        overflowPolicy = parseOverflowPolicy(
+                ConfigParser.valueAsOrElse(config.get(OVERFLOW_POLICY_PARAM), String.class, "DROP_OLDEST"));
+        maxBatchSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(MAX_BATCH_SIZE_PARAM), Integer.class, 5000));
+        maxRetryDelay = Math.max(1, ConfigParser.valueAsOrElse(config.get(MAX_RETRY_DELAY_PARAM), Integer.class, 300));
+        spoolEnabled = ConfigParser.valueAsOrElse(config.get(SPOOL_ENABLED_PARAM), Boolean.class, false);
+        maxSpoolSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(MAX_SPOOL_SIZE_PARAM), Integer.class, 100));
+    }
+
+    private InfluxDBOverflowPolicy parseOverflowPolicy(String value) {
+        try {
+            return InfluxDBOverflowPolicy.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid overflow policy {}, using DROP_OLDEST", value);
+            return InfluxDBOverflowPolicy.DROP_OLDEST;
+        }
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -154,12 +182,44 @@ public class InfluxDBConfiguration {
         return version;
     }
 
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public InfluxDBOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the maximum delay between two write attempts in seconds
+     */
+    public int getMaxRetryDelay() {
+        return maxRetryDelay;
+    }
+
+    public boolean isSpoolEnabled() {
+        return spoolEnabled;
+    }
+
+    /**
+     * @return the maximum size of the on-disk spool in MB
+     */
+    public int getMaxSpoolSize() {
+        return maxSpoolSize;
+    }
+
     @Override
     public String toString() {
         return "InfluxDBConfiguration{url='" + url + "', user='" + user + "', password='" + password.length()
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", maxQueueSize=" + maxQueueSize + ", overflowPolicy="
+                + overflowPolicy + ", maxBatchSize=" + maxBatchSize + ", maxRetryDelay=" + maxRetryDelay
+                + ", spoolEnabled=" + spoolEnabled + ", maxSpoolSize=" + maxSpoolSize + '}';
     }
 }
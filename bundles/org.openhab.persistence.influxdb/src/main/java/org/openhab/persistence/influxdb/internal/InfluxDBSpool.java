@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk spool for points that could not be written to InfluxDB.
+ *
+ * Every call to {@link #append(List)} creates a new, immutable segment file. Segment names sort in creation order, so
+ * the spool can be replayed oldest first. When the spool grows beyond its size limit, the oldest segments are
+ * discarded.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBSpool {
+    private static final String SEGMENT_SUFFIX = ".spool";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte TYPE_STRING = 0;
+    private static final byte TYPE_DECIMAL = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBSpool.class);
+    private final Path directory;
+    private final long maxSize;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @param directory the directory for the segment files, created if missing
+     * @param maxSize the maximum total size of all segments in bytes
+     * @throws IOException if the directory cannot be created
+     */
+    public InfluxDBSpool(Path directory, long maxSize) throws IOException {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * Writes the points to a new segment.
+     *
+     * @param points the points to spool
+     * @return <code>true</code> if the segment was written
+     */
+    public synchronized boolean append(List<InfluxPoint> points) {
+        if (points.isEmpty()) {
+            return true;
+        }
+        String name = String.format("%020d-%06d", System.currentTimeMillis(), sequence.getAndIncrement() % 1000000);
+        Path temp = directory.resolve(name + TEMP_SUFFIX);
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(points.size());
+                for (InfluxPoint point : points) {
+                    writePoint(out, point);
+                }
+            }
+            Files.move(temp, directory.resolve(name + SEGMENT_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Spooled {} points to segment {}", points.size(), name);
+        } catch (IOException e) {
+            logger.warn("Failed to spool {} points: {}", points.size(), e.getMessage());
+            delete(temp);
+            return false;
+        }
+        enforceSizeLimit();
+        return true;
+    }
+
+    /**
+     * @return all segments, oldest first
+     */
+    public synchronized List<Path> getSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        } catch (IOException e) {
+            logger.warn("Failed to list spool directory {}: {}", directory, e.getMessage());
+            return List.of();
+        }
+    }
+
+    public boolean isEmpty() {
+        return getSegments().isEmpty();
+    }
+
+    /**
+     * Reads all points of a segment. Corrupt segments are deleted.
+     *
+     * @param segment the segment
+     * @return the points, or an empty list if the segment could not be read
+     */
+    public List<InfluxPoint> read(Path segment) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("unsupported format version " + version);
+            }
+            int count = in.readInt();
+            List<InfluxPoint> points = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                points.add(readPoint(in));
+            }
+            return points;
+        } catch (IOException e) {
+            logger.warn("Discarding unreadable spool segment {}: {}", segment, e.getMessage());
+            delete(segment);
+            return List.of();
+        }
+    }
+
+    public void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            logger.warn("Failed to delete spool segment {}: {}", segment, e.getMessage());
+        }
+    }
+
+    private void enforceSizeLimit() {
+        List<Path> segments = getSegments();
+        long size = 0;
+        long[] sizes = new long[segments.size()];
+        for (int i = 0; i < segments.size(); i++) {
+            try {
+                sizes[i] = Files.size(segments.get(i));
+            } catch (IOException e) {
+                sizes[i] = 0;
+            }
+            size += sizes[i];
+        }
+        for (int i = 0; i < segments.size() - 1 && size > maxSize; i++) {
+            logger.warn("InfluxDB spool exceeds {} bytes, discarding oldest segment {}", maxSize, segments.get(i));
+            delete(segments.get(i));
+            size -= sizes[i];
+        }
+    }
+
+    private void writePoint(DataOutputStream out, InfluxPoint point) throws IOException {
+        out.writeUTF(point.getMeasurementName());
+        Instant time = point.getTime();
+        out.writeLong(time.getEpochSecond());
+        out.writeInt(time.getNano());
+        Object value = point.getValue();
+        if (value instanceof BigDecimal decimal) {
+            out.writeByte(TYPE_DECIMAL);
+            out.writeUTF(decimal.toString());
+        } else if (value instanceof Long longValue) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Integer intValue) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt(intValue);
+        } else if (value instanceof Number number) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(number.doubleValue());
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean(bool);
+        } else {
+            out.writeByte(TYPE_STRING);
+            writeLongString(out, String.valueOf(value));
+        }
+        Map<String, String> tags = point.getTags();
+        out.writeInt(tags.size());
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            out.writeUTF(tag.getKey());
+            writeLongString(out, tag.getValue());
+        }
+    }
+
+    private InfluxPoint readPoint(DataInputStream in) throws IOException {
+        InfluxPoint.Builder builder = InfluxPoint.newBuilder(in.readUTF());
+        builder.withTime(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+        byte type = in.readByte();
+        Object value = switch (type) {
+            case TYPE_DECIMAL -> new BigDecimal(in.readUTF());
+            case TYPE_LONG -> in.readLong();
+            case TYPE_INTEGER -> in.readInt();
+            case TYPE_DOUBLE -> in.readDouble();
+            case TYPE_BOOLEAN -> in.readBoolean();
+            case TYPE_STRING -> readLongString(in);
+            default -> throw new IOException("unknown value type " + type);
+        };
+        builder.withValue(value);
+        int tagCount = in.readInt();
+        for (int i = 0; i < tagCount; i++) {
+            builder.withTag(in.readUTF(), readLongString(in));
+        }
+        return builder.build();
+    }
+
+    // writeUTF is limited to 64k, which string states and labels may exceed
+    private void writeLongString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private String readLongString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -12,6 +12,8 @@
  */
 package org.openhab.persistence.influxdb;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -32,6 +34,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.ItemRegistry;
 import org.openhab.core.items.MetadataRegistry;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
@@ -40,6 +43,10 @@ import org.openhab.persistence.influxdb.internal.InfluxDBVersion;
 import org.openhab.persistence.influxdb.internal.ItemTestHelper;
 import org.openhab.persistence.influxdb.internal.UnexpectedConditionException;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 /**
  * @author Joan Pujol Espinar - Initial contribution
  */
@@ -124,6 +131,31 @@ public class InfluxDBPersistenceServiceTest {
         verify(influxDBRepositoryMock, never()).write(any());
     }
 
+    @Test
+    public void storeIsPublishedToMeterRegistry() throws InterruptedException, UnexpectedConditionException {
+        CompositeMeterRegistry meterRegistry = new CompositeMeterRegistry();
+        meterRegistry.add(new SimpleMeterRegistry());
+        MeterRegistryProvider meterRegistryProvider = mock(MeterRegistryProvider.class);
+        when(meterRegistryProvider.getOHMeterRegistry()).thenReturn(meterRegistry);
+        when(influxDBRepositoryMock.isConnected()).thenReturn(true);
+        when(influxDBRepositoryMock.write(any())).thenReturn(true);
+        InfluxDBPersistenceService instance = getService(VALID_V2_CONFIGURATION);
+        instance.setMeterRegistryProvider(meterRegistryProvider);
+
+        instance.store(ItemTestHelper.createNumberItem("number", 5));
+        DistributionSummary batchSize = meterRegistry.get("openhab.persistence.store.batch.size")
+                .tag("service", InfluxDBPersistenceService.SERVICE_NAME).summary();
+        for (int i = 0; i < 100 && batchSize.count() == 0; i++) {
+            Thread.sleep(100);
+        }
+        assertEquals(1, batchSize.count());
+        assertEquals(1.0, batchSize.totalAmount());
+        assertEquals(0.0, meterRegistry.get("openhab.persistence.queue.size").gauge().value());
+
+        instance.unsetMeterRegistryProvider(meterRegistryProvider);
+        assertNull(meterRegistry.find("openhab.persistence.store.batch.size").summary());
+    }
+
     private InfluxDBPersistenceService getService(Map<String, Object> config) {
         return new InfluxDBPersistenceService(mock(ItemRegistry.class), influxDBMetadataService, config) {
             @Override
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBSpoolTest {
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+
+    @Test
+    public void spooledPointsAreRestored() throws IOException {
+        InfluxDBSpool spool = new InfluxDBSpool(tempDir.resolve("spool"), 1024 * 1024);
+        Instant time = Instant.ofEpochSecond(1700000000, 123456789);
+        InfluxPoint decimal = InfluxPoint.newBuilder("temperature").withTime(time).withValue(new BigDecimal("21.5"))
+                .withTag("item", "Temperature").withTag("floor", "ground").build();
+        InfluxPoint digital = InfluxPoint.newBuilder("switch").withTime(time).withValue(1).withTag("item", "Switch")
+                .build();
+        InfluxPoint string = InfluxPoint.newBuilder("text").withTime(time).withValue("hello").build();
+
+        spool.append(List.of(decimal, digital));
+        spool.append(List.of(string));
+
+        List<Path> segments = spool.getSegments();
+        assertThat(segments, hasSize(2));
+
+        List<InfluxPoint> first = spool.read(segments.get(0));
+        assertThat(first, hasSize(2));
+        assertThat(first.get(0).getMeasurementName(), is("temperature"));
+        assertThat(first.get(0).getTime(), is(time));
+        assertThat(first.get(0).getValue(), is(new BigDecimal("21.5")));
+        assertThat(first.get(0).getTags(), is(decimal.getTags()));
+        assertThat(first.get(1).getValue(), is(1));
+        assertThat(spool.read(segments.get(1)).get(0).getValue(), is("hello"));
+
+        spool.delete(segments.get(0));
+        spool.delete(segments.get(1));
+        assertThat(spool.isEmpty(), is(true));
+    }
+
+    @Test
+    public void oldestSegmentsAreDiscardedWhenSpoolIsFull() throws IOException {
+        InfluxDBSpool spool = new InfluxDBSpool(tempDir, 200);
+        for (int i = 0; i < 10; i++) {
+            spool.append(List.of(InfluxPoint.newBuilder("measurement").withTime(Instant.ofEpochSecond(i))
+                    .withValue(Long.valueOf(i)).withTag("item", "Item").build()));
+        }
+
+        List<Path> segments = spool.getSegments();
+        assertThat(segments.size(), is(lessThan(10)));
+        List<InfluxPoint> newest = spool.read(segments.get(segments.size() - 1));
+        assertThat(newest.get(0).getValue(), is(9L));
+    }
+}
@@ -0,0 +1,479 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link TimeSeriesBuffer} stores the persisted states of a single item in a ring buffer ordered by timestamp.
+ * <p>
+ * Timestamps are kept as epoch milliseconds in a {@code long[]}, together with their time zone. Numeric states
+ * ({@link DecimalType}, {@link PercentType} and {@link QuantityType} in the unit of the first stored quantity) are kept
+ * as {@code double} and scale when this is lossless, all other states are kept as objects. Readers first try an
+ * optimistic read and only fall back to a read lock if a concurrent write happened.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class TimeSeriesBuffer {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final byte KIND_OBJECT = 0;
+    private static final byte KIND_DECIMAL = 1;
+    private static final byte KIND_PERCENT = 2;
+    private static final byte KIND_QUANTITY = 3;
+
+    private final StampedLock lock = new StampedLock();
+
+    private long[] times;
+    private double[] values;
+    private byte[] kinds;
+    private byte[] scales;
+    private @Nullable State[] objects;
+    private @Nullable ZoneId[] zones;
+    private @Nullable Unit<?> unit;
+
+    // index of the oldest entry and number of entries
+    private int head = 0;
+    private int size = 0;
+    private long maxEntries;
+
+    /**
+     * A single entry of the buffer.
+     */
+    public record Entry(long timestamp, ZoneId zone, State state) {
+    }
+
+    TimeSeriesBuffer(long maxEntries) {
+        this.maxEntries = maxEntries;
+        int capacity = maxEntries > 0 ? (int) Math.min(INITIAL_CAPACITY, maxEntries) : INITIAL_CAPACITY;
+        times = new long[capacity];
+        values = new double[capacity];
+        kinds = new byte[capacity];
+        scales = new byte[capacity];
+        objects = new State[capacity];
+        zones = new ZoneId[capacity];
+    }
+
+    /**
+     * Adds a state. If an entry with the same timestamp already exists, the existing entry is kept. If the buffer is
+     * full, the oldest entry is removed.
+     *
+     * @param timestamp the timestamp in epoch milliseconds
+     * @param zone the time zone of the timestamp
+     * @param state the state
+     */
+    void add(long timestamp, ZoneId zone, State state) {
+        long stamp = lock.writeLock();
+        try {
+            int index = lowerBound(timestamp);
+            if (index < size && times[physical(index)] == timestamp) {
+                return;
+            }
+            if (maxEntries > 0 && size >= maxEntries) {
+                if (index == 0) {
+                    // older than all retained entries, would be purged immediately
+                    return;
+                }
+                removeOldest();
+                index--;
+            }
+            if (size == times.length) {
+                grow();
+            }
+            insertAt(index, timestamp, zone, state);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes all entries between the given timestamps (inclusive) that match the given predicate.
+     *
+     * @param begin the earliest timestamp in epoch milliseconds
+     * @param end the latest timestamp in epoch milliseconds
+     * @param filter a predicate on the state
+     */
+    void remove(long begin, long end, Predicate<State> filter) {
+        long stamp = lock.writeLock();
+        try {
+            int from = lowerBound(begin);
+            int to = upperBound(end);
+            int target = from;
+            for (int i = from; i < to; i++) {
+                int p = physical(i);
+                if (filter.test(stateAt(p))) {
+                    continue;
+                }
+                if (target != i) {
+                    copySlot(p, physical(target));
+                }
+                target++;
+            }
+            // shift the entries after the removed range
+            for (int i = to; i < size; i++) {
+                if (target != i) {
+                    copySlot(physical(i), physical(target));
+                }
+                target++;
+            }
+            for (int i = target; i < size; i++) {
+                objects[physical(i)] = null;
+                zones[physical(i)] = null;
+            }
+            size = target;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Changes the maximum number of entries and removes the oldest entries if necessary.
+     *
+     * @param maxEntries the new maximum, 0 for unlimited
+     */
+    void setMaxEntries(long maxEntries) {
+        long stamp = lock.writeLock();
+        try {
+            this.maxEntries = maxEntries;
+            while (maxEntries > 0 && size > maxEntries) {
+                removeOldest();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Queries the entries between the given timestamps (inclusive).
+     *
+     * @param begin the earliest timestamp in epoch milliseconds
+     * @param end the latest timestamp in epoch milliseconds
+     * @param ascending the ordering of the result
+     * @param filter a predicate on the state, or {@code null} to accept all states
+     * @param offset the number of matching entries to skip
+     * @param limit the maximum number of entries to return
+     * @return the matching entries
+     */
+    List<Entry> query(long begin, long end, boolean ascending, @Nullable Predicate<State> filter, long offset,
+            int limit) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                List<Entry> result = internalQuery(begin, end, ascending, filter, offset, limit);
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // inconsistent snapshot due to a concurrent write, retry with read lock
+            }
+        }
+        stamp = lock.readLock();
+        try {
+            return internalQuery(begin, end, ascending, filter, offset, limit);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return the number of entries
+     */
+    int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return the oldest entry or {@code null} if the buffer is empty
+     */
+    @Nullable
+    Entry first() {
+        long stamp = lock.readLock();
+        try {
+            return size == 0 ? null : entryAt(physical(0));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * @return the newest entry or {@code null} if the buffer is empty
+     */
+    @Nullable
+    Entry last() {
+        long stamp = lock.readLock();
+        try {
+            return size == 0 ? null : entryAt(physical(size - 1));
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private List<Entry> internalQuery(long begin, long end, boolean ascending, @Nullable Predicate<State> filter,
+            long offset, int limit) {
+        // read all fields once, so that a concurrent resize can not lead to out of bounds accesses
+        long[] times = this.times;
+        double[] values = this.values;
+        byte[] kinds = this.kinds;
+        byte[] scales = this.scales;
+        @Nullable
+        State[] objects = this.objects;
+        @Nullable
+        ZoneId[] zones = this.zones;
+        @Nullable
+        Unit<?> unit = this.unit;
+        int head = this.head;
+        int size = Math.min(this.size, times.length);
+
+        int from = lowerBound(times, head, size, begin);
+        int to = upperBound(times, head, size, end);
+        List<Entry> result = new ArrayList<>(Math.max(0, (int) Math.min(limit, to - from)));
+        if (from >= to || limit <= 0) {
+            return result;
+        }
+
+        if (filter == null) {
+            // without state filter the page can be computed from the indices
+            if (offset >= to - from) {
+                return result;
+            }
+            int count = (int) Math.min(limit, to - from - offset);
+            for (int n = 0; n < count; n++) {
+                int i = ascending ? from + (int) offset + n : to - 1 - (int) offset - n;
+                int p = (head + i) % times.length;
+                State state = toState(kinds[p], values[p], scales[p], objects[p], unit);
+                result.add(new Entry(times[p], toZone(zones[p]), state));
+            }
+            return result;
+        }
+
+        long skipped = 0;
+        for (int n = 0; n < to - from && result.size() < limit; n++) {
+            int i = ascending ? from + n : to - 1 - n;
+            int p = (head + i) % times.length;
+            State state = toState(kinds[p], values[p], scales[p], objects[p], unit);
+            if (!filter.test(state)) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            result.add(new Entry(times[p], toZone(zones[p]), state));
+        }
+        return result;
+    }
+
+    private int physical(int index) {
+        return (head + index) % times.length;
+    }
+
+    private int lowerBound(long timestamp) {
+        return lowerBound(times, head, size, timestamp);
+    }
+
+    private int upperBound(long timestamp) {
+        return upperBound(times, head, size, timestamp);
+    }
+
+    /**
+     * @return the logical index of the first entry with a timestamp greater or equal to the given timestamp
+     */
+    private static int lowerBound(long[] times, int head, int size, long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[(head + mid) % times.length] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the logical index of the first entry with a timestamp greater than the given timestamp
+     */
+    private static int upperBound(long[] times, int head, int size, long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[(head + mid) % times.length] <= timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private void removeOldest() {
+        objects[head] = null;
+        zones[head] = null;
+        head = (head + 1) % times.length;
+        size--;
+    }
+
+    private void grow() {
+        int capacity = times.length * 2;
+        if (maxEntries > 0) {
+            capacity = (int) Math.min(capacity, Math.max(maxEntries, times.length + 1));
+        }
+        long[] newTimes = new long[capacity];
+        double[] newValues = new double[capacity];
+        byte[] newKinds = new byte[capacity];
+        byte[] newScales = new byte[capacity];
+        @Nullable
+        State[] newObjects = new State[capacity];
+        @Nullable
+        ZoneId[] newZones = new ZoneId[capacity];
+        for (int i = 0; i < size; i++) {
+            int p = physical(i);
+            newTimes[i] = times[p];
+            newValues[i] = values[p];
+            newKinds[i] = kinds[p];
+            newScales[i] = scales[p];
+            newObjects[i] = objects[p];
+            newZones[i] = zones[p];
+        }
+        times = newTimes;
+        values = newValues;
+        kinds = newKinds;
+        scales = newScales;
+        objects = newObjects;
+        zones = newZones;
+        head = 0;
+    }
+
+    private void insertAt(int index, long timestamp, ZoneId zone, State state) {
+        if (index < size / 2) {
+            // shift older entries to the left
+            head = (head - 1 + times.length) % times.length;
+            for (int i = 0; i < index; i++) {
+                copySlot(physical(i + 1), physical(i));
+            }
+        } else {
+            // shift newer entries to the right
+            for (int i = size; i > index; i--) {
+                copySlot(physical(i - 1), physical(i));
+            }
+        }
+        size++;
+        setSlot(physical(index), timestamp, zone, state);
+    }
+
+    private void copySlot(int from, int to) {
+        times[to] = times[from];
+        values[to] = values[from];
+        kinds[to] = kinds[from];
+        scales[to] = scales[from];
+        objects[to] = objects[from];
+        zones[to] = zones[from];
+    }
+
+    private void setSlot(int p, long timestamp, ZoneId zone, State state) {
+        times[p] = timestamp;
+        zones[p] = zone;
+        objects[p] = null;
+        if (state.getClass() == DecimalType.class && isLossless(((DecimalType) state).toBigDecimal())) {
+            kinds[p] = KIND_DECIMAL;
+            setNumber(p, ((DecimalType) state).toBigDecimal());
+        } else if (state.getClass() == PercentType.class && isLossless(((PercentType) state).toBigDecimal())) {
+            kinds[p] = KIND_PERCENT;
+            setNumber(p, ((PercentType) state).toBigDecimal());
+        } else if (state instanceof QuantityType<?> quantity && isLossless(quantity.toBigDecimal())
+                && (unit == null || quantity.getUnit().equals(unit))) {
+            unit = quantity.getUnit();
+            kinds[p] = KIND_QUANTITY;
+            setNumber(p, quantity.toBigDecimal());
+        } else {
+            kinds[p] = KIND_OBJECT;
+            objects[p] = state;
+        }
+    }
+
+    private void setNumber(int p, BigDecimal number) {
+        values[p] = number.doubleValue();
+        scales[p] = (byte) number.scale();
+    }
+
+    private State stateAt(int p) {
+        return toState(kinds[p], values[p], scales[p], objects[p], unit);
+    }
+
+    private Entry entryAt(int p) {
+        return new Entry(times[p], toZone(zones[p]), stateAt(p));
+    }
+
+    private static ZoneId toZone(@Nullable ZoneId zone) {
+        if (zone == null) {
+            throw new IllegalStateException("Inconsistent buffer slot");
+        }
+        return zone;
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static State toState(byte kind, double value, byte scale, @Nullable State object, @Nullable Unit<?> unit) {
+        switch (kind) {
+            case KIND_DECIMAL:
+                return new DecimalType(toBigDecimal(value, scale));
+            case KIND_PERCENT:
+                return new PercentType(toBigDecimal(value, scale));
+            case KIND_QUANTITY:
+                if (unit != null) {
+                    return new QuantityType(toBigDecimal(value, scale), (Unit) unit);
+                }
+                break;
+            default:
+                if (object != null) {
+                    return object;
+                }
+        }
+        throw new IllegalStateException("Inconsistent buffer slot");
+    }
+
+    /**
+     * @return the number with its original scale, e.g. {@code 1.10} instead of {@code 1.1}
+     */
+    private static BigDecimal toBigDecimal(double value, byte scale) {
+        return BigDecimal.valueOf(value).setScale(scale);
+    }
+
+    private static boolean isLossless(BigDecimal value) {
+        double doubleValue = value.doubleValue();
+        return Double.isFinite(doubleValue) && value.scale() == (byte) value.scale()
+                && BigDecimal.valueOf(doubleValue).compareTo(value) == 0;
+    }
+}
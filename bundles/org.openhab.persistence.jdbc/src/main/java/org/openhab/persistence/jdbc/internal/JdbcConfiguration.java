@@ -25,6 +25,7 @@ import java.util.regex.Pattern;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO;
+import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO.Aggregation;
 import org.openhab.persistence.jdbc.internal.utils.MovingAverage;
 import org.openhab.persistence.jdbc.internal.utils.StringUtilsExt;
 import org.slf4j.Logger;
@@ -66,6 +67,13 @@ public class JdbcConfiguration {
 
     private int errReconnectThreshold = 0;
 
+    private int batchSize = 0;
+    private int batchInterval = 1000;
+    private int batchQueueSize = 10000;
+
+    private int downsampleMaxPoints = 0;
+    private Aggregation downsampleFunction = Aggregation.AVG;
+
     public int timerCount = 0;
     public int time1000Statements = 0;
     public long timer1000 = 0;
@@ -191,6 +199,40 @@ public class JdbcConfiguration {
             logger.debug("JDBC::updateConfig: rebuildTableNames={}", rebuildTableNames);
         }
 
+        String bs = (String) configuration.get("batchSize");
+        if (bs != null && !bs.isBlank() && isNumericPattern.matcher(bs).matches()) {
+            batchSize = Integer.parseInt(bs);
+            logger.debug("JDBC::updateConfig: batchSize={}", batchSize);
+        }
+
+        String bi = (String) configuration.get("batchInterval");
+        if (bi != null && !bi.isBlank() && isNumericPattern.matcher(bi).matches()) {
+            batchInterval = Math.max(Integer.parseInt(bi), 10);
+            logger.debug("JDBC::updateConfig: batchInterval={}", batchInterval);
+        }
+
+        String bq = (String) configuration.get("batchQueueSize");
+        if (bq != null && !bq.isBlank() && isNumericPattern.matcher(bq).matches()) {
+            batchQueueSize = Math.max(Integer.parseInt(bq), batchSize);
+            logger.debug("JDBC::updateConfig: batchQueueSize={}", batchQueueSize);
+        }
+
+        String dm = (String) configuration.get("downsampleMaxPoints");
+        if (dm != null && !dm.isBlank() && isNumericPattern.matcher(dm).matches()) {
+            downsampleMaxPoints = Integer.parseInt(dm);
+            logger.debug("JDBC::updateConfig: downsampleMaxPoints={}", downsampleMaxPoints);
+        }
+
+        String df = (String) configuration.get("downsampleFunction");
+        if (df != null && !df.isBlank()) {
+            try {
+                downsampleFunction = Aggregation.valueOf(df.trim().toUpperCase());
+                logger.debug("JDBC::updateConfig: downsampleFunction={}", downsampleFunction);
+            } catch (IllegalArgumentException e) {
+                logger.warn("JDBC::updateConfig: Unknown downsampleFunction '{}', using {}", df, downsampleFunction);
+            }
+        }
+
         // undocumented
         String ac = (String) configuration.get("maximumPoolSize");
         if (ac != null && !ac.isBlank()) {
@@ -379,6 +421,44 @@ public class JdbcConfiguration {
         return rebuildTableNames;
     }
 
+    /**
+     * Checks if values are buffered and written as JDBC batches.
+     *
+     * @return true if batchSize is greater than zero.
+     */
+    public boolean isBatchEnabled() {
+        return batchSize > 0;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public int getBatchInterval() {
+        return batchInterval;
+    }
+
+    public int getBatchQueueSize() {
+        return batchQueueSize;
+    }
+
+    /**
+     * Checks if bounded queries of numeric items are aggregated by the database.
+     *
+     * @return true if downsampleMaxPoints is greater than zero.
+     */
+    public boolean isDownsampleEnabled() {
+        return downsampleMaxPoints > 0;
+    }
+
+    public int getDownsampleMaxPoints() {
+        return downsampleMaxPoints;
+    }
+
+    public Aggregation getDownsampleFunction() {
+        return downsampleFunction;
+    }
+
     public int getNumberDecimalcount() {
         return numberDecimalcount;
     }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.Item;
+import org.openhab.core.persistence.FilterCriteria;
+import org.openhab.core.persistence.HistoricItem;
+import org.openhab.core.persistence.PersistenceItemInfo;
+import org.openhab.core.persistence.QueryablePersistenceService;
+import org.openhab.core.persistence.strategy.PersistenceStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link JdbcDownsampledPersistenceService} is a read-only view of the {@link JdbcPersistenceService} that
+ * returns bounded queries of numeric items aggregated into time buckets.
+ * <p>
+ * Persistence extensions like <code>sumBetween</code> or <code>countBetween</code> query the JDBC service itself and
+ * always operate on the raw values. Only clients explicitly selecting this service, like charts, get the aggregated
+ * values.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcDownsampledPersistenceService implements QueryablePersistenceService {
+
+    private final Logger logger = LoggerFactory.getLogger(JdbcDownsampledPersistenceService.class);
+
+    private final JdbcPersistenceService persistenceService;
+
+    public JdbcDownsampledPersistenceService(JdbcPersistenceService persistenceService) {
+        this.persistenceService = persistenceService;
+    }
+
+    @Override
+    public String getId() {
+        return JdbcPersistenceServiceConstants.DOWNSAMPLED_SERVICE_ID;
+    }
+
+    @Override
+    public String getLabel(@Nullable Locale locale) {
+        return JdbcPersistenceServiceConstants.DOWNSAMPLED_SERVICE_LABEL;
+    }
+
+    @Override
+    public void store(Item item) {
+        store(item, null);
+    }
+
+    @Override
+    public void store(Item item, @Nullable String alias) {
+        logger.debug("JDBC::store: '{}' is read-only, use '{}' to store item '{}'", getId(),
+                JdbcPersistenceServiceConstants.SERVICE_ID, item.getName());
+    }
+
+    @Override
+    public Set<PersistenceItemInfo> getItemInfo() {
+        return persistenceService.getItemInfo();
+    }
+
+    @Override
+    public @Nullable PersistenceItemInfo getItemInfo(String itemName, @Nullable String alias) {
+        return persistenceService.getItemInfo(itemName, alias);
+    }
+
+    @Override
+    public Iterable<HistoricItem> query(FilterCriteria filter) {
+        return query(filter, null);
+    }
+
+    @Override
+    public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias) {
+        return persistenceService.query(filter, alias, true);
+    }
+
+    @Override
+    public List<PersistenceStrategy> getDefaultStrategies() {
+        return List.of();
+    }
+}
@@ -229,6 +229,16 @@ public class JdbcMapper {
         errCnt = 0;
     }
 
+    protected void storeItemValues(Item item, List<State> itemStates, List<ZonedDateTime> dates, @Nullable String alias)
+            throws JdbcException {
+        logger.debug("JDBC::storeItemValues: item={} count={}", item, itemStates.size());
+        String tableName = getTable(item, alias);
+        long timerStart = System.currentTimeMillis();
+        conf.getDBDAO().doStoreItemValues(item, tableName, itemStates, dates);
+        logTime("storeItemValues", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+    }
+
     public long getRowCount(String tableName) throws JdbcSQLException {
         return conf.getDBDAO().doGetRowCount(tableName);
     }
@@ -246,6 +256,24 @@ public class JdbcMapper {
         return result;
     }
 
+    /**
+     * Queries the values of an item like {@link #getHistItemFilterQuery}, but aggregates bounded queries of numeric
+     * items into at most <code>downsampleMaxPoints</code> time buckets.
+     */
+    protected List<HistoricItem> getHistItemDownsampledQuery(FilterCriteria filter, int numberDecimalcount,
+            String table, Item item) throws JdbcSQLException {
+        long timerStart = System.currentTimeMillis();
+        @Nullable List<HistoricItem> result = conf.getDBDAO().doGetHistItemAggregateQuery(item, filter,
+                numberDecimalcount, table, timeZoneProvider.getTimeZone(), conf.getDownsampleMaxPoints(),
+                conf.getDownsampleFunction());
+        if (result == null) {
+            return getHistItemFilterQuery(filter, numberDecimalcount, table, item);
+        }
+        logTime("getHistItemDownsampledQuery", timerStart, System.currentTimeMillis());
+        errCnt = 0;
+        return result;
+    }
+
     protected void deleteItemValues(FilterCriteria filter, String table) throws JdbcSQLException {
         logger.debug("JDBC::deleteItemValues filter='{}' table='{}' itemName='{}'", true, table, filter.getItemName());
         long timerStart = System.currentTimeMillis();
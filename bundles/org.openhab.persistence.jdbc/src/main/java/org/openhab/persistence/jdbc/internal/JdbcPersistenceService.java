@@ -16,13 +16,21 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -30,6 +38,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.i18n.TimeZoneProvider;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -48,12 +57,17 @@ import org.openhab.persistence.jdbc.internal.dto.Column;
 import org.openhab.persistence.jdbc.internal.dto.ItemsVO;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcException;
 import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
+import org.openhab.persistence.metrics.PersistenceMetrics;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
+import org.osgi.framework.ServiceRegistration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -77,11 +91,36 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    // Buffered writer: values are queued without locking and flushed as JDBC batches per item table
+    private final Queue<PendingValue> pendingValues = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong flushedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    private @Nullable BundleContext bundleContext;
+    private @Nullable ServiceRegistration<?> downsampledServiceRegistration;
+
+    private final PersistenceMetrics metrics = new PersistenceMetrics(JdbcPersistenceServiceConstants.SERVICE_ID);
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
         super(timeZoneProvider);
         this.itemRegistry = itemRegistry;
+        metrics.gaugeQueueSize(pendingCount::get);
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.setMeterRegistry(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    public void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.setMeterRegistry(null);
     }
 
     /**
@@ -97,7 +136,32 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Activate
     public void activate(BundleContext bundleContext, Map<Object, Object> configuration) {
         logger.debug("JDBC::activate: persistence service activated");
+        this.bundleContext = bundleContext;
         updateConfig(configuration);
+        updateDownsampledService();
+    }
+
+    /**
+     * Called by the SCR when the configuration of the component was changed. The queued values are written with the
+     * previous configuration before it is replaced.
+     *
+     * @param configuration
+     *            Configuration properties for this component obtained from the
+     *            ConfigAdmin service
+     */
+    @Modified
+    public void modified(Map<Object, Object> configuration) {
+        logger.debug("JDBC::modified: configuration changed");
+        stopFlushJob();
+        flushPendingValues();
+        closeConnection();
+        initialized = false;
+        updateConfig(configuration);
+        if (!isBatchEnabled()) {
+            // values queued while the configuration was replaced
+            flushPendingValues();
+        }
+        updateDownsampledService();
     }
 
     /**
@@ -120,8 +184,35 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
+        unregisterDownsampledService();
+        stopFlushJob();
+        flushPendingValues();
         // closeConnection();
         initialized = false;
+        metrics.setMeterRegistry(null);
+    }
+
+    /**
+     * Registers the {@link JdbcDownsampledPersistenceService} while downsampling is configured, so that charts and
+     * other clients displaying long ranges can query it, while all other queries keep returning the raw values.
+     */
+    private synchronized void updateDownsampledService() {
+        BundleContext bundleContext = this.bundleContext;
+        if (!conf.isDownsampleEnabled() || bundleContext == null) {
+            unregisterDownsampledService();
+        } else if (downsampledServiceRegistration == null) {
+            downsampledServiceRegistration = bundleContext.registerService(
+                    new String[] { PersistenceService.class.getName(), QueryablePersistenceService.class.getName() },
+                    new JdbcDownsampledPersistenceService(this), null);
+        }
+    }
+
+    private synchronized void unregisterDownsampledService() {
+        ServiceRegistration<?> downsampledServiceRegistration = this.downsampledServiceRegistration;
+        if (downsampledServiceRegistration != null) {
+            downsampledServiceRegistration.unregister();
+            this.downsampledServiceRegistration = null;
+        }
     }
 
     @Override
@@ -137,22 +228,167 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        if (isBatchEnabled()) {
+            enqueue(item, ZonedDateTime.now(), item.getState(), null);
+        } else {
+            scheduler.execute(() -> internalStore(item, null, item.getState(), null));
+        }
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        if (isBatchEnabled()) {
+            enqueue(item, ZonedDateTime.now(), item.getState(), alias);
+        } else {
+            scheduler.execute(() -> internalStore(item, null, item.getState(), alias));
+        }
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state, null));
+        if (isBatchEnabled()) {
+            enqueue(item, date, state, null);
+        } else {
+            scheduler.execute(() -> internalStore(item, date, state, null));
+        }
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
-        scheduler.execute(() -> internalStore(item, date, state, alias));
+        if (isBatchEnabled()) {
+            enqueue(item, date, state, alias);
+        } else {
+            scheduler.execute(() -> internalStore(item, date, state, alias));
+        }
+    }
+
+    private boolean isBatchEnabled() {
+        JdbcConfiguration conf = this.conf;
+        return conf != null && conf.isBatchEnabled();
+    }
+
+    private void enqueue(Item item, ZonedDateTime date, State state, @Nullable String alias) {
+        // Do not store undefined/uninitialized data
+        if (state instanceof UnDefType) {
+            logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
+            return;
+        }
+        if (pendingCount.incrementAndGet() > conf.getBatchQueueSize()) {
+            pendingCount.decrementAndGet();
+            metrics.dropped(1);
+            if (droppedCount.getAndIncrement() % conf.getBatchQueueSize() == 0) {
+                logger.warn("JDBC::store: Queue is full ({} pending values), dropping state '{}' for item '{}'",
+                        conf.getBatchQueueSize(), state, item.getName());
+            }
+            return;
+        }
+        pendingValues.add(new PendingValue(item, date, state, alias));
+        if (pendingCount.get() >= conf.getBatchSize() && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::flushPendingValues);
+        }
+    }
+
+    /**
+     * Writes all pending values to the database, grouped by item and written as one JDBC batch per item table.
+     * Values are kept in the queue while the database is not accessible.
+     */
+    private synchronized void flushPendingValues() {
+        flushRequested.set(false);
+        if (pendingCount.get() == 0) {
+            return;
+        }
+        if (!checkDBAccessability()) {
+            logger.warn(
+                    "JDBC::flush: No connection to database. Cannot persist {} pending values! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    pendingCount.get(), errCnt, conf.getErrReconnectThreshold());
+            return;
+        }
+
+        long timerStart = System.currentTimeMillis();
+        Map<String, PendingBatch> batches = new LinkedHashMap<>();
+        PendingValue value;
+        while ((value = pendingValues.poll()) != null) {
+            pendingCount.decrementAndGet();
+            String alias = value.alias();
+            String key = alias != null ? alias : value.item().getName();
+            PendingBatch batch = batches.get(key);
+            if (batch == null) {
+                batch = new PendingBatch(value.item(), alias, new ArrayList<>(), new ArrayList<>());
+                batches.put(key, batch);
+            }
+            batch.states().add(value.state());
+            batch.dates().add(value.date());
+        }
+
+        int stored = 0;
+        for (PendingBatch batch : batches.values()) {
+            long start = System.nanoTime();
+            try {
+                storeItemValues(batch.item(), batch.states(), batch.dates(), batch.alias());
+                metrics.recordStore(start, batch.states().size());
+                stored += batch.states().size();
+            } catch (JdbcException e) {
+                metrics.storeFailed();
+                logger.debug("JDBC::flush: Batch for item '{}' failed, storing {} values one by one",
+                        batch.item().getName(), batch.states().size(), e);
+                stored += storeItemValuesIndividually(batch);
+            }
+        }
+        flushedCount.addAndGet(stored);
+        batchCount.addAndGet(batches.size());
+        if (logger.isDebugEnabled()) {
+            logger.debug("JDBC: Flushed {} values for {} items to SQL database in {} ms, {} values pending.", stored,
+                    batches.size(), System.currentTimeMillis() - timerStart, pendingCount.get());
+        }
+    }
+
+    private int storeItemValuesIndividually(PendingBatch batch) {
+        int stored = 0;
+        for (int i = 0; i < batch.states().size(); i++) {
+            long start = System.nanoTime();
+            try {
+                storeItemValue(batch.item(), batch.states().get(i), batch.dates().get(i), batch.alias());
+                metrics.recordStore(start, 1);
+                stored++;
+            } catch (JdbcException e) {
+                failedCount.incrementAndGet();
+                metrics.storeFailed();
+                metrics.dropped(1);
+                logger.warn("JDBC::store: Unable to store item", e);
+            }
+        }
+        return stored;
+    }
+
+    private void startFlushJob() {
+        stopFlushJob();
+        if (conf.isBatchEnabled()) {
+            flushJob = scheduler.scheduleWithFixedDelay(this::flushPendingValues, conf.getBatchInterval(),
+                    conf.getBatchInterval(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void stopFlushJob() {
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+    }
+
+    /**
+     * Get statistics of the buffered writer.
+     *
+     * @return map of counter names to their current values
+     */
+    public Map<String, Long> getBatchStatistics() {
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("pending", (long) pendingCount.get());
+        statistics.put("flushed", flushedCount.get());
+        statistics.put("batches", batchCount.get());
+        statistics.put("failed", failedCount.get());
+        statistics.put("dropped", droppedCount.get());
+        return statistics;
     }
 
     private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state,
@@ -166,16 +402,20 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             logger.warn(
                     "JDBC::store: No connection to database. Cannot persist state '{}' for item '{}'! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
                     state, item, errCnt, conf.getErrReconnectThreshold());
+            metrics.dropped(1);
             return;
         }
+        long start = System.nanoTime();
         try {
-            long timerStart = System.currentTimeMillis();
             storeItemValue(item, state, date, alias);
+            metrics.recordStore(start, 1);
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Stored item '{}' as '{}' in SQL database at {} in {} ms.", item.getName(), state,
-                        new Date(), System.currentTimeMillis() - timerStart);
+                        new Date(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             }
         } catch (JdbcException e) {
+            metrics.storeFailed();
+            metrics.dropped(1);
             logger.warn("JDBC::store: Unable to store item", e);
         }
     }
@@ -216,6 +456,13 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
      */
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias) {
+        return query(filter, alias, false);
+    }
+
+    /**
+     * Queries the values of an item, aggregated into time buckets if <code>downsample</code> is set.
+     */
+    Iterable<HistoricItem> query(FilterCriteria filter, @Nullable String alias, boolean downsample) {
         if (!checkDBAccessability()) {
             logger.warn("JDBC::query: database not connected, query aborted for item '{}'", filter.getItemName());
             return List.of();
@@ -259,17 +506,21 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
             return List.of();
         }
 
+        long start = System.nanoTime();
         try {
-            long timerStart = System.currentTimeMillis();
-            List<HistoricItem> items = getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
+            List<HistoricItem> items = downsample
+                    ? getHistItemDownsampledQuery(filter, conf.getNumberDecimalcount(), table, item)
+                    : getHistItemFilterQuery(filter, conf.getNumberDecimalcount(), table, item);
+            metrics.recordQuery(start);
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Query for item '{}' returned {} rows in {} ms", itemName, items.size(),
-                        System.currentTimeMillis() - timerStart);
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
             }
             // Success
             errCnt = 0;
             return items;
         } catch (JdbcSQLException e) {
+            metrics.queryFailed();
             logger.warn("JDBC::query: Unable to query item", e);
             return List.of();
         }
@@ -292,6 +543,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         } else {
             initialized = false;
         }
+        startFlushJob();
 
         logger.debug("JDBC::updateConfig: configuration complete for service={}.", getId());
     }
@@ -581,4 +833,10 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
                 return false;
         }
     }
+
+    private record PendingValue(Item item, ZonedDateTime date, State state, @Nullable String alias) {
+    }
+
+    private record PendingBatch(Item item, @Nullable String alias, List<State> states, List<ZonedDateTime> dates) {
+    }
 }
@@ -26,4 +26,7 @@ public class JdbcPersistenceServiceConstants {
     public static final String SERVICE_ID = "jdbc";
     public static final String SERVICE_LABEL = "JDBC";
     public static final String CONFIG_URI = "persistence:jdbc";
+
+    public static final String DOWNSAMPLED_SERVICE_ID = "jdbc_downsampled";
+    public static final String DOWNSAMPLED_SERVICE_LABEL = "JDBC (downsampled)";
 }
@@ -13,11 +13,17 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -73,6 +79,18 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class JdbcBaseDAO {
+    /**
+     * Aggregate function applied to the values of a time bucket when downsampling.
+     */
+    public enum Aggregation {
+        AVG,
+        MIN,
+        MAX,
+        LAST
+    }
+
+    private static final int AGGREGATE_FETCH_SIZE = 1000;
+
     private final Logger logger = LoggerFactory.getLogger(JdbcBaseDAO.class);
 
     public final Properties databaseProps = new Properties();
@@ -446,12 +464,9 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
-        logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
+        String sql = storeItemValueWithDateSql(storedVO);
+        Object[] params = storeItemValueWithDateParams(storedVO, date);
+        logger.debug("JDBC::doStoreItemValue sql={} date={} value='{}'", sql, date, storedVO.getValue());
         try {
             Yank.execute(sql, params);
         } catch (YankSQLException e) {
@@ -459,6 +474,36 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Stores several values of one item table with a single JDBC batch statement.
+     *
+     * @param item the item the values belong to
+     * @param tableName the table to store the values in
+     * @param states the states to store, in the same order as {@code dates}
+     * @param dates the timestamps of the states
+     * @throws JdbcSQLException if the batch could not be executed
+     */
+    public void doStoreItemValues(Item item, String tableName, List<State> states, List<ZonedDateTime> dates)
+            throws JdbcSQLException {
+        if (states.isEmpty()) {
+            return;
+        }
+        Object[][] params = new Object[states.size()][];
+        ItemVO storedVO = storeItemValueProvider(item, states.get(0), new ItemVO(tableName, null));
+        String sql = storeItemValueWithDateSql(storedVO);
+        params[0] = storeItemValueWithDateParams(storedVO, dates.get(0));
+        for (int i = 1; i < states.size(); i++) {
+            storedVO = storeItemValueProvider(item, states.get(i), new ItemVO(tableName, null));
+            params[i] = storeItemValueWithDateParams(storedVO, dates.get(i));
+        }
+        logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, params.length);
+        try {
+            Yank.executeBatch(sql, params);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
@@ -481,6 +526,78 @@ public class JdbcBaseDAO {
                 .collect(Collectors.<HistoricItem> toList());
     }
 
+    /**
+     * Queries the values of a numeric item aggregated into at most <code>maxPoints</code> time buckets.
+     *
+     * Only bounded, unpaged queries of number, dimmer and rollershutter tables are aggregated, and only by DAOs that
+     * provide a time bucket expression for their database.
+     *
+     * @return the aggregated values, or <code>null</code> if the query cannot be aggregated
+     */
+    public @Nullable List<HistoricItem> doGetHistItemAggregateQuery(Item item, FilterCriteria filter,
+            int numberDecimalcount, String table, ZoneId timeZone, int maxPoints, Aggregation aggregation)
+            throws JdbcSQLException {
+        ZonedDateTime beginDate = filter.getBeginDate();
+        ZonedDateTime endDate = filter.getEndDate();
+        if (maxPoints <= 0 || beginDate == null || endDate == null || filter.getPageSize() != Integer.MAX_VALUE) {
+            return null;
+        }
+        String itemType = getItemType(item);
+        if (!"NUMBERITEM".equals(itemType) && !"DIMMERITEM".equals(itemType)
+                && !"ROLLERSHUTTERITEM".equals(itemType)) {
+            return null;
+        }
+        long rangeSeconds = Duration.between(beginDate, endDate).getSeconds();
+        long bucketSeconds = Math.max(1, (rangeSeconds + maxPoints - 1) / maxPoints);
+        String sql = histItemAggregateQueryProvider(filter, numberDecimalcount, table, itemType, timeZone,
+                bucketSeconds, aggregation);
+        if (sql == null) {
+            return null;
+        }
+        // ranges that do not contain more values than requested are returned unchanged
+        String countSql = histItemFilterCountProvider(filter, table, timeZone);
+        logger.debug("JDBC::doGetHistItemAggregateQuery countSql={}", countSql);
+        try {
+            final @Nullable Long count = Yank.queryScalar(countSql, Long.class, null);
+            if (count == null || count <= maxPoints) {
+                return null;
+            }
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        logger.debug("JDBC::doGetHistItemAggregateQuery sql={}", sql);
+        return queryHistoricItems(sql, item);
+    }
+
+    /**
+     * Runs a query returning (time, value) rows with a forward-only, read-only cursor and maps every row as it is
+     * read, instead of collecting all rows first.
+     */
+    private List<HistoricItem> queryHistoricItems(String sql, Item item) throws JdbcSQLException {
+        String itemName = item.getName();
+        Unit<? extends Quantity<?>> unit = item instanceof NumberItem numberItem ? numberItem.getUnit() : null;
+        List<HistoricItem> items = new ArrayList<>();
+        try (Connection connection = Yank.getDefaultConnectionPool().getConnection();
+                PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY,
+                        ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(AGGREGATE_FETCH_SIZE);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    @Nullable Object time = resultSet.getObject(1);
+                    @Nullable Object value = resultSet.getObject(2);
+                    // buckets containing only NULL values aggregate to NULL
+                    if (time != null && value != null) {
+                        items.add(new JdbcHistoricItem(itemName, objectAsState(item, unit, value),
+                                objectAsInstant(time)));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new JdbcSQLException(e);
+        }
+        return items;
+    }
+
     public void doDeleteItemValues(FilterCriteria filter, String table, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterDeleteProvider(filter, table, timeZone);
         logger.debug("JDBC::doDeleteItemValues sql={}", sql);
@@ -531,6 +648,55 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    protected String histItemFilterCountProvider(FilterCriteria filter, String table, ZoneId timeZone) {
+        return "SELECT COUNT(*) FROM " + formattedIdentifier(table) + resolveTimeFilter(filter, timeZone);
+    }
+
+    /**
+     * Builds a query returning one (time, value) row per time bucket. The time of a row is the first (or, for
+     * {@link Aggregation#LAST}, the last) timestamp within its bucket.
+     *
+     * @return the query, or <code>null</code> if the database does not support aggregation
+     */
+    protected @Nullable String histItemAggregateQueryProvider(FilterCriteria filter, int numberDecimalcount,
+            String table, String simpleName, ZoneId timeZone, long bucketSeconds, Aggregation aggregation) {
+        String bucket = timeBucketExpression(bucketSeconds);
+        if (bucket == null) {
+            return null;
+        }
+        String filterString = resolveTimeFilter(filter, timeZone) + " GROUP BY " + bucket;
+        String orderString = (filter.getOrdering() == Ordering.ASCENDING) ? " ORDER BY 1 ASC" : " ORDER BY 1 DESC";
+        String queryString;
+        if (aggregation == Aggregation.LAST) {
+            queryString = "SELECT time, value FROM " + formattedIdentifier(table)
+                    + " WHERE time IN (SELECT MAX(time) FROM " + formattedIdentifier(table) + filterString + ")"
+                    + orderString;
+        } else {
+            String valueString = aggregation.name() + "(value)";
+            if ("NUMBERITEM".equalsIgnoreCase(simpleName) && numberDecimalcount > -1) {
+                valueString = roundedValueExpression(valueString, numberDecimalcount);
+            }
+            queryString = "SELECT MIN(time), " + valueString + " FROM " + formattedIdentifier(table) + filterString
+                    + orderString;
+        }
+        logger.debug("JDBC::query queryString = {}", queryString);
+        return queryString;
+    }
+
+    /**
+     * Returns an SQL expression mapping the <code>time</code> column to the number of its time bucket.
+     *
+     * @param bucketSeconds the length of a bucket in seconds
+     * @return the expression, or <code>null</code> if the database does not support aggregation
+     */
+    protected @Nullable String timeBucketExpression(long bucketSeconds) {
+        return null;
+    }
+
+    protected String roundedValueExpression(String expression, int numberDecimalcount) {
+        return "ROUND(" + expression + "," + numberDecimalcount + ")";
+    }
+
     protected String histItemFilterDeleteProvider(FilterCriteria filter, String table, ZoneId timeZone) {
         logger.debug("JDBC::histItemFilterDeleteProvider filter = {}, table = {}", filter, table);
 
@@ -556,6 +722,16 @@ public class JdbcBaseDAO {
         return filterString;
     }
 
+    protected String storeItemValueWithDateSql(ItemVO storedVO) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue, new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { formattedIdentifier(storedVO.getTableName()), "?" });
+    }
+
+    protected Object[] storeItemValueWithDateParams(ItemVO storedVO, ZonedDateTime date) {
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     private String updateItemTableNamesProvider(ItemVO itemTable) {
         String newTableName = itemTable.getNewTableName();
         if (newTableName == null) {
@@ -729,6 +905,9 @@ public class JdbcBaseDAO {
             case Byte b -> b.intValue();
             case Integer i -> i;
             case BigDecimal bd -> bd.intValue();
+            // aggregated values, e.g. AVG of a TINYINT column
+            case Long l -> l.intValue();
+            case Double d -> d.intValue();
             default -> throw new UnsupportedOperationException(
                     "Integer of type '" + o.getClass().getName() + "' is not supported");
         };
@@ -12,8 +12,11 @@
  */
 package org.openhab.persistence.jdbc.internal;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,4 +51,19 @@ public class JdbcPersistenceServiceTest {
     void removeThrowsIllegalArgumentExceptionIfItemNameOfFilterIsNull() {
         assertThrows(IllegalArgumentException.class, () -> jdbcPersistenceService.remove(filter));
     }
+
+    @Test
+    void onlyTheDownsampledServiceQueriesDownsampledValues() {
+        JdbcPersistenceService persistenceService = spy(jdbcPersistenceService);
+        doReturn(List.of()).when(persistenceService).query(any(), any(), anyBoolean());
+        JdbcDownsampledPersistenceService downsampledService = new JdbcDownsampledPersistenceService(
+                persistenceService);
+
+        persistenceService.query(filter);
+        downsampledService.query(filter);
+
+        verify(persistenceService).query(filter, null, false);
+        verify(persistenceService).query(filter, null, true);
+        assertEquals(JdbcPersistenceServiceConstants.DOWNSAMPLED_SERVICE_ID, downsampledService.getId());
+    }
 }
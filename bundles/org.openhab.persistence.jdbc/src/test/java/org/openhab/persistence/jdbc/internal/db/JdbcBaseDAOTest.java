@@ -16,6 +16,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.time.Instant;
@@ -66,6 +67,8 @@ import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.FilterCriteria.Ordering;
 import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.db.JdbcBaseDAO.Aggregation;
+import org.openhab.persistence.jdbc.internal.exceptions.JdbcSQLException;
 
 /**
  * Tests the {@link JdbcBaseDAO}.
@@ -192,6 +195,59 @@ public class JdbcBaseDAOTest {
         assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " ORDER BY time DESC LIMIT 0,1"));
     }
 
+    @Test
+    void testHistItemAggregateQueryProviderReturnsNullWithoutTimeBucketExpression() {
+        String sql = jdbcBaseDAO.histItemAggregateQueryProvider(filter, 0, DB_TABLE_NAME, "NUMBERITEM", UTC_ZONE_ID,
+                3600, Aggregation.AVG);
+        assertNull(sql);
+    }
+
+    @Test
+    void testHistItemAggregateQueryProviderReturnsGroupedQuery() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
+        filter.setOrdering(Ordering.ASCENDING);
+
+        String sql = new JdbcMysqlDAO().histItemAggregateQueryProvider(filter, 2, DB_TABLE_NAME, "NUMBERITEM",
+                UTC_ZONE_ID, 3600, Aggregation.AVG);
+        assertThat(sql, is("SELECT MIN(time), ROUND(AVG(value),2) FROM " + DB_TABLE_NAME + " WHERE TIME>='" //
+                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate())) + "'" //
+                + " AND TIME<='" + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate()))
+                + "' GROUP BY FLOOR(UNIX_TIMESTAMP(time) / 3600) ORDER BY 1 ASC"));
+    }
+
+    @Test
+    void testHistItemAggregateQueryProviderReturnsLastValueOfEveryBucket() {
+        String sql = new JdbcMysqlDAO().histItemAggregateQueryProvider(filter, 2, DB_TABLE_NAME, "DIMMERITEM",
+                UTC_ZONE_ID, 60, Aggregation.LAST);
+        assertThat(sql, is("SELECT time, value FROM " + DB_TABLE_NAME + " WHERE time IN (SELECT MAX(time) FROM "
+                + DB_TABLE_NAME + " GROUP BY FLOOR(UNIX_TIMESTAMP(time) / 60)) ORDER BY 1 DESC"));
+    }
+
+    @Test
+    void testHistItemFilterCountProviderCountsTheValuesOfTheRange() {
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
+
+        String sql = jdbcBaseDAO.histItemFilterCountProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID);
+        assertThat(sql, is("SELECT COUNT(*) FROM " + DB_TABLE_NAME + " WHERE TIME>='" //
+                + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getBeginDate())) + "'" //
+                + " AND TIME<='" + JdbcBaseDAO.JDBC_DATE_FORMAT.format(Objects.requireNonNull(filter.getEndDate()))
+                + "'"));
+    }
+
+    @Test
+    void testDoGetHistItemAggregateQueryReturnsNullForUnboundedOrNonNumericQueries() throws JdbcSQLException {
+        JdbcMysqlDAO dao = new JdbcMysqlDAO();
+        assertNull(dao.doGetHistItemAggregateQuery(new NumberItem("Number"), filter, 2, DB_TABLE_NAME, UTC_ZONE_ID,
+                500, Aggregation.AVG));
+
+        filter.setBeginDate(parseDateTimeString("2022-01-10T15:01:44"));
+        filter.setEndDate(parseDateTimeString("2022-01-15T15:01:44"));
+        assertNull(dao.doGetHistItemAggregateQuery(new StringItem("String"), filter, 2, DB_TABLE_NAME, UTC_ZONE_ID,
+                500, Aggregation.AVG));
+    }
+
     @Test
     void testHistItemFilterDeleteProviderReturnsDeleteQueryWithoutWhereClause() {
         String sql = jdbcBaseDAO.histItemFilterDeleteProvider(filter, DB_TABLE_NAME, UTC_ZONE_ID);
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.types.State;
+import org.openhab.core.types.TypeParser;
+import org.openhab.core.types.UnDefType;
+
+/**
+ * Compact binary encoding of {@link MapDbItem}s.
+ *
+ * The common state types are written with a one byte type tag and their raw value. All other states are written as
+ * class name and full string, like the {@link StateTypeAdapter} does, and parsed with the {@link TypeParser}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemCodec {
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final byte TYPE_UNDEF = 0;
+    private static final byte TYPE_NULL = 1;
+    private static final byte TYPE_ON_OFF = 2;
+    private static final byte TYPE_OPEN_CLOSED = 3;
+    private static final byte TYPE_DECIMAL = 4;
+    private static final byte TYPE_PERCENT = 5;
+    private static final byte TYPE_HSB = 6;
+    private static final byte TYPE_QUANTITY = 7;
+    private static final byte TYPE_STRING = 8;
+    private static final byte TYPE_DATE_TIME = 9;
+    private static final byte TYPE_OTHER = 127;
+
+    private MapDbItemCodec() {
+        // prevent instantiation
+    }
+
+    static byte[] encode(MapDbItem item) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeString(out, item.getName());
+            out.writeLong(item.getTimestamp().toInstant().toEpochMilli());
+            writeState(out, item.getState());
+            State lastState = item.getLastState();
+            out.writeBoolean(lastState != null);
+            if (lastState != null) {
+                writeState(out, lastState);
+            }
+            ZonedDateTime lastStateChange = item.getLastStateChange();
+            out.writeBoolean(lastStateChange != null);
+            if (lastStateChange != null) {
+                out.writeLong(lastStateChange.toInstant().toEpochMilli());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    static MapDbItem decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("unsupported format version " + version);
+            }
+            MapDbItem item = new MapDbItem();
+            item.setName(readString(in));
+            item.setTimestamp(new Date(in.readLong()));
+            item.setState(readState(in));
+            if (in.readBoolean()) {
+                item.setLastState(readState(in));
+            }
+            if (in.readBoolean()) {
+                item.setLastStateChange(new Date(in.readLong()));
+            }
+            return item;
+        }
+    }
+
+    public static void writeState(DataOutput out, State state) throws IOException {
+        if (state == UnDefType.UNDEF) {
+            out.writeByte(TYPE_UNDEF);
+        } else if (state == UnDefType.NULL) {
+            out.writeByte(TYPE_NULL);
+        } else if (state instanceof OnOffType onOff) {
+            out.writeByte(TYPE_ON_OFF);
+            out.writeBoolean(onOff == OnOffType.ON);
+        } else if (state instanceof OpenClosedType openClosed) {
+            out.writeByte(TYPE_OPEN_CLOSED);
+            out.writeBoolean(openClosed == OpenClosedType.OPEN);
+        } else if (state instanceof HSBType hsb) {
+            // before PercentType and DecimalType, which HSBType extends
+            out.writeByte(TYPE_HSB);
+            writeDecimal(out, hsb.getHue().toBigDecimal());
+            writeDecimal(out, hsb.getSaturation().toBigDecimal());
+            writeDecimal(out, hsb.getBrightness().toBigDecimal());
+        } else if (state instanceof PercentType percent) {
+            out.writeByte(TYPE_PERCENT);
+            writeDecimal(out, percent.toBigDecimal());
+        } else if (state instanceof DecimalType decimal) {
+            out.writeByte(TYPE_DECIMAL);
+            writeDecimal(out, decimal.toBigDecimal());
+        } else if (state instanceof QuantityType<?> quantity) {
+            out.writeByte(TYPE_QUANTITY);
+            writeString(out, quantity.toFullString());
+        } else if (state instanceof StringType string) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, string.toFullString());
+        } else if (state instanceof DateTimeType dateTime) {
+            out.writeByte(TYPE_DATE_TIME);
+            Instant instant = dateTime.getInstant();
+            out.writeLong(instant.getEpochSecond());
+            out.writeInt(instant.getNano());
+        } else {
+            out.writeByte(TYPE_OTHER);
+            writeString(out, state.getClass().getName());
+            writeString(out, state.toFullString());
+        }
+    }
+
+    public static State readState(DataInput in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_UNDEF -> UnDefType.UNDEF;
+            case TYPE_NULL -> UnDefType.NULL;
+            case TYPE_ON_OFF -> OnOffType.from(in.readBoolean());
+            case TYPE_OPEN_CLOSED -> in.readBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+            case TYPE_HSB -> new HSBType(new DecimalType(readDecimal(in)), new PercentType(readDecimal(in)),
+                    new PercentType(readDecimal(in)));
+            case TYPE_PERCENT -> new PercentType(readDecimal(in));
+            case TYPE_DECIMAL -> new DecimalType(readDecimal(in));
+            case TYPE_QUANTITY -> new QuantityType<>(readString(in));
+            case TYPE_STRING -> new StringType(readString(in));
+            case TYPE_DATE_TIME -> new DateTimeType(Instant.ofEpochSecond(in.readLong(), in.readInt()));
+            case TYPE_OTHER -> readOtherState(in);
+            default -> throw new IOException("unknown state type " + type);
+        };
+    }
+
+    private static State readOtherState(DataInput in) throws IOException {
+        String typeName = readString(in);
+        String value = readString(in);
+        try {
+            @SuppressWarnings("unchecked")
+            Class<? extends State> stateType = (Class<? extends State>) Class.forName(typeName);
+            State state = TypeParser.parseState(List.of(stateType), value);
+            if (state != null) {
+                return state;
+            }
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("unknown state class " + typeName, e);
+        }
+        throw new IOException("cannot parse '" + value + "' as " + typeName);
+    }
+
+    private static void writeDecimal(DataOutput out, BigDecimal value) throws IOException {
+        byte[] unscaled = value.unscaledValue().toByteArray();
+        out.writeInt(value.scale());
+        out.writeInt(unscaled.length);
+        out.write(unscaled);
+    }
+
+    private static BigDecimal readDecimal(DataInput in) throws IOException {
+        int scale = in.readInt();
+        byte[] unscaled = new byte[in.readInt()];
+        in.readFully(unscaled);
+        return new BigDecimal(new BigInteger(unscaled), scale);
+    }
+
+    // writeUTF is limited to 64k, which string states may exceed
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -19,24 +19,29 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.mapdb.DB;
 import org.mapdb.DBMaker;
+import org.mapdb.Serializer;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.persistence.FilterCriteria;
@@ -51,23 +56,30 @@ import org.openhab.core.types.UnDefType;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 
 /**
  * This is the implementation of the MapDB {@link PersistenceService}. To learn more about MapDB please visit their
  * <a href="http://www.mapdb.org/">website</a>.
  *
+ * Item states are stored in a compact binary encoding (see {@link MapDbItemCodec}). With a <code>commitInterval</code>
+ * configured, the latest state of every item is kept in memory and all changed items are committed in a single
+ * transaction per interval, instead of committing (and syncing) the database on every update.
+ *
  * @author Jens Viebig - Initial contribution
  * @author Martin Kühl - Port to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class, QueryablePersistenceService.class }, property = Constants.SERVICE_PID
-        + "=org.openhab.mapdb")
+@Component(service = { PersistenceService.class,
+        QueryablePersistenceService.class }, configurationPid = "org.openhab.mapdb", configurationPolicy = ConfigurationPolicy.OPTIONAL, property = Constants.SERVICE_PID
+                + "=org.openhab.mapdb")
 public class MapDbPersistenceService implements QueryablePersistenceService {
 
     private static final String SERVICE_ID = "mapdb";
@@ -76,6 +88,9 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private static final Path BACKUP_DIR = DB_DIR.resolve("backup");
     private static final String DB_FILE_NAME = "storage.mapdb";
     private static final long DEACTIVATE_TIMEOUT_MS = 30000; // 30 seconds
+    private static final String MAP_NAME = "items";
+    private static final String LEGACY_MAP_NAME = "itemStore";
+    private static final String CONFIG_COMMIT_INTERVAL = "commitInterval";
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
@@ -88,13 +103,20 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
      */
 
     private @NonNullByDefault({}) DB db;
-    private @NonNullByDefault({}) Map<String, String> map;
+    private @NonNullByDefault({}) Map<String, byte[]> map;
+
+    /**
+     * latest state per item that has not been committed yet, only used in write-behind mode
+     */
+    private final Map<String, MapDbItem> dirtyItems = new ConcurrentHashMap<>();
+    private volatile @Nullable ScheduledFuture<?> commitJob;
 
+    // only used to migrate the JSON encoded states of previous versions
     private transient Gson mapper = new GsonBuilder().setDateFormat(DateTimeType.DATE_PATTERN_JSON_COMPAT)
             .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
 
     @Activate
-    public void activate() {
+    public void activate(Map<String, Object> config) {
         logger.debug("MapDB persistence service is being activated");
         active = true;
 
@@ -108,8 +130,7 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
         File dbFile = DB_DIR.resolve(DB_FILE_NAME).toFile();
         try {
-            db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-            map = db.createTreeMap("itemStore").makeOrGet();
+            openDatabase(dbFile);
         } catch (RuntimeException re) {
             Throwable cause = re.getCause();
             if (cause instanceof ClassNotFoundException cnf) {
@@ -140,16 +161,83 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
                     return;
                 }
 
-                db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
-                map = db.createTreeMap("itemStore").makeOrGet();
+                openDatabase(dbFile);
             } else {
                 logger.warn("Failed to create or open the MapDB: {}", re.getMessage());
                 logger.warn("MapDB persistence service activation has failed.");
             }
         }
+
+        int commitInterval = ConfigParser.valueAsOrElse(config.get(CONFIG_COMMIT_INTERVAL), Integer.class, 0);
+        if (commitInterval > 0) {
+            commitJob = ThreadPoolManager.getScheduledPool("org.openhab.mapdb").scheduleWithFixedDelay(
+                    this::commitDirtyItems, commitInterval, commitInterval, TimeUnit.SECONDS);
+            logger.debug("MapDB write-behind enabled, committing every {} seconds", commitInterval);
+        }
         logger.debug("MapDB persistence service is now activated");
     }
 
+    private void openDatabase(File dbFile) {
+        db = DBMaker.newFileDB(dbFile).closeOnJvmShutdown().make();
+        map = db.createTreeMap(MAP_NAME).valueSerializer(Serializer.BYTE_ARRAY).makeOrGet();
+        if (db.exists(LEGACY_MAP_NAME)) {
+            migrateLegacyMap();
+        }
+    }
+
+    /**
+     * Converts the JSON encoded states of previous versions to the binary encoding. The legacy map is only deleted
+     * once all states have been converted, committed and read back, otherwise it is kept as backup and the migration
+     * is repeated on the next start. States already present in the new map are never overwritten by a repeated
+     * migration.
+     */
+    private void migrateLegacyMap() {
+        Map<String, String> legacyMap = db.getTreeMap(LEGACY_MAP_NAME);
+        Map<String, State> migrated = new HashMap<>();
+        boolean complete = true;
+        for (Map.Entry<String, String> entry : legacyMap.entrySet()) {
+            if (map.containsKey(entry.getKey())) {
+                continue;
+            }
+            Optional<MapDbItem> item;
+            try {
+                item = deserialize(entry.getValue());
+            } catch (JsonParseException e) {
+                item = Optional.empty();
+            }
+            if (item.isEmpty()) {
+                logger.warn("Failed to migrate the state of '{}': cannot read '{}'", entry.getKey(), entry.getValue());
+                complete = false;
+            } else {
+                try {
+                    map.put(entry.getKey(), MapDbItemCodec.encode(item.get()));
+                    migrated.put(entry.getKey(), item.get().getState());
+                } catch (IOException e) {
+                    logger.warn("Failed to migrate the state of '{}': {}", entry.getKey(), e.getMessage());
+                    complete = false;
+                }
+            }
+        }
+        db.commit();
+
+        for (Map.Entry<String, State> entry : migrated.entrySet()) {
+            byte[] data = map.get(entry.getKey());
+            Optional<MapDbItem> item = data == null ? Optional.empty() : decode(data);
+            if (item.isEmpty() || !entry.getValue().equals(item.get().getState())) {
+                logger.warn("Failed to read back the migrated state of '{}'", entry.getKey());
+                complete = false;
+            }
+        }
+        if (complete) {
+            db.delete(LEGACY_MAP_NAME);
+            db.commit();
+            logger.info("Migrated {} item states to the binary MapDB format", migrated.size());
+        } else {
+            logger.warn("Migrated {} item states to the binary MapDB format, keeping the previous format as backup",
+                    migrated.size());
+        }
+    }
+
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
@@ -167,7 +255,13 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         if (pendingTasks.get() > 0) {
             logger.warn("Timed out waiting for MapDB persistence tasks; {} tasks still pending.", pendingTasks.get());
         }
+        ScheduledFuture<?> localCommitJob = commitJob;
+        if (localCommitJob != null) {
+            localCommitJob.cancel(false);
+            commitJob = null;
+        }
         if (db != null) {
+            commitDirtyItems();
             db.close();
         }
     }
@@ -184,8 +278,10 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
-                .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
+        Map<String, PersistenceItemInfo> itemInfo = new HashMap<>();
+        map.forEach((name, data) -> decode(data).ifPresent(item -> itemInfo.put(name, item)));
+        itemInfo.putAll(dirtyItems);
+        return Set.copyOf(itemInfo.values());
     }
 
     @Override
@@ -216,14 +312,19 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         mItem.setTimestamp(lastStateUpdate != null ? Date.from(lastStateUpdate.toInstant()) : new Date());
         ZonedDateTime lastStateChange = item.getLastStateChange();
         mItem.setLastStateChange(lastStateChange != null ? Date.from(lastStateChange.toInstant()) : null);
+        if (commitJob != null) {
+            dirtyItems.put(localAlias, mItem);
+            return;
+        }
         pendingTasks.incrementAndGet();
         try {
             threadPool.submit(() -> {
                 try {
-                    String json = serialize(mItem);
-                    map.put(localAlias, json);
+                    map.put(localAlias, MapDbItemCodec.encode(mItem));
                     db.commit();
-                    logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
+                    logger.debug("Stored '{}' with state '{}' in MapDB database", localAlias, state);
+                } catch (IOException e) {
+                    logger.warn("Failed to encode the state of '{}': {}", localAlias, e.getMessage());
                 } finally {
                     pendingTasks.decrementAndGet();
                 }
@@ -235,32 +336,74 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    /**
+     * Writes all items changed since the last commit in a single transaction.
+     */
+    private synchronized void commitDirtyItems() {
+        if (dirtyItems.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<String, MapDbItem>> committed = new ArrayList<>(dirtyItems.size());
+        try {
+            for (Map.Entry<String, MapDbItem> entry : dirtyItems.entrySet()) {
+                try {
+                    map.put(entry.getKey(), MapDbItemCodec.encode(entry.getValue()));
+                } catch (IOException e) {
+                    logger.warn("Failed to encode the state of '{}': {}", entry.getKey(), e.getMessage());
+                }
+                committed.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+            db.commit();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to commit {} item states to MapDB: {}", committed.size(), e.getMessage());
+            return;
+        }
+        // items updated again during the commit stay dirty
+        committed.forEach(entry -> dirtyItems.remove(entry.getKey(), entry.getValue()));
+        logger.debug("Committed {} item states to MapDB", committed.size());
+    }
+
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
-        if (json == null) {
-            return List.of();
-        }
-        Optional<MapDbItem> item = deserialize(json);
+        Optional<MapDbItem> item = get(filter.getItemName());
         return item.isPresent() ? List.of(item.get()) : List.of();
     }
 
     @Override
     public @Nullable PersistedItem persistedItem(String itemName, @Nullable String alias) {
-        String json = map.get(alias != null ? alias : itemName);
-        if (json == null) {
-            return null;
-        }
-        Optional<MapDbItem> item = deserialize(json);
-        MapDbItem dbItem = item.orElse(null);
+        MapDbItem dbItem = get(alias != null ? alias : itemName).orElse(null);
         if (dbItem != null) {
             dbItem.setName(itemName);
         }
         return dbItem;
     }
 
-    private String serialize(MapDbItem item) {
-        return mapper.toJson(item);
+    /**
+     * Returns a copy of the latest state of an item, including states not committed yet.
+     */
+    private Optional<MapDbItem> get(@Nullable String name) {
+        if (name == null) {
+            return Optional.empty();
+        }
+        MapDbItem dirtyItem = dirtyItems.get(name);
+        if (dirtyItem != null) {
+            return Optional.of(dirtyItem.copy());
+        }
+        byte[] data = map.get(name);
+        return data == null ? Optional.empty() : decode(data);
+    }
+
+    private Optional<MapDbItem> decode(byte[] data) {
+        try {
+            MapDbItem item = MapDbItemCodec.decode(data);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Decoded '{}' with state '{}'", item.getName(), item.getState());
+            }
+            return Optional.of(item);
+        } catch (IOException e) {
+            logger.warn("Failed to decode item state: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 
     private Optional<MapDbItem> deserialize(String json) {
@@ -275,10 +418,6 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         return Optional.of(item);
     }
 
-    private static <T> Stream<T> streamOptional(Optional<T> opt) {
-        return opt.isPresent() ? Stream.of(opt.get()) : Stream.empty();
-    }
-
     @Override
     public List<PersistenceStrategy> getDefaultStrategies() {
         return List.of(PersistenceStrategy.Globals.RESTORE, PersistenceStrategy.Globals.CHANGE);
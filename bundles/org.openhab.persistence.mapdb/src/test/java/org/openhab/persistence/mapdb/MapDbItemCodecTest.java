@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.mapdb;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.openhab.core.library.types.DateTimeType;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.PlayPauseType;
+import org.openhab.core.library.types.PointType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
+import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.State;
+import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.mapdb.internal.MapDbItemCodec;
+
+/**
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MapDbItemCodecTest {
+
+    @ParameterizedTest
+    @MethodSource
+    public void writeReadRoundtripShouldRecreateTheWrittenState(State state) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            MapDbItemCodec.writeState(out, state);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(MapDbItemCodec.readState(in), is(equalTo(state)));
+        }
+    }
+
+    public static Stream<State> writeReadRoundtripShouldRecreateTheWrittenState() {
+        return Stream.of(UnDefType.UNDEF, UnDefType.NULL, OnOffType.ON, OnOffType.OFF, OpenClosedType.OPEN,
+                OpenClosedType.CLOSED, DecimalType.ZERO, new DecimalType(1.123), new DecimalType(-10000000),
+                PercentType.HUNDRED, PercentType.valueOf("0.0000001"), HSBType.BLACK, HSBType.fromRGB(11, 22, 33),
+                QuantityType.valueOf("1 kW"), new QuantityType<>(new BigDecimal("21.23"), SIUnits.CELSIUS),
+                QuantityType.valueOf(20, Units.AMPERE), StringType.valueOf(""), StringType.valueOf("@@@###   @@@"),
+                StringType.valueOf("x".repeat(70000)), new DateTimeType(Instant.ofEpochSecond(1700000000, 123000000)),
+                PlayPauseType.PLAY, new PointType("52.5200,13.4050"));
+    }
+}
@@ -13,14 +13,18 @@
 package org.openhab.persistence.mapdb;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.when;
 
+import java.io.File;
+import java.lang.reflect.Field;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,21 +32,33 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mapdb.DB;
+import org.mapdb.DBMaker;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.library.items.NumberItem;
 import org.openhab.core.library.items.StringItem;
 import org.openhab.core.library.items.SwitchItem;
 import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.persistence.PersistedItem;
+import org.openhab.core.types.State;
 import org.openhab.persistence.mapdb.internal.MapDbPersistenceService;
+import org.openhab.persistence.mapdb.internal.StateTypeAdapter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
 /**
  * Tests for {@link MapDbPersistenceService}.
  *
@@ -53,6 +69,7 @@ import org.slf4j.LoggerFactory;
 class MapDbPersistenceServiceTest {
     private static final long STORAGE_TIMEOUT_MS = 20000; // 20 seconds for CI
     private static final long POLL_INTERVAL_MS = 250; // Check every 250ms
+    private static final File DB_FILE = new File(OpenHAB.getUserDataFolder(), "persistence/mapdb/storage.mapdb");
 
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceServiceTest.class);
 
@@ -71,7 +88,7 @@ class MapDbPersistenceServiceTest {
     void setUp() throws Exception {
         // Create service and activate OSGi lifecycle manually for tests
         service = new MapDbPersistenceService();
-        service.activate();
+        service.activate(Map.of());
     }
 
     /**
@@ -149,7 +166,7 @@ class MapDbPersistenceServiceTest {
 
         if (reloadAfterStore) {
             service.deactivate();
-            service.activate();
+            service.activate(Map.of());
         }
 
         // Wait for background storage to complete
@@ -185,7 +202,7 @@ class MapDbPersistenceServiceTest {
 
         if (reloadAfterStore) {
             service.deactivate();
-            service.activate();
+            service.activate(Map.of());
         }
 
         // Wait for background storage to complete
@@ -226,7 +243,7 @@ class MapDbPersistenceServiceTest {
 
         if (reloadAfterStore) {
             service.deactivate();
-            service.activate();
+            service.activate(Map.of());
         }
 
         // Wait for background storage to complete
@@ -267,7 +284,7 @@ class MapDbPersistenceServiceTest {
 
         if (reloadAfterStore) {
             service.deactivate();
-            service.activate();
+            service.activate(Map.of());
         }
 
         // Wait for background storage to complete
@@ -293,6 +310,123 @@ class MapDbPersistenceServiceTest {
         logger.debug("Ending queryWithTimeRange with reloadAfterStore={}", reloadAfterStore);
     }
 
+    @Test
+    void writeBehindReturnsPendingStateAndCommitsOnDeactivate() throws Exception {
+        service.deactivate();
+        service.activate(Map.of("commitInterval", 3600));
+        configureNumberItem("_WRITE_BEHIND");
+
+        service.store(numberItem);
+
+        // not committed yet, but visible to queries
+        PersistedItem persistedItem = service.persistedItem(numberItem.getName(), null);
+        assertNotNull(persistedItem);
+        assertEquals(new DecimalType(42.5), persistedItem.getState());
+
+        service.deactivate();
+        service.activate(Map.of());
+
+        persistedItem = service.persistedItem(numberItem.getName(), null);
+        assertNotNull(persistedItem);
+        assertEquals(new DecimalType(42.5), persistedItem.getState());
+    }
+
+    @Test
+    void writeBehindCommitsDirtyItemsPeriodically() throws Exception {
+        service.deactivate();
+        service.activate(Map.of("commitInterval", 1));
+        configureNumberItem("_PERIODIC");
+
+        service.store(numberItem);
+
+        Field field = MapDbPersistenceService.class.getDeclaredField("dirtyItems");
+        field.setAccessible(true);
+        Map<?, ?> dirtyItems = (Map<?, ?>) field.get(service);
+        assertEquals(1, dirtyItems.size());
+
+        long deadline = System.currentTimeMillis() + STORAGE_TIMEOUT_MS;
+        while (!dirtyItems.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLL_INTERVAL_MS);
+        }
+        assertTrue(dirtyItems.isEmpty());
+
+        // read from the committed map
+        PersistedItem persistedItem = service.persistedItem(numberItem.getName(), null);
+        assertNotNull(persistedItem);
+        assertEquals(new DecimalType(42.5), persistedItem.getState());
+    }
+
+    @Test
+    void legacyJsonStatesAreMigrated() throws Exception {
+        Gson mapper = new GsonBuilder().registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
+        Map<String, State> states = Map.of("LegacyNumber", new DecimalType(1.5), //
+                "LegacyQuantity", QuantityType.valueOf("21.5 °C"), //
+                "LegacySwitch", OnOffType.OFF, //
+                "LegacyString", new StringType("legacy"), //
+                "LegacyColor", HSBType.fromRGB(11, 22, 33), //
+                "LegacyDimmer", new PercentType(42));
+
+        service.deactivate();
+        DB db = DBMaker.newFileDB(DB_FILE).make();
+        Map<String, String> legacyMap = db.createTreeMap("itemStore").makeOrGet();
+        states.forEach((name, state) -> {
+            JsonObject json = new JsonObject();
+            json.addProperty("name", name);
+            json.add("state", mapper.toJsonTree(state, State.class));
+            legacyMap.put(name, json.toString());
+        });
+        db.commit();
+        db.close();
+
+        service.activate(Map.of());
+        for (Map.Entry<String, State> entry : states.entrySet()) {
+            PersistedItem persistedItem = service.persistedItem(entry.getKey(), null);
+            assertNotNull(persistedItem, entry.getKey());
+            assertEquals(entry.getValue(), persistedItem.getState(), entry.getKey());
+        }
+        service.deactivate();
+
+        db = DBMaker.newFileDB(DB_FILE).make();
+        try {
+            assertFalse(db.exists("itemStore"), "the legacy map should have been deleted after the migration");
+        } finally {
+            db.close();
+        }
+        service.activate(Map.of());
+    }
+
+    @Test
+    void legacyMapIsKeptIfAStateCannotBeMigrated() throws Exception {
+        Gson mapper = new GsonBuilder().registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
+        JsonObject json = new JsonObject();
+        json.addProperty("name", "LegacySwitch");
+        json.add("state", mapper.toJsonTree(OnOffType.ON, State.class));
+
+        service.deactivate();
+        DB db = DBMaker.newFileDB(DB_FILE).make();
+        Map<String, String> legacyMap = db.createTreeMap("itemStore").makeOrGet();
+        legacyMap.put("LegacySwitch", json.toString());
+        legacyMap.put("LegacyBroken", "null");
+        db.commit();
+        db.close();
+
+        service.activate(Map.of());
+        PersistedItem persistedItem = service.persistedItem("LegacySwitch", null);
+        assertNotNull(persistedItem);
+        assertEquals(OnOffType.ON, persistedItem.getState());
+        service.deactivate();
+
+        db = DBMaker.newFileDB(DB_FILE).make();
+        try {
+            assertTrue(db.exists("itemStore"), "the legacy map should be kept as the migration is incomplete");
+            db.delete("itemStore");
+            db.commit();
+        } finally {
+            db.close();
+        }
+        service.activate(Map.of());
+    }
+
     @Test
     void serviceIdIsCorrect() throws Exception {
         assertEquals("mapdb", service.getId());
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * The {@link PersistenceMetrics} publishes the meters shared by all persistence services to a meter registry.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PersistenceMetrics {
+    public static final String QUEUE_SIZE = "openhab.persistence.queue.size";
+    public static final String STORE_DURATION = "openhab.persistence.store.duration";
+    public static final String STORE_BATCH_SIZE = "openhab.persistence.store.batch.size";
+    public static final String QUERY_DURATION = "openhab.persistence.query.duration";
+    public static final String FAILURES = "openhab.persistence.failures";
+    public static final String DROPPED = "openhab.persistence.dropped";
+
+    public static final String TAG_SERVICE = "service";
+    public static final String TAG_OPERATION = "operation";
+
+    private static final String BASE_UNIT = "points";
+
+    // the meters are registered here once, and this registry is added to the registry set by the service
+    private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+    private final Tags tags;
+    private final Timer storeDuration;
+    private final DistributionSummary batchSize;
+    private final Timer queryDuration;
+    private final Counter storeFailures;
+    private final Counter queryFailures;
+    private final Counter dropped;
+    private @Nullable MeterRegistry meterRegistry;
+
+    /**
+     * @param serviceId the id of the persistence service, used as value of the {@value #TAG_SERVICE} tag
+     */
+    public PersistenceMetrics(String serviceId) {
+        tags = Tags.of(TAG_SERVICE, serviceId);
+        storeDuration = Timer.builder(STORE_DURATION).tags(tags).publishPercentileHistogram().register(registry);
+        batchSize = DistributionSummary.builder(STORE_BATCH_SIZE).baseUnit(BASE_UNIT).tags(tags)
+                .publishPercentileHistogram().register(registry);
+        queryDuration = Timer.builder(QUERY_DURATION).tags(tags).publishPercentileHistogram().register(registry);
+        storeFailures = Counter.builder(FAILURES).tags(tags).tag(TAG_OPERATION, "store").register(registry);
+        queryFailures = Counter.builder(FAILURES).tags(tags).tag(TAG_OPERATION, "query").register(registry);
+        dropped = Counter.builder(DROPPED).baseUnit(BASE_UNIT).tags(tags).register(registry);
+    }
+
+    /**
+     * Publishes the number of values waiting to be written, for services with a write queue.
+     */
+    public void gaugeQueueSize(Supplier<Number> queueSize) {
+        Gauge.builder(QUEUE_SIZE, queueSize).baseUnit(BASE_UNIT).tags(tags).strongReference(true).register(registry);
+    }
+
+    /**
+     * Sets the meter registry the meters are published to, or removes them from the current one if null.
+     */
+    public synchronized void setMeterRegistry(@Nullable MeterRegistry meterRegistry) {
+        MeterRegistry current = this.meterRegistry;
+        if (current != null) {
+            registry.remove(current);
+            registry.getMeters().forEach(meter -> current.remove(meter.getId()));
+        }
+        if (meterRegistry != null) {
+            registry.add(meterRegistry);
+        }
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Records a successful write of the given number of values, started at the given {@link System#nanoTime()}.
+     */
+    public void recordStore(long startNanos, int values) {
+        storeDuration.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        batchSize.record(values);
+    }
+
+    public void storeFailed() {
+        storeFailures.increment();
+    }
+
+    /**
+     * Records a query started at the given {@link System#nanoTime()}.
+     */
+    public void recordQuery(long startNanos) {
+        queryDuration.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void queryFailed() {
+        queryFailures.increment();
+    }
+
+    public void dropped(int values) {
+        dropped.increment(values);
+    }
+}
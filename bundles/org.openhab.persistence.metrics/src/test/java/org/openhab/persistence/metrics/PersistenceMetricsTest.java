@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.metrics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class PersistenceMetricsTest {
+
+    @Test
+    void metersArePublishedWhileTheRegistryIsSet() {
+        PersistenceMetrics metrics = new PersistenceMetrics("test");
+        metrics.gaugeQueueSize(() -> 3);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        metrics.setMeterRegistry(meterRegistry);
+
+        metrics.recordStore(System.nanoTime(), 5);
+        metrics.storeFailed();
+        metrics.dropped(2);
+
+        assertEquals(3.0, meterRegistry.get(PersistenceMetrics.QUEUE_SIZE).tag(PersistenceMetrics.TAG_SERVICE, "test")
+                .gauge().value());
+        assertEquals(1, meterRegistry.get(PersistenceMetrics.STORE_DURATION).timer().count());
+        assertEquals(5.0, meterRegistry.get(PersistenceMetrics.STORE_BATCH_SIZE).summary().totalAmount());
+        assertEquals(1.0, meterRegistry.get(PersistenceMetrics.FAILURES).tag(PersistenceMetrics.TAG_OPERATION, "store")
+                .counter().count());
+        assertEquals(0.0, meterRegistry.get(PersistenceMetrics.FAILURES).tag(PersistenceMetrics.TAG_OPERATION, "query")
+                .counter().count());
+        assertEquals(2.0, meterRegistry.get(PersistenceMetrics.DROPPED).counter().count());
+
+        metrics.setMeterRegistry(null);
+        assertTrue(meterRegistry.getMeters().isEmpty());
+    }
+}
@@ -24,6 +24,7 @@ import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -38,6 +39,7 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.metrics.PersistenceMetrics;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
@@ -45,6 +47,8 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -67,6 +71,8 @@ import com.mongodb.client.result.DeleteResult;
                 + "=org.openhab.mongodb")
 public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
+    public static final String SERVICE_ID = "mongodb";
+
     private final Logger logger = LoggerFactory.getLogger(MongoDBPersistenceService.class);
 
     private String url = "";
@@ -80,11 +86,22 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
     private @Nullable MongoClient cl;
 
+    private final PersistenceMetrics metrics = new PersistenceMetrics(SERVICE_ID);
+
     @Activate
     public MongoDBPersistenceService(final @Reference ItemRegistry itemRegistry) {
         this.itemRegistry = itemRegistry;
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.setMeterRegistry(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    public void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.setMeterRegistry(null);
+    }
+
     @Activate
     public void activate(final BundleContext bundleContext, final Map<String, Object> config) {
         @Nullable
@@ -122,11 +139,12 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
     public void deactivate(final int reason) {
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
         disconnectFromDatabase();
+        metrics.setMeterRegistry(null);
     }
 
     @Override
     public String getId() {
-        return "mongodb";
+        return SERVICE_ID;
     }
 
     @Override
@@ -277,6 +295,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
         Integer sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
         MongoCursor<Document> cursor = null;
+        long start = System.nanoTime();
         try {
             cursor = collection.find(query).sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir))
                     .skip(filter.getPageNumber() * filter.getPageSize()).limit(filter.getPageSize()).iterator();
@@ -288,11 +307,15 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
                 items.add(new MongoDBItem(realItemName, state, obj.getDate(MongoDBFields.FIELD_TIMESTAMP).toInstant()));
             }
+        } catch (RuntimeException e) {
+            metrics.queryFailed();
+            throw e;
         } finally {
             if (cursor != null) {
                 cursor.close();
             }
         }
+        metrics.recordQuery(start);
 
         return items;
     }
@@ -350,6 +373,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             logger.warn(
                     "mongodb: No connection to database. Cannot persist item '{}'! Will retry connecting to database next time.",
                     item);
+            metrics.dropped(1);
             return;
         }
 
@@ -362,6 +386,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
         if (collection == null) {
             // Logging is done in connectToCollection()
+            metrics.dropped(1);
             return;
         }
 
@@ -376,12 +401,18 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         if (item instanceof NumberItem && state instanceof QuantityType<?>) {
             obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
         }
+        long start = System.nanoTime();
         try {
             collection.insertOne(obj);
-        } catch (org.bson.BsonMaximumSizeExceededException e) {
-            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
+        } catch (RuntimeException e) {
+            metrics.storeFailed();
+            metrics.dropped(1);
+            if (e instanceof org.bson.BsonMaximumSizeExceededException) {
+                logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
+            }
             throw e;
         }
+        metrics.recordStore(start, 1);
         logger.debug("MongoDB save {}={}", name, value);
     }
 
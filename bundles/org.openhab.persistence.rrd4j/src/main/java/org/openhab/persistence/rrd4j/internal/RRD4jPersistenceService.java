@@ -22,6 +22,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -29,7 +30,10 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -45,6 +49,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.GroupItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
@@ -71,6 +76,7 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceCronStrategy;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
+import org.openhab.persistence.metrics.PersistenceMetrics;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -78,6 +84,8 @@ import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.rrd4j.ConsolFun;
 import org.rrd4j.DsType;
 import org.rrd4j.core.Archive;
@@ -96,6 +104,10 @@ import org.slf4j.LoggerFactory;
  * more about RRD4j please visit their
  * <a href="https://github.com/rrd4j/rrd4j">website</a>.
  *
+ * Pending samples are grouped per database file, so that each file is opened, updated and closed once per store cycle.
+ * The files are written in parallel by a pool of {@code writerThreads} threads, guarded by a striped lock per file
+ * instead of a service-wide monitor.
+ *
  * @author Kai Kreuzer - Initial contribution
  * @author Jan N. Klug - some improvements
  * @author Karel Goderis - remove TimerThread dependency
@@ -116,8 +128,14 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
     }
 
+    private record Point(long timestamp, double value) {
+    }
+
     public static final String SERVICE_ID = "rrd4j";
 
+    private static final String CONFIG_WRITER_THREADS = "writerThreads";
+    private static final int LOCK_STRIPES = 64;
+
     private static final String DEFAULT_OTHER = "default_other";
     private static final String DEFAULT_NUMERIC = "default_numeric";
     private static final String DEFAULT_QUANTIFIABLE = "default_quantifiable";
@@ -128,6 +146,10 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory("RRD4j"));
 
+    private final @Nullable ExecutorService writers;
+
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
     private final Map<String, RrdDefConfig> rrdDefs = new ConcurrentHashMap<>();
 
     private final ConcurrentSkipListMap<Key, Double> storageMap = new ConcurrentSkipListMap<>(Key::compareTo);
@@ -140,6 +162,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
     private final ItemRegistry itemRegistry;
+    private final PersistenceMetrics metrics = new PersistenceMetrics(SERVICE_ID);
     private boolean active = false;
 
     public static Path getDatabasePath(String name) {
@@ -155,11 +178,47 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
         this.itemRegistry = itemRegistry;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        int writerThreads = getWriterThreads(config);
+        writers = writerThreads > 1
+                ? Executors.newFixedThreadPool(writerThreads, new NamedThreadFactory("RRD4j-writer"))
+                : null;
         storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
+        metrics.gaugeQueueSize(storageMap::size);
         modified(config);
         active = true;
     }
 
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.setMeterRegistry(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    public void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.setMeterRegistry(null);
+    }
+
+    private int getWriterThreads(Map<String, Object> config) {
+        int defaultThreads = Math.min(4, Runtime.getRuntime().availableProcessors());
+        Object value = config.get(CONFIG_WRITER_THREADS);
+        if (value == null) {
+            return defaultThreads;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value.toString().trim()));
+        } catch (NumberFormatException e) {
+            logger.warn("Ignoring illegal value '{}' for '{}', using {}", value, CONFIG_WRITER_THREADS,
+                    defaultThreads);
+            return defaultThreads;
+        }
+    }
+
+    private Object lockFor(String name) {
+        return locks[(name.hashCode() & 0x7fffffff) % LOCK_STRIPES];
+    }
+
     @Modified
     protected void modified(final Map<String, Object> config) {
         // clean existing definitions
@@ -217,6 +276,10 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
                 // ignore service.pid and name
                 continue;
             }
+            if (CONFIG_WRITER_THREADS.equals(key)) {
+                // only evaluated on activation
+                continue;
+            }
 
             String[] subkeys = key.split("\\.");
             if (subkeys.length != 2) {
@@ -275,6 +338,12 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
         // make sure we really store everything
         doStore(true);
+
+        ExecutorService writers = this.writers;
+        if (writers != null) {
+            writers.shutdown();
+        }
+        metrics.setMeterRegistry(null);
     }
 
     @Override
@@ -334,6 +403,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         long now = System.currentTimeMillis() / 1000;
         Double oldValue = storageMap.put(new Key(now, name), value);
         if (oldValue != null && !oldValue.equals(value)) {
+            metrics.dropped(1);
             logger.debug(
                     "Discarding value {} for item {} with timestamp {} because a new value ({}) arrived with the same timestamp.",
                     oldValue, item.getName(), now, value);
@@ -342,30 +412,87 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private void doStore(boolean force) {
         long now = System.currentTimeMillis() / 1000;
-        while (!storageMap.isEmpty()) {
-            Key key = storageMap.firstKey();
-            if (now > key.timestamp || force) {
-                // no new elements can be added for this timestamp because we are already past that time or the service
-                // requires forced storing
-                Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
-            } else {
+        // points are collected in timestamp order, so the list of each database is sorted as well
+        Map<String, List<Point>> pending = new LinkedHashMap<>();
+        while (true) {
+            Map.Entry<Key, Double> entry = storageMap.firstEntry();
+            // no new elements can be added for a timestamp we are already past, unless the service requires forced
+            // storing
+            if (entry == null || (now <= entry.getKey().timestamp && !force)) {
+                break;
+            }
+            entry = storageMap.pollFirstEntry();
+            if (entry == null) {
+                break;
+            }
+            Key key = entry.getKey();
+            pending.computeIfAbsent(key.name, k -> new ArrayList<>()).add(new Point(key.timestamp, entry.getValue()));
+        }
+
+        ExecutorService writers = this.writers;
+        if (writers == null || pending.size() == 1) {
+            pending.forEach(this::writePointsToDatabase);
+            return;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(pending.size());
+        pending.forEach((name, points) -> {
+            try {
+                futures.add(writers.submit(() -> writePointsToDatabase(name, points)));
+            } catch (RejectedExecutionException e) {
+                // the writer pool is already shut down, write in the calling thread
+                writePointsToDatabase(name, points);
+            }
+        });
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                logger.warn("Failed to store data in rrd4j database: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 return;
             }
         }
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
-        RrdDb db = null;
-        try {
-            db = getDB(name, true);
-        } catch (Exception e) {
-            logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
-        }
-        if (db == null) {
-            return;
+    private void writePointsToDatabase(String name, List<Point> points) {
+        synchronized (lockFor(name)) {
+            long start = System.nanoTime();
+            RrdDb db = null;
+            try {
+                db = getDB(name, true);
+            } catch (Exception e) {
+                logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
+            }
+            if (db == null) {
+                metrics.storeFailed();
+                metrics.dropped(points.size());
+                return;
+            }
+
+            int stored = 0;
+            for (Point point : points) {
+                if (writePointToDatabase(db, name, point.value(), point.timestamp())) {
+                    stored++;
+                } else {
+                    metrics.storeFailed();
+                    metrics.dropped(1);
+                }
+            }
+
+            try {
+                db.close();
+            } catch (IOException e) {
+                logger.debug("Error closing rrd4j database: {}", e.getMessage());
+            }
+            if (stored > 0) {
+                metrics.recordStore(start, stored);
+            }
         }
+    }
 
+    private boolean writePointToDatabase(RrdDb db, String name, double value, long timestamp) {
         ConsolFun function = getConsolidationFunction(db);
         if (function != ConsolFun.AVERAGE) {
             try {
@@ -397,13 +524,10 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             sample.setValue(DATASOURCE_STATE, storeValue);
             sample.update();
             logger.debug("Stored '{}' as value '{}' with timestamp {} in rrd4j database", name, storeValue, timestamp);
+            return true;
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
-        }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
+            return false;
         }
     }
 
@@ -434,11 +558,13 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         logger.trace("Querying rrd4j database for item '{}'", itemName);
 
         String localAlias = alias != null ? alias : itemName;
+        long queryStart = System.nanoTime();
         RrdDb db = null;
         try {
             db = getDB(localAlias, false);
         } catch (Exception e) {
             logger.warn("Failed to open rrd4j database '{}' for querying ({})", itemName, e.toString());
+            metrics.queryFailed();
             return List.of();
         }
         if (db == null) {
@@ -543,6 +669,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             return items;
         } catch (IOException e) {
             logger.warn("Could not query rrd4j database for item '{}': {}", itemName, e.getMessage());
+            metrics.queryFailed();
             return List.of();
         } finally {
             try {
@@ -550,6 +677,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
             } catch (IOException e) {
                 logger.debug("Error closing rrd4j database: {}", e.getMessage());
             }
+            metrics.recordQuery(queryStart);
         }
     }
 
@@ -694,7 +822,13 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         };
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+        synchronized (lockFor(alias)) {
+            return openDB(alias, createFileIfAbsent);
+        }
+    }
+
+    private @Nullable RrdDb openDB(String alias, boolean createFileIfAbsent) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
         try {
@@ -232,6 +232,27 @@ class RRD4jPersistenceServiceTest {
         assertNotNull(results.iterator().hasNext());
     }
 
+    @Test
+    void storeWithParallelWriters() throws Exception {
+        service.deactivate();
+        service = new RRD4jPersistenceService(itemRegistry, Map.of("writerThreads", "2"));
+        configureNumberItem("_PARALLEL");
+        configureSwitchItem("_PARALLEL");
+
+        service.store(numberItem);
+        service.store(switchItem);
+
+        waitForStorage(numberItem.getName(), STORAGE_TIMEOUT_MS);
+        waitForStorage(switchItem.getName(), STORAGE_TIMEOUT_MS);
+
+        PersistedItem persistedNumber = service.persistedItem(numberItem.getName(), null);
+        assertNotNull(persistedNumber);
+        assertEquals(new DecimalType(42.5), persistedNumber.getState());
+        PersistedItem persistedSwitch = service.persistedItem(switchItem.getName(), null);
+        assertNotNull(persistedSwitch);
+        assertEquals(OnOffType.ON, persistedSwitch.getState());
+    }
+
     @Test
     void serviceIdIsCorrect() throws Exception {
         RRD4jPersistenceService simpleService = new RRD4jPersistenceService(itemRegistry, Map.of());
@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.persistence.metrics.PersistenceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous writer that decouples {@code store()} calls from database round-trips.
+ *
+ * <p>
+ * Rows are put into a bounded queue and written by a dedicated thread with batched prepared statements,
+ * one transaction per batch. A batch is written as soon as {@code batchSize} rows are pending or the oldest
+ * pending row has waited {@code maxLatency} milliseconds, whichever comes first. When the queue is full, new
+ * rows are dropped (and counted) instead of blocking the caller.
+ *
+ * <p>
+ * {@code COPY} is not used because it cannot skip duplicate rows the way {@code ON CONFLICT DO NOTHING} does.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TimescaleDBBatchWriter {
+
+    private static final String THREAD_NAME = "timescaledb-writer";
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+    /**
+     * Resolves (and if necessary creates) the item_id for a pending row.
+     */
+    @FunctionalInterface
+    interface ItemIdResolver {
+        int resolve(Connection connection, PendingRow row) throws SQLException;
+    }
+
+    /**
+     * A row waiting to be written, together with the data needed to register the item in {@code item_meta}.
+     */
+    record PendingRow(String name, @Nullable String label, @Nullable String value, @Nullable String metadataJson,
+            ZonedDateTime timestamp, TimescaleDBMapper.Row row) {
+    }
+
+    // queued by stop() to wake up the writer thread, never written
+    private static final PendingRow WAKE_UP = new PendingRow("", null, null, null, ZonedDateTime.now(),
+            new TimescaleDBMapper.Row(null, null, null));
+
+    private final Logger logger = LoggerFactory.getLogger(TimescaleDBBatchWriter.class);
+
+    private final DataSource dataSource;
+    private final ItemIdResolver itemIdResolver;
+    private final int batchSize;
+    private final long maxLatencyNanos;
+    private final BlockingQueue<PendingRow> queue;
+    private final Thread thread;
+    private final PersistenceMetrics metrics;
+
+    private final AtomicLong writtenRows = new AtomicLong();
+    private final AtomicLong droppedRows = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+
+    private volatile boolean running = true;
+    private volatile boolean overflowReported = false;
+
+    /**
+     * @param dataSource The connection pool.
+     * @param itemIdResolver Resolves the item_id of a row.
+     * @param batchSize Maximum number of rows per batch.
+     * @param maxLatencyMs Maximum time in milliseconds a row waits before its batch is written.
+     * @param queueLimit Maximum number of pending rows.
+     * @param metrics The metrics to record the writes and dropped rows in.
+     */
+    TimescaleDBBatchWriter(DataSource dataSource, ItemIdResolver itemIdResolver, int batchSize, long maxLatencyMs,
+            int queueLimit, PersistenceMetrics metrics) {
+        this.dataSource = dataSource;
+        this.itemIdResolver = itemIdResolver;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, maxLatencyMs));
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueLimit));
+        this.thread = new NamedThreadFactory(THREAD_NAME).newThread(this::run);
+        this.metrics = metrics;
+    }
+
+    void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops the writer thread after all pending rows have been written (or the shutdown timeout elapsed).
+     */
+    void stop() {
+        running = false;
+        queue.offer(WAKE_UP);
+        try {
+            thread.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        queue.remove(WAKE_UP);
+        int remaining = queue.size();
+        if (remaining > 0) {
+            logger.warn("TimescaleDB writer stopped with {} unwritten rows", remaining);
+            queue.clear();
+            metrics.dropped(remaining);
+        }
+    }
+
+    /**
+     * Queues a row for writing without blocking.
+     *
+     * @return {@code true} if the row was queued, {@code false} if it was dropped because the queue is full or the
+     *         writer is stopped.
+     */
+    boolean offer(PendingRow row) {
+        if (!running) {
+            drop();
+            logger.debug("TimescaleDB writer is stopped, dropping row of item '{}'", row.name());
+            return false;
+        }
+        if (queue.offer(row)) {
+            // stop() may have cleared the queue meanwhile, the row is then not written anymore
+            if (running || !queue.remove(row)) {
+                overflowReported = false;
+                return true;
+            }
+            drop();
+            return false;
+        }
+        drop();
+        if (!overflowReported) {
+            overflowReported = true;
+            logger.warn("TimescaleDB write queue is full ({} rows) — dropping rows until the database catches up",
+                    queue.size());
+        }
+        return false;
+    }
+
+    private void drop() {
+        droppedRows.incrementAndGet();
+        metrics.dropped(1);
+    }
+
+    int getQueueSize() {
+        return queue.size();
+    }
+
+    long getWrittenRows() {
+        return writtenRows.get();
+    }
+
+    long getDroppedRows() {
+        return droppedRows.get();
+    }
+
+    long getFailedRows() {
+        return failedRows.get();
+    }
+
+    private void run() {
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+        boolean interrupted = false;
+        while (!interrupted && (running || !queue.isEmpty())) {
+            try {
+                PendingRow first = running ? queue.poll(maxLatencyNanos, TimeUnit.NANOSECONDS) : queue.poll();
+                if (first == null || first == WAKE_UP) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxLatencyNanos;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingRow next = running && remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    if (next != WAKE_UP) {
+                        batch.add(next);
+                    }
+                }
+            } catch (InterruptedException e) {
+                // write what has been collected so far, then give up
+                interrupted = true;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingRow> batch) {
+        long start = System.nanoTime();
+        try (Connection conn = dataSource.getConnection()) {
+            List<TimescaleDBQuery.BatchRow> rows = new ArrayList<>(batch.size());
+            List<PendingRow> resolved = new ArrayList<>(batch.size());
+            for (PendingRow pending : batch) {
+                // a single item that cannot be registered must not take the rest of the batch down with it
+                try {
+                    rows.add(new TimescaleDBQuery.BatchRow(itemIdResolver.resolve(conn, pending),
+                            pending.timestamp(), pending.row()));
+                    resolved.add(pending);
+                } catch (SQLException e) {
+                    droppedRows.incrementAndGet();
+                    metrics.storeFailed();
+                    metrics.dropped(1);
+                    logger.error("Failed to resolve item_id for item '{}', dropping row: {}", pending.name(),
+                            e.getMessage(), e);
+                }
+            }
+            if (rows.isEmpty()) {
+                return;
+            }
+            conn.setAutoCommit(false);
+            try {
+                TimescaleDBQuery.insertBatch(conn, rows);
+                conn.commit();
+                writtenRows.addAndGet(rows.size());
+                metrics.recordStore(start, rows.size());
+                logger.trace("Wrote batch of {} rows, {} rows pending", rows.size(), queue.size());
+                return;
+            } catch (SQLException e) {
+                conn.rollback();
+                metrics.storeFailed();
+                logger.debug("Batch insert of {} rows failed, retrying row by row: {}", rows.size(), e.getMessage());
+            } finally {
+                conn.setAutoCommit(true);
+            }
+            for (int i = 0; i < rows.size(); i++) {
+                TimescaleDBQuery.BatchRow row = rows.get(i);
+                long rowStart = System.nanoTime();
+                try {
+                    TimescaleDBQuery.insert(conn, row.itemId(), row.timestamp(), row.row());
+                    writtenRows.incrementAndGet();
+                    metrics.recordStore(rowStart, 1);
+                } catch (SQLException e) {
+                    failedRows.incrementAndGet();
+                    metrics.storeFailed();
+                    metrics.dropped(1);
+                    logger.error("Failed to store item '{}': {}", resolved.get(i).name(), e.getMessage(), e);
+                }
+            }
+        } catch (SQLException e) {
+            failedRows.addAndGet(batch.size());
+            metrics.storeFailed();
+            metrics.dropped(batch.size());
+            logger.error("Failed to store batch of {} rows: {}", batch.size(), e.getMessage(), e);
+        }
+    }
+}
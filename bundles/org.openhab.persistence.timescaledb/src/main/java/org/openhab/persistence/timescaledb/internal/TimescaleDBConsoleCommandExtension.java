@@ -13,6 +13,7 @@
 package org.openhab.persistence.timescaledb.internal;
 
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -30,6 +31,7 @@ import org.osgi.service.component.annotations.Reference;
  *
  * <pre>
  * openhab:timescaledb downsample   - run the downsampling job immediately
+ * openhab:timescaledb writer       - show statistics of the asynchronous writer
  * </pre>
  *
  * @author René Ulbricht - Initial contribution
@@ -40,7 +42,9 @@ public class TimescaleDBConsoleCommandExtension extends AbstractConsoleCommandEx
         implements ConsoleCommandCompleter {
 
     private static final String CMD_DOWNSAMPLE = "downsample";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_DOWNSAMPLE), false);
+    private static final String CMD_WRITER = "writer";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_DOWNSAMPLE, CMD_WRITER),
+            false);
 
     private final TimescaleDBPersistenceService persistenceService;
 
@@ -52,7 +56,8 @@ public class TimescaleDBConsoleCommandExtension extends AbstractConsoleCommandEx
 
     @Override
     public List<String> getUsages() {
-        return List.of(buildCommandUsage(CMD_DOWNSAMPLE, "run the downsampling/retention job immediately"));
+        return List.of(buildCommandUsage(CMD_DOWNSAMPLE, "run the downsampling/retention job immediately"),
+                buildCommandUsage(CMD_WRITER, "show statistics of the asynchronous writer"));
     }
 
     @Override
@@ -75,6 +80,13 @@ public class TimescaleDBConsoleCommandExtension extends AbstractConsoleCommandEx
             } else {
                 console.println("TimescaleDB persistence service is not active — cannot run job.");
             }
+        } else if (args.length == 1 && CMD_WRITER.equals(args[0])) {
+            Map<String, Long> statistics = persistenceService.getWriterStatistics();
+            if (statistics.isEmpty()) {
+                console.println("Asynchronous writer is not active.");
+            } else {
+                statistics.forEach((key, value) -> console.println(key + ": " + value));
+            }
         } else {
             printUsage(console);
         }
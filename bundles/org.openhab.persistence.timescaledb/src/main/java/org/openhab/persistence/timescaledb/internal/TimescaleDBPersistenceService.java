@@ -16,6 +16,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.ZonedDateTime;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -29,6 +30,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.common.registry.RegistryChangeListener;
 import org.openhab.core.config.core.ConfigurableService;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -42,12 +44,15 @@ import org.openhab.core.persistence.QueryablePersistenceService;
 import org.openhab.core.persistence.strategy.PersistenceStrategy;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.openhab.persistence.metrics.PersistenceMetrics;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,6 +70,10 @@ import com.zaxxer.hikari.HikariDataSource;
  * Item names are cached in-memory ({@code name → item_id}) to avoid a SELECT on every
  * {@link #store} call. The cache is populated lazily on first store per item.
  *
+ * <p>
+ * If {@code batchSize} is greater than {@code 0}, {@link #store} only queues the row; a {@link TimescaleDBBatchWriter}
+ * writes it on its own thread, so item event dispatch never waits for the database.
+ *
  * @author René Ulbricht - Initial contribution
  */
 @NonNullByDefault
@@ -93,6 +102,8 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
     private @Nullable HikariDataSource dataSource;
     private @Nullable ScheduledFuture<?> downsampleJob;
     private @Nullable TimescaleDBDownsampleJob downsampleJobInstance;
+    private @Nullable TimescaleDBBatchWriter batchWriter;
+    private final PersistenceMetrics metrics = new PersistenceMetrics(SERVICE_ID);
 
     @Activate
     public TimescaleDBPersistenceService(final @Reference ItemRegistry itemRegistry,
@@ -101,6 +112,7 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         this.itemRegistry = itemRegistry;
         this.metadataRegistry = metadataRegistry;
         this.metadataService = metadataService;
+        metrics.gaugeQueueSize(this::getQueueSize);
     }
 
     /** Package-private constructor for unit tests — skips OSGi activation, allows injecting a DataSource. */
@@ -110,6 +122,16 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         this.metadataRegistry = metadataRegistry;
         this.metadataService = metadataService;
         this.dataSource = dataSource;
+        metrics.gaugeQueueSize(this::getQueueSize);
+    }
+
+    @Reference(cardinality = ReferenceCardinality.OPTIONAL, policy = ReferencePolicy.DYNAMIC)
+    public void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.setMeterRegistry(meterRegistryProvider.getOHMeterRegistry());
+    }
+
+    public void unsetMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
+        metrics.setMeterRegistry(null);
     }
 
     @Activate
@@ -128,11 +150,16 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         String chunkInterval = (String) config.getOrDefault("chunkInterval", "7 days");
         int retentionDays = parseIntConfig(config, "retentionDays", 0);
         int compressionAfterDays = parseIntConfig(config, "compressionAfterDays", 0);
+        int batchSize = parseIntConfig(config, "batchSize", 0);
+        int maxLatency = parseIntConfig(config, "maxLatency", 1000);
+        int queueLimit = parseIntConfig(config, "queueLimit", 10000);
 
         LOGGER.debug(
                 "Activating TimescaleDB persistence: url={}, user={}, maxConnections={}, "
-                        + "chunkInterval={}, retentionDays={}, compressionAfterDays={}",
-                url, user, maxConnections, chunkInterval, retentionDays, compressionAfterDays);
+                        + "chunkInterval={}, retentionDays={}, compressionAfterDays={}, batchSize={}, maxLatency={}, "
+                        + "queueLimit={}",
+                url, user, maxConnections, chunkInterval, retentionDays, compressionAfterDays, batchSize, maxLatency,
+                queueLimit);
 
         HikariDataSource ds;
         try {
@@ -158,6 +185,14 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
                     + "already-compressed (read-only) chunks and cause SQLExceptions.", compressionAfterDays);
         }
 
+        if (batchSize > 0) {
+            TimescaleDBBatchWriter writer = new TimescaleDBBatchWriter(ds,
+                    (conn, row) -> getOrCreateItemId(conn, row.name(), row.label(), row.value(), row.metadataJson()),
+                    batchSize, maxLatency, queueLimit, metrics);
+            writer.start();
+            batchWriter = writer;
+        }
+
         // Schedule the daily downsampling job via the openHAB shared thread pool
         TimescaleDBDownsampleJob job = new TimescaleDBDownsampleJob(ds, metadataService);
         downsampleJobInstance = job;
@@ -170,6 +205,30 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         LOGGER.info("TimescaleDB persistence service activated");
     }
 
+    /**
+     * Returns statistics of the asynchronous writer, for use by the Karaf console command.
+     *
+     * @return the number of queued, written, dropped and failed rows, or an empty map if rows are written
+     *         synchronously.
+     */
+    public Map<String, Long> getWriterStatistics() {
+        TimescaleDBBatchWriter writer = batchWriter;
+        if (writer == null) {
+            return Map.of();
+        }
+        Map<String, Long> statistics = new LinkedHashMap<>();
+        statistics.put("queued", (long) writer.getQueueSize());
+        statistics.put("written", writer.getWrittenRows());
+        statistics.put("dropped", writer.getDroppedRows());
+        statistics.put("failed", writer.getFailedRows());
+        return statistics;
+    }
+
+    private int getQueueSize() {
+        TimescaleDBBatchWriter writer = batchWriter;
+        return writer != null ? writer.getQueueSize() : 0;
+    }
+
     /**
      * Triggers the downsampling job immediately in the calling thread.
      * Intended for use by the Karaf console command for on-demand testing.
@@ -198,11 +257,18 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         }
         downsampleJobInstance = null;
 
+        TimescaleDBBatchWriter writer = batchWriter;
+        if (writer != null) {
+            batchWriter = null;
+            writer.stop();
+        }
+
         HikariDataSource ds = dataSource;
         if (ds != null) {
             ds.close();
             dataSource = null;
         }
+        metrics.setMeterRegistry(null);
         LOGGER.info("TimescaleDB persistence service deactivated");
     }
 
@@ -268,13 +334,24 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
         HikariDataSource ds = dataSource;
         if (ds == null) {
             LOGGER.warn("TimescaleDB data source not available — cannot store item '{}'", name);
+            metrics.dropped(1);
+            return;
+        }
+
+        TimescaleDBBatchWriter writer = batchWriter;
+        if (writer != null) {
+            writer.offer(new TimescaleDBBatchWriter.PendingRow(name, label, valueStr, metadataJson, date, row));
             return;
         }
 
+        long start = System.nanoTime();
         try (Connection conn = ds.getConnection()) {
             int itemId = getOrCreateItemId(conn, name, label, valueStr, metadataJson);
             TimescaleDBQuery.insert(conn, itemId, date, row);
+            metrics.recordStore(start, 1);
         } catch (SQLException e) {
+            metrics.storeFailed();
+            metrics.dropped(1);
             LOGGER.error("Failed to store item '{}': {}", name, e.getMessage(), e);
         }
     }
@@ -313,6 +390,7 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
                 itemId = resolved.get();
                 itemIdCache.put(queryName, itemId);
             } catch (SQLException e) {
+                metrics.queryFailed();
                 LOGGER.error("Failed to resolve item_id for item '{}': {}", queryName, e.getMessage(), e);
                 return Collections.emptyList();
             }
@@ -332,9 +410,13 @@ public class TimescaleDBPersistenceService implements ModifiablePersistenceServi
             return Collections.emptyList();
         }
 
+        long start = System.nanoTime();
         try (Connection conn = ds.getConnection()) {
-            return TimescaleDBQuery.query(conn, item, itemId, filter);
+            List<HistoricItem> items = TimescaleDBQuery.query(conn, item, itemId, filter);
+            metrics.recordQuery(start);
+            return items;
         } catch (SQLException e) {
+            metrics.queryFailed();
             LOGGER.error("Query failed for item '{}': {}", queryName, e.getMessage(), e);
             return Collections.emptyList();
         }
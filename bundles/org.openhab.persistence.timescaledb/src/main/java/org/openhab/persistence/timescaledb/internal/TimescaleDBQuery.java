@@ -85,22 +85,52 @@ public class TimescaleDBQuery {
     public static void insert(Connection connection, int itemId, ZonedDateTime timestamp, TimescaleDBMapper.Row row)
             throws SQLException {
         try (PreparedStatement ps = connection.prepareStatement(SQL_INSERT)) {
-            ps.setTimestamp(1, Timestamp.from(timestamp.toInstant()));
-            ps.setInt(2, itemId);
-            Double value = row.value();
-            if (value != null) {
-                ps.setDouble(3, value);
-            } else {
-                ps.setNull(3, Types.DOUBLE);
-            }
-            ps.setString(4, row.string());
-            ps.setString(5, row.unit());
+            bindInsert(ps, itemId, timestamp, row);
             ps.executeUpdate();
         }
         LOGGER.debug("Stored item_id={} at {} value={} string={} unit={}", itemId, timestamp, row.value(), row.string(),
                 row.unit());
     }
 
+    /**
+     * Inserts several item state rows with a single batched statement.
+     *
+     * <p>
+     * The batch is not wrapped in a transaction here; callers that want all-or-nothing semantics
+     * have to disable auto-commit on the connection themselves.
+     *
+     * @param connection The JDBC connection.
+     * @param rows The rows to insert.
+     * @throws SQLException on any database error.
+     */
+    public static void insertBatch(Connection connection, List<BatchRow> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try (PreparedStatement ps = connection.prepareStatement(SQL_INSERT)) {
+            for (BatchRow row : rows) {
+                bindInsert(ps, row.itemId(), row.timestamp(), row.row());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        LOGGER.debug("Stored batch of {} rows", rows.size());
+    }
+
+    private static void bindInsert(PreparedStatement ps, int itemId, ZonedDateTime timestamp,
+            TimescaleDBMapper.Row row) throws SQLException {
+        ps.setTimestamp(1, Timestamp.from(timestamp.toInstant()));
+        ps.setInt(2, itemId);
+        Double value = row.value();
+        if (value != null) {
+            ps.setDouble(3, value);
+        } else {
+            ps.setNull(3, Types.DOUBLE);
+        }
+        ps.setString(4, row.string());
+        ps.setString(5, row.unit());
+    }
+
     /**
      * Returns the item_id for the given name, inserting or updating the {@code item_meta} row as needed.
      *
@@ -282,4 +312,14 @@ public class TimescaleDBQuery {
         }
         return java.util.Optional.empty();
     }
+
+    /**
+     * A single row of a batched insert.
+     *
+     * @param itemId The item_id from {@code item_meta}.
+     * @param timestamp The measurement timestamp.
+     * @param row The mapped state row.
+     */
+    public record BatchRow(int itemId, ZonedDateTime timestamp, TimescaleDBMapper.Row row) {
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.timescaledb.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.ZonedDateTime;
+
+import org.eclipse.jdt.annotation.DefaultLocation;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.persistence.metrics.PersistenceMetrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link TimescaleDBBatchWriter} using a mocked DataSource.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault({ DefaultLocation.RETURN_TYPE, DefaultLocation.PARAMETER })
+@SuppressWarnings("null")
+class TimescaleDBBatchWriterTest {
+
+    private HikariDataSource dataSource;
+    private Connection connection;
+    private PreparedStatement preparedStatement;
+    private final PersistenceMetrics metrics = new PersistenceMetrics("timescaledb");
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = mock(HikariDataSource.class);
+        connection = mock(Connection.class);
+        preparedStatement = mock(PreparedStatement.class);
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[] { 1, 1, 1 });
+    }
+
+    @Test
+    void pendingRowsAreWrittenAsOneBatchOnStop() throws Exception {
+        var writer = new TimescaleDBBatchWriter(dataSource, (conn, row) -> 7, 100, 60_000, 100, metrics);
+        writer.start();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(writer.offer(pendingRow(i)));
+        }
+        writer.stop();
+
+        verify(preparedStatement, times(3)).addBatch();
+        verify(preparedStatement).executeBatch();
+        verify(connection).commit();
+        assertEquals(3, writer.getWrittenRows());
+        assertEquals(0, writer.getQueueSize());
+    }
+
+    @Test
+    void fullBatchIsWrittenWithoutWaitingForMaxLatency() throws Exception {
+        var writer = new TimescaleDBBatchWriter(dataSource, (conn, row) -> 7, 2, 60_000, 100, metrics);
+        writer.start();
+        writer.offer(pendingRow(0));
+        writer.offer(pendingRow(1));
+
+        verify(preparedStatement, timeout(5000)).executeBatch();
+        writer.stop();
+        assertEquals(2, writer.getWrittenRows());
+    }
+
+    @Test
+    void fullQueueDropsRows() {
+        var writer = new TimescaleDBBatchWriter(dataSource, (conn, row) -> 7, 100, 1000, 2, metrics);
+        assertTrue(writer.offer(pendingRow(0)));
+        assertTrue(writer.offer(pendingRow(1)));
+        assertFalse(writer.offer(pendingRow(2)));
+
+        assertEquals(1, writer.getDroppedRows());
+        assertEquals(2, writer.getQueueSize());
+    }
+
+    @Test
+    void rowsOfferedAfterStopAreDropped() {
+        var writer = new TimescaleDBBatchWriter(dataSource, (conn, row) -> 7, 100, 60_000, 100, metrics);
+        writer.start();
+        writer.stop();
+
+        assertFalse(writer.offer(pendingRow(0)));
+        assertEquals(1, writer.getDroppedRows());
+        assertEquals(0, writer.getQueueSize());
+    }
+
+    @Test
+    void failedBatchFallsBackToSingleInserts() throws Exception {
+        when(preparedStatement.executeBatch()).thenThrow(new SQLException("duplicate"));
+        when(preparedStatement.executeUpdate()).thenReturn(1).thenThrow(new SQLException("broken"));
+
+        var writer = new TimescaleDBBatchWriter(dataSource, (conn, row) -> 7, 100, 60_000, 100, metrics);
+        writer.start();
+        writer.offer(pendingRow(0));
+        writer.offer(pendingRow(1));
+        writer.stop();
+
+        verify(connection).rollback();
+        assertEquals(1, writer.getWrittenRows());
+        assertEquals(1, writer.getFailedRows());
+    }
+
+    @Test
+    void rowWithUnresolvableItemIsDroppedAlone() throws Exception {
+        var writer = new TimescaleDBBatchWriter(dataSource, (conn, row) -> {
+            if ("Broken".equals(row.name())) {
+                throw new SQLException("item_meta insert failed");
+            }
+            return 7;
+        }, 100, 60_000, 100, metrics);
+        writer.start();
+        writer.offer(pendingRow(0));
+        writer.offer(pendingRow("Broken", 1));
+        writer.offer(pendingRow(2));
+        writer.stop();
+
+        verify(preparedStatement, times(2)).addBatch();
+        verify(connection).commit();
+        assertEquals(2, writer.getWrittenRows());
+        assertEquals(1, writer.getDroppedRows());
+        assertEquals(0, writer.getFailedRows());
+    }
+
+    @Test
+    void batchesAndDroppedRowsArePublishedToMeterRegistry() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        metrics.setMeterRegistry(meterRegistry);
+        var writer = new TimescaleDBBatchWriter(dataSource, (conn, row) -> 7, 100, 60_000, 3, metrics);
+        writer.start();
+        for (int i = 0; i < 3; i++) {
+            assertTrue(writer.offer(pendingRow(i)));
+        }
+        writer.stop();
+
+        DistributionSummary batchSize = meterRegistry.get("openhab.persistence.store.batch.size")
+                .tag("service", "timescaledb").summary();
+        assertEquals(1, batchSize.count());
+        assertEquals(3.0, batchSize.totalAmount());
+        assertEquals(1, meterRegistry.get("openhab.persistence.store.duration").timer().count());
+        assertEquals(0.0,
+                meterRegistry.get("openhab.persistence.failures").tag("operation", "store").counter().count());
+
+        var fullWriter = new TimescaleDBBatchWriter(dataSource, (conn, row) -> 7, 100, 1000, 1, metrics);
+        assertTrue(fullWriter.offer(pendingRow(0)));
+        assertFalse(fullWriter.offer(pendingRow(1)));
+        assertEquals(1.0, meterRegistry.get("openhab.persistence.dropped").counter().count());
+
+        metrics.setMeterRegistry(null);
+        assertNull(meterRegistry.find("openhab.persistence.store.batch.size").summary());
+    }
+
+    private static TimescaleDBBatchWriter.PendingRow pendingRow(int i) {
+        return pendingRow("Sensor1", i);
+    }
+
+    private static TimescaleDBBatchWriter.PendingRow pendingRow(String name, int i) {
+        return new TimescaleDBBatchWriter.PendingRow(name, null, null, null, ZonedDateTime.now().plusSeconds(i),
+                new TimescaleDBMapper.Row((double) i, null, null));
+    }
+}
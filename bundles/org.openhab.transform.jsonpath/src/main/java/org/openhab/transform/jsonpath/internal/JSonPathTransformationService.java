@@ -12,7 +12,13 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -24,6 +30,7 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
@@ -31,6 +38,9 @@ import com.jayway.jsonpath.PathNotFoundException;
 
 /**
  * The implementation of a {@link TransformationService} which transforms the input by JSonPath Expressions.
+ * <p>
+ * Compiled paths are cached, and so are recently parsed documents for a short time: things like HTTP often apply
+ * many expressions to the very same response, which then only has to be parsed once.
  *
  * @author Gaël L'hopital - Initial contribution
  * @author Sebastian Janzen - Initial contribution
@@ -39,8 +49,18 @@ import com.jayway.jsonpath.PathNotFoundException;
 @Component(property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_PATHS = 1000;
+    private static final int MAX_CACHED_DOCUMENTS = 16;
+    private static final long DOCUMENT_CACHE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
 
+    private final Map<String, JsonPath> pathCache = Collections.synchronizedMap(new LRUMap<>(MAX_CACHED_PATHS));
+    private final Map<String, ParsedDocument> documentCache = Collections
+            .synchronizedMap(new LRUMap<>(MAX_CACHED_DOCUMENTS));
+    private final AtomicLong compiledPaths = new AtomicLong();
+    private final AtomicLong parsedDocuments = new AtomicLong();
+
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
      *
@@ -62,7 +82,7 @@ public class JSonPathTransformationService implements TransformationService {
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = getDocument(source).read(getPath(jsonPathExpression));
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -78,6 +98,54 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    private JsonPath getPath(String jsonPathExpression) {
+        JsonPath path = pathCache.get(jsonPathExpression);
+        if (path == null) {
+            path = JsonPath.compile(jsonPathExpression);
+            pathCache.put(jsonPathExpression, path);
+            compiledPaths.incrementAndGet();
+        }
+        return path;
+    }
+
+    private DocumentContext getDocument(String source) {
+        long now = System.nanoTime();
+        synchronized (documentCache) {
+            evictStaleDocuments(now);
+            ParsedDocument document = documentCache.get(source);
+            if (document != null) {
+                return document.context();
+            }
+        }
+        DocumentContext context = JsonPath.parse(source);
+        documentCache.put(source, new ParsedDocument(context, now));
+        long parsed = parsedDocuments.incrementAndGet();
+        logger.trace("Parsed {} documents and compiled {} paths so far", parsed, compiledPaths.get());
+        return context;
+    }
+
+    /**
+     * Removes the documents parsed before the cache window, so their payloads are not kept in memory until they are
+     * replaced by newer documents.
+     */
+    void evictStaleDocuments(long now) {
+        synchronized (documentCache) {
+            documentCache.values().removeIf(document -> now - document.parsedAt() >= DOCUMENT_CACHE_WINDOW_NANOS);
+        }
+    }
+
+    int getCachedDocuments() {
+        return documentCache.size();
+    }
+
+    long getCompiledPaths() {
+        return compiledPaths.get();
+    }
+
+    long getParsedDocuments() {
+        return parsedDocuments.get();
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
@@ -102,4 +170,23 @@ public class JSonPathTransformationService implements TransformationService {
     private String createStringList(List<?> list) {
         return list.stream().map(n -> "\"" + n + "\"").collect(Collectors.joining(", ", "[", "]"));
     }
+
+    private record ParsedDocument(DocumentContext context, long parsedAt) {
+    }
+
+    private static class LRUMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        public LRUMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(@Nullable Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
 }
@@ -14,6 +14,8 @@ package org.openhab.transform.jsonpath.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,6 +49,29 @@ public class JSonPathTransformationServiceTest {
             "{ \"id\":2, \"name\":\"alice\" }" + //
             "]";
 
+    @Test
+    public void testDocumentIsParsedOnce() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals("2", processor.transform("$[1].id", JSON_ARRAY));
+        assertEquals("alice", processor.transform("$[1].name", JSON_ARRAY));
+        assertEquals("1", processor.transform("$[0].id", new String(JSON_ARRAY)));
+
+        assertEquals(1, processor.getParsedDocuments());
+        assertEquals(4, processor.getCompiledPaths());
+    }
+
+    @Test
+    public void testStaleDocumentsAreEvicted() throws TransformationException {
+        assertEquals("bob", processor.transform("$[0].name", JSON_ARRAY));
+        assertEquals(1, processor.getCachedDocuments());
+
+        processor.evictStaleDocuments(System.nanoTime() + TimeUnit.SECONDS.toNanos(1));
+        assertEquals(0, processor.getCachedDocuments());
+
+        assertEquals("alice", processor.transform("$[1].name", JSON_ARRAY));
+        assertEquals(2, processor.getParsedDocuments());
+    }
+
     @Test
     public void testValidPath1() throws TransformationException {
         String transformedResponse = processor.transform("$[0].name", JSON_ARRAY);
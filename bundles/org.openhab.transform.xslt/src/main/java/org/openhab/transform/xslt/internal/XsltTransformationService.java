@@ -15,34 +15,80 @@ package org.openhab.transform.xslt.internal;
 import java.io.File;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-import javax.xml.transform.Source;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.URIResolver;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.transform.stream.StreamSource;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.service.WatchService;
 import org.openhab.core.transform.TransformationException;
 import org.openhab.core.transform.TransformationService;
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XSLT.
+ * <p>
+ * Compiled stylesheets are cached per file and invalidated when the file, or a file it includes or imports, changes.
+ * Each thread reuses its own {@link Transformer} per stylesheet.
  *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
 @Component(property = { "openhab.transform=XSLT" })
-public class XsltTransformationService implements TransformationService {
+public class XsltTransformationService implements TransformationService, WatchService.WatchEventListener {
 
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
 
+    private final WatchService watchService;
+    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    private final Map<String, CompiledStylesheet> stylesheetCache = new ConcurrentHashMap<>();
+
+    @Activate
+    public XsltTransformationService(
+            final @Reference(target = WatchService.CONFIG_WATCHER_FILTER) WatchService watchService) {
+        this.watchService = watchService;
+        watchService.registerListener(this, Path.of(TransformationService.TRANSFORM_FOLDER_NAME), true);
+    }
+
+    @Deactivate
+    public void deactivate() {
+        watchService.unregisterListener(this);
+        stylesheetCache.clear();
+    }
+
+    @Override
+    public void processWatchEvent(WatchService.Kind kind, Path path) {
+        // the watch service reports paths relative to the config folder
+        Path changed = Path.of(OpenHAB.getConfigFolder()).resolve(path).toAbsolutePath().normalize();
+        stylesheetCache.entrySet().removeIf(entry -> {
+            if (entry.getValue().files.contains(changed)) {
+                logger.debug("Stylesheet '{}' or a file it includes changed, removing it from cache", entry.getKey());
+                return true;
+            }
+            return false;
+        });
+    }
+
     /**
      * Transforms the input <code>source</code> by XSLT.
      *
@@ -60,36 +106,94 @@ public class XsltTransformationService implements TransformationService {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
 
-        Source xsl = null;
+        CompiledStylesheet stylesheet = stylesheetCache.get(filename);
+        if (stylesheet == null) {
+            stylesheet = compile(filename);
+            stylesheetCache.put(filename, stylesheet);
+        }
+
+        logger.debug("about to transform '{}' by the function '{}'", source, filename);
 
+        StringWriter out = new StringWriter(source.length());
+        Transformer transformer = null;
         try {
-            String path = OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
-                    + File.separator + filename;
-            xsl = new StreamSource(new File(path));
+            transformer = stylesheet.getTransformer();
+            transformer.transform(new StreamSource(new StringReader(source)), new StreamResult(out));
         } catch (Exception e) {
-            String message = "opening file '" + filename + "' throws exception";
-
-            logger.error("{}", message, e);
-            throw new TransformationException(message, e);
+            logger.error("transformation throws exception", e);
+            throw new TransformationException("transformation throws exception", e);
+        } finally {
+            if (transformer != null) {
+                // clear parameters and output properties for the next invocation on this thread
+                transformer.reset();
+            }
         }
 
-        logger.debug("about to transform '{}' by the function '{}'", source, xsl);
-
-        StringReader xml = new StringReader(source);
-        StringWriter out = new StringWriter();
+        String result = out.toString();
+        logger.debug("transformation resulted in '{}'", result);
 
-        Transformer transformer;
+        return result;
+    }
 
+    private CompiledStylesheet compile(String filename) throws TransformationException {
+        File file = new File(OpenHAB.getConfigFolder() + File.separator + TransformationService.TRANSFORM_FOLDER_NAME
+                + File.separator + filename);
+        Set<Path> files = new HashSet<>();
+        files.add(file.toPath().toAbsolutePath().normalize());
+        // records the files included or imported by the stylesheet, and leaves resolving them to the processor
+        URIResolver resolver = (href, base) -> {
+            try {
+                URI uri = (base == null || base.isEmpty() ? file.toURI() : new URI(base)).resolve(href);
+                if ("file".equals(uri.getScheme())) {
+                    files.add(Path.of(uri).toAbsolutePath().normalize());
+                }
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                logger.debug("Cannot track changes of '{}' included by '{}': {}", href, filename, e.getMessage());
+            }
+            return null;
+        };
         try {
-            transformer = TransformerFactory.newInstance().newTransformer(xsl);
-            transformer.transform(new StreamSource(xml), new StreamResult(out));
+            Templates templates;
+            // TransformerFactory is not thread-safe, the compiled Templates are
+            synchronized (transformerFactory) {
+                transformerFactory.setURIResolver(resolver);
+                try {
+                    templates = transformerFactory.newTemplates(new StreamSource(file));
+                } finally {
+                    transformerFactory.setURIResolver(null);
+                }
+            }
+            logger.debug("compiled stylesheet '{}' from {}", filename, files);
+            return new CompiledStylesheet(templates, files);
         } catch (Exception e) {
-            logger.error("transformation throws exception", e);
-            throw new TransformationException("transformation throws exception", e);
+            String message = "opening file '" + filename + "' throws exception";
+
+            logger.error("{}", message, e);
+            throw new TransformationException(message, e);
         }
+    }
 
-        logger.debug("transformation resulted in '{}'", out.toString());
+    /**
+     * A compiled stylesheet with one {@link Transformer} per thread.
+     */
+    private static class CompiledStylesheet {
+        private final Templates templates;
+        // the stylesheet and all files it includes or imports
+        private final Set<Path> files;
+        private final ThreadLocal<@Nullable Transformer> transformers = new ThreadLocal<>();
 
-        return out.toString();
+        CompiledStylesheet(Templates templates, Set<Path> files) {
+            this.templates = templates;
+            this.files = Set.copyOf(files);
+        }
+
+        Transformer getTransformer() throws TransformerConfigurationException {
+            Transformer transformer = transformers.get();
+            if (transformer == null) {
+                transformer = templates.newTransformer();
+                transformers.set(transformer);
+            }
+            return transformer;
+        }
     }
 }
@@ -13,6 +13,7 @@
 package org.openhab.transform.xslt.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -23,6 +24,7 @@ import java.nio.file.StandardCopyOption;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.service.WatchService;
 import org.openhab.core.transform.TransformationException;
 
 /**
@@ -40,7 +42,7 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
             Files.createDirectories(transformHttpPath);
         }
 
-        processor = new XsltTransformationService();
+        processor = new XsltTransformationService(mock(WatchService.class));
     }
 
     @Test
@@ -54,4 +56,59 @@ public class XsltTransformationServiceTest extends AbstractTransformationService
         // Asserts
         assertEquals("8", transformedResponse);
     }
+
+    @Test
+    public void testCompiledStylesheetIsInvalidatedOnChange() throws TransformationException, IOException {
+        Path stylesheet = transformHttpPath.resolve("google_weather.xsl");
+        Files.copy(getClass().getResourceAsStream("google_weather.xsl"), stylesheet,
+                StandardCopyOption.REPLACE_EXISTING);
+        assertEquals("8", processor.transform("http/google_weather.xsl", source));
+
+        Files.writeString(stylesheet, Files.readString(stylesheet).replace("temp_c", "temp_f"));
+        // cached stylesheet is used until the watch service reports the change
+        assertEquals("8", processor.transform("http/google_weather.xsl", source));
+
+        processor.processWatchEvent(WatchService.Kind.MODIFY, Path.of("transform", "http", "google_weather.xsl"));
+        assertEquals("46", processor.transform("http/google_weather.xsl", source));
+    }
+
+    @Test
+    public void testCompiledStylesheetIsInvalidatedOnChangeOfInclude() throws TransformationException, IOException {
+        Files.writeString(transformHttpPath.resolve("include.xsl"), stylesheet("""
+                <xsl:include href="included.xsl"/>
+                """));
+        Path included = transformHttpPath.resolve("included.xsl");
+        Files.writeString(included, stylesheet("""
+                <xsl:template match="/">before</xsl:template>
+                """));
+        assertEquals("before", processor.transform("http/include.xsl", "<a/>"));
+
+        Files.writeString(included, stylesheet("""
+                <xsl:template match="/">after</xsl:template>
+                """));
+        processor.processWatchEvent(WatchService.Kind.MODIFY, Path.of("transform", "http", "included.xsl"));
+        assertEquals("after", processor.transform("http/include.xsl", "<a/>"));
+    }
+
+    @Test
+    public void testCompiledStylesheetIsOnlyInvalidatedByItsOwnFiles() throws TransformationException, IOException {
+        Path data = transformHttpPath.resolve("data.xsl");
+        Files.writeString(data, stylesheet("""
+                <xsl:template match="/">before</xsl:template>
+                """));
+        assertEquals("before", processor.transform("http/data.xsl", "<a/>"));
+
+        Files.writeString(data, stylesheet("""
+                <xsl:template match="/">after</xsl:template>
+                """));
+        processor.processWatchEvent(WatchService.Kind.MODIFY, Path.of("transform", "http", "a.xsl"));
+        assertEquals("before", processor.transform("http/data.xsl", "<a/>"));
+    }
+
+    private static String stylesheet(String content) {
+        return """
+                <xsl:stylesheet version="1.0" xmlns:xsl="http://www.w3.org/1999/XSL/Transform">
+                <xsl:output method="text"/>
+                """ + content + "</xsl:stylesheet>\n";
+    }
 }